@@ -0,0 +1,69 @@
+package com.example.task.benchmark;
+
+import com.example.task.application.security.JwtAuthorizationFilter;
+import com.example.task.application.security.UserDetailsImpl;
+import com.example.task.application.security.UserDetailsServiceImpl;
+import com.example.task.application.security.VerifiedTokenCache;
+import com.example.task.application.utils.JwtUtil;
+import com.example.task.application.utils.PhaseTimer;
+import com.example.task.domain.model.User;
+import com.example.task.domain.repository.UserCacheRepository;
+import java.util.Collection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 인증이 필요한 요청 한 건이 JwtAuthorizationFilter 를 통과하는 비용
+ * <p>
+ * OncePerRequestFilter 가 요청에 처리 여부 attribute 를 남기므로 mock 요청/응답은 매번 새로 만들며, 그 비용도 포함된다.
+ * tokenCache=false 는 서명 검증 + 유저 조회 전체 경로, true 는 검증된 토큰 캐시 hit 경로이다.
+ */
+@State(Scope.Benchmark)
+public class AuthorizationFilterBenchmark {
+
+    @Param({"false", "true"})
+    public boolean tokenCache;
+
+    private JwtAuthorizationFilter filter;
+    private UserDetailsImpl userDetails;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        User user = BenchmarkFixtures.user();
+        UserCacheRepository userCacheRepository = BenchmarkFixtures.userCacheRepository(user);
+        JwtUtil jwtUtil = BenchmarkFixtures.jwtUtil(userCacheRepository);
+
+        filter = new JwtAuthorizationFilter(jwtUtil, new UserDetailsServiceImpl(userCacheRepository),
+            new VerifiedTokenCache(tokenCache, 10000, 300000L, 10000, 60000L), BenchmarkFixtures.tokenDenylist(),
+            null, PhaseTimer.disabled(), false);
+        userDetails = new UserDetailsImpl(user);
+        authorization = JwtUtil.BEARER_PREFIX + jwtUtil.createAccessToken(user);
+    }
+
+    @Benchmark
+    public Authentication doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+        request.addHeader(JwtUtil.AUTHORIZATION_HEADER, authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return userDetails.getAuthorities();
+    }
+}
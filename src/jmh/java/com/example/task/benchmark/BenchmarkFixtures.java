@@ -0,0 +1,90 @@
+package com.example.task.benchmark;
+
+import com.example.task.application.security.TokenDenylist;
+import com.example.task.application.utils.JwtUtil;
+import com.example.task.application.utils.PhaseTimer;
+import com.example.task.application.utils.SigningKeyRing;
+import com.example.task.domain.model.User;
+import com.example.task.domain.repository.UserCacheRepository;
+import java.util.Date;
+import java.util.Optional;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 벤치마크 공용 객체
+ * <p>
+ * 저장소는 항상 같은 유저를 돌려주는 stub 이라 DB/Redis 왕복 없이 CPU 와 할당 비용만 측정된다.
+ */
+final class BenchmarkFixtures {
+
+    static final String SECRET = "dd8c1a53325ae3211ae6dd4f2ad2d5d80d0ced29305ba45d3df0c8a249e8ea50e984dac55d0513a400e4f7d7b17599ba49439039c22527d187d280d26722a5d1";
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user() {
+        User user = User.createUser("benchmarkUser", "encodedPassword", "benchmarkNick");
+        ReflectionTestUtils.setField(user, "userId", 1L);
+        return user;
+    }
+
+    static UserCacheRepository userCacheRepository(User user) {
+        return new StubUserCacheRepository(user);
+    }
+
+    static JwtUtil jwtUtil(UserCacheRepository userCacheRepository) {
+        return jwtUtil(SECRET, SigningKeyRing.empty(), userCacheRepository);
+    }
+
+    static JwtUtil jwtUtil(String secret, SigningKeyRing signingKeyRing, UserCacheRepository userCacheRepository) {
+        JwtUtil jwtUtil = new JwtUtil(secret, "benchmark", null, userCacheRepository, PhaseTimer.disabled(),
+            signingKeyRing);
+        ReflectionTestUtils.setField(jwtUtil, "accessExpiration", 3600000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", 36000000L);
+        return jwtUtil;
+    }
+
+    /**
+     * Redis 없이 로컬 집합만 쓰는 폐기 목록, 다른 토큰 1000개가 폐기된 상태
+     */
+    static TokenDenylist tokenDenylist() {
+        TokenDenylist tokenDenylist = new TokenDenylist(null, false, 3600000L, 100000L, 0.001, 1000L, 60000L);
+        Date expiration = new Date(System.currentTimeMillis() + 3600000L);
+        for (int i = 0; i < 1000; i++) {
+            tokenDenylist.revoke("revoked-" + i, expiration);
+        }
+        return tokenDenylist;
+    }
+
+    private static class StubUserCacheRepository extends UserCacheRepository {
+
+        private final User user;
+        private final Optional<User> found;
+
+        StubUserCacheRepository(User user) {
+            super(null, null, null, null, false, 1, 0L, 0L, 0L, false, 0L);
+            this.user = user;
+            this.found = Optional.of(user);
+        }
+
+        @Override
+        public Optional<User> findByUsername(String username) {
+            return user.getUsername().equals(username) ? found : Optional.empty();
+        }
+
+        @Override
+        public Optional<User> findWithPasswordByUsername(String username) {
+            return findByUsername(username);
+        }
+
+        @Override
+        public Optional<User> findById(Long userId) {
+            return user.getUserId().equals(userId) ? found : Optional.empty();
+        }
+
+        @Override
+        public boolean existsById(Long userId) {
+            return user.getUserId().equals(userId);
+        }
+    }
+}
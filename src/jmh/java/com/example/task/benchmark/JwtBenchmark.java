@@ -0,0 +1,55 @@
+package com.example.task.benchmark;
+
+import com.example.task.application.utils.JwtUtil;
+import com.example.task.application.utils.TokenClaims;
+import com.example.task.domain.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * access token 발급/검증 처리량
+ * <ul>
+ *     <li>createAccessToken : claim 구성 + HS512 서명</li>
+ *     <li>parseToken : jjwt 범용 파서</li>
+ *     <li>parseClaims : 전용 HMAC 검증기 (인증 필터가 사용하는 경로)</li>
+ *     <li>verifyJwt : parseClaims + 유저 존재 확인 (stub 저장소)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkFixtures.user();
+        jwtUtil = BenchmarkFixtures.jwtUtil(BenchmarkFixtures.userCacheRepository(user));
+        token = jwtUtil.createAccessToken(user);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtUtil.createAccessToken(user);
+    }
+
+    @Benchmark
+    public Jws<Claims> parseToken() {
+        return jwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public TokenClaims parseClaims() {
+        return jwtUtil.parseClaims(token);
+    }
+
+    @Benchmark
+    public TokenClaims verifyJwt() {
+        return jwtUtil.verifyJwt(token);
+    }
+}
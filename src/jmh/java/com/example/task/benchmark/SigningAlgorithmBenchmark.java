@@ -0,0 +1,58 @@
+package com.example.task.benchmark;
+
+import com.example.task.application.utils.JwtUtil;
+import com.example.task.application.utils.SigningKeyRing;
+import com.example.task.application.utils.SigningKeyRing.Algorithm;
+import com.example.task.application.utils.SigningKeyRing.SigningKey;
+import com.example.task.application.utils.TokenClaims;
+import com.example.task.domain.model.User;
+import java.security.KeyPair;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * access token 서명 알고리즘별 발급/검증 처리량
+ * <p>
+ * HS256, HS512 는 HMAC secret 길이로 정해지며 전용 검증기 경로를 탄다.
+ * ES256, EdDSA 는 key ring 으로 서명하고 jjwt 가 kid 로 찾은 공개키로 검증한다.
+ */
+@State(Scope.Benchmark)
+public class SigningAlgorithmBenchmark {
+
+    @Param({"HS256", "HS512", "ES256", "EdDSA"})
+    public String algorithm;
+
+    private JwtUtil jwtUtil;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkFixtures.user();
+        // 43자 base64url = 256bit secret 이면 HS256, 512bit 이면 HS512
+        String secret = algorithm.equals("HS256") ? BenchmarkFixtures.SECRET.substring(0, 43) : BenchmarkFixtures.SECRET;
+        SigningKeyRing signingKeyRing = SigningKeyRing.empty();
+        if (!algorithm.startsWith("HS")) {
+            Algorithm keyAlgorithm = Algorithm.from(algorithm);
+            KeyPair keyPair = keyAlgorithm.generateKeyPair();
+            signingKeyRing = new SigningKeyRing(List.of(
+                new SigningKey("benchmark", keyAlgorithm, keyPair.getPrivate(), keyPair.getPublic(), null, null)));
+        }
+        jwtUtil = BenchmarkFixtures.jwtUtil(secret, signingKeyRing, BenchmarkFixtures.userCacheRepository(user));
+        token = jwtUtil.createAccessToken(user);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.createAccessToken(user);
+    }
+
+    @Benchmark
+    public TokenClaims verify() {
+        return jwtUtil.parseClaims(token);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.task.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 한 worker 의 endpoint 별 응답 시간 기록 (마이크로초)
+ * <p>
+ * worker 마다 따로 기록하므로 동기화하지 않고, 측정이 끝난 뒤 {@link #merge} 로 합쳐 정렬한 뒤 백분위를 계산한다.
+ */
+class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errorCount;
+    private boolean sorted;
+
+    void record(long latencyMicros, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyMicros;
+        sorted = false;
+        if (!success) {
+            errorCount++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, count + other.count);
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errorCount += other.errorCount;
+        sorted = false;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * 정렬 후 nearest-rank 백분위 (밀리초)
+     *
+     * @param percentile 0 ~ 100
+     */
+    double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0.0;
+        }
+        if (!sorted) {
+            Arrays.sort(latencies, 0, count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return latencies[Math.max(rank, 1) - 1] / 1000.0;
+    }
+}
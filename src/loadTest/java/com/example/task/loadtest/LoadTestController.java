@@ -0,0 +1,22 @@
+package com.example.task.loadtest;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 부하 테스트 전용 인증 endpoint
+ * <p>
+ * 인가 필터를 통과한 뒤 하는 일이 거의 없어 인증 경로 자체의 비용이 드러난다.
+ * loadTest source set 에만 있으므로 실제 애플리케이션에는 포함되지 않는다.
+ */
+@RestController
+public class LoadTestController {
+
+    @GetMapping("/load-test/me")
+    public ResponseEntity<String> me(@AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(userDetails.getUsername());
+    }
+}
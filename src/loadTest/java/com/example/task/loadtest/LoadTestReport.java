@@ -0,0 +1,115 @@
+package com.example.task.loadtest;
+
+import com.example.task.loadtest.LoadTestRunner.Operation;
+import com.example.task.loadtest.LoadTestRunner.Options;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 출력, 저장, 이전 결과와 비교
+ * <p>
+ * 결과 json 에는 실행 옵션과 실행 환경(JRE, 코어 수)을 함께 남겨 같은 조건의 결과끼리 비교할 수 있게 한다.
+ */
+class LoadTestReport {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final String[] METRICS = {"throughput", "p50", "p95", "p99"};
+
+    private final Map<String, Object> result = new LinkedHashMap<>();
+    private final Map<String, Map<String, Object>> endpoints = new LinkedHashMap<>();
+
+    LoadTestReport(Options options, Map<Operation, LatencyRecorder> recorders, double elapsedSeconds) {
+        result.put("startedAt", OffsetDateTime.now().toString());
+        Map<String, Object> environment = new LinkedHashMap<>();
+        environment.put("javaVersion", Runtime.version().toString());
+        environment.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        environment.put("os", System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+        result.put("environment", environment);
+
+        Map<String, Object> optionValues = new LinkedHashMap<>();
+        optionValues.put("concurrency", options.concurrency());
+        optionValues.put("duration", options.duration());
+        optionValues.put("warmup", options.warmup());
+        optionValues.put("users", options.users());
+        optionValues.put("seed", options.seed());
+        optionValues.put("mix", options.mix().toString());
+        optionValues.put("bcryptStrength", options.bcryptStrength());
+        optionValues.put("applicationArgs", String.join(" ", options.applicationArgs()));
+        result.put("options", optionValues);
+
+        LatencyRecorder total = new LatencyRecorder();
+        recorders.forEach((operation, recorder) -> {
+            endpoints.put(operation.key(), summarize(recorder, elapsedSeconds));
+            total.merge(recorder);
+        });
+        endpoints.put("total", summarize(total, elapsedSeconds));
+        result.put("elapsedSeconds", round(elapsedSeconds));
+        result.put("endpoints", endpoints);
+    }
+
+    void print() {
+        System.out.printf("%n%-14s %9s %7s %11s %9s %9s %9s %9s%n",
+            "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        endpoints.forEach((name, summary) -> System.out.printf("%-14s %9d %7d %11.1f %9.2f %9.2f %9.2f %9.2f%n",
+            name, summary.get("count"), summary.get("errors"), summary.get("throughput"),
+            summary.get("p50"), summary.get("p95"), summary.get("p99"), summary.get("max")));
+    }
+
+    void write(Path output) throws IOException {
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        OBJECT_MAPPER.writeValue(output.toFile(), result);
+        System.out.printf("%n결과 저장 : %s%n", output.toAbsolutePath());
+    }
+
+    /**
+     * 이전 결과 json 과 endpoint 별 처리량, 지연 시간 변화율 출력
+     */
+    void compare(Path baselinePath) throws IOException {
+        JsonNode baseline = OBJECT_MAPPER.readTree(baselinePath.toFile());
+        if (!baseline.path("options").equals(OBJECT_MAPPER.valueToTree(result.get("options")))) {
+            System.out.println("주의 : 기준 결과와 실행 옵션이 달라 직접 비교가 어려울 수 있습니다.");
+        }
+
+        System.out.printf("%n기준 결과 대비 변화율 (%s)%n", baselinePath);
+        System.out.printf("%-14s %11s %9s %9s %9s%n", "endpoint", "req/s", "p50", "p95", "p99");
+        endpoints.forEach((name, summary) -> {
+            JsonNode previous = baseline.path("endpoints").path(name);
+            if (previous.isMissingNode()) {
+                return;
+            }
+            StringBuilder line = new StringBuilder(String.format("%-14s", name));
+            for (String metric : METRICS) {
+                double before = previous.path(metric).asDouble();
+                double after = ((Number) summary.get(metric)).doubleValue();
+                String change = before == 0.0 ? "-" : String.format("%+.1f%%", (after - before) / before * 100);
+                line.append(String.format(metric.equals("throughput") ? " %11s" : " %9s", change));
+            }
+            System.out.println(line);
+        });
+    }
+
+    private static Map<String, Object> summarize(LatencyRecorder recorder, double elapsedSeconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", recorder.getCount());
+        summary.put("errors", recorder.getErrorCount());
+        summary.put("throughput", round(recorder.getCount() / elapsedSeconds));
+        summary.put("p50", round(recorder.percentileMillis(50)));
+        summary.put("p95", round(recorder.percentileMillis(95)));
+        summary.put("p99", round(recorder.percentileMillis(99)));
+        summary.put("max", round(recorder.percentileMillis(100)));
+        return summary;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
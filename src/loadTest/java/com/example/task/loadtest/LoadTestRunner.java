@@ -0,0 +1,406 @@
+package com.example.task.loadtest;
+
+import com.example.task.TaskApplication;
+import com.example.task.support.EmbeddedRedis;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 전체 애플리케이션 부하 테스트
+ * <p>
+ * H2(MySQL 모드) 메모리 DB 와 embedded Redis 로 애플리케이션을 띄운 뒤,
+ * concurrency 개의 worker 가 응답을 받자마자 다음 요청을 보내는 closed-loop 방식으로 요청을 섞어 보낸다.
+ * 외부 서비스 없이 한 대의 Linux 에서 실행된다.
+ * <ul>
+ *     <li>signup : 새 유저 회원가입</li>
+ *     <li>sign : 준비된 유저 로그인 (BCrypt 비교)</li>
+ *     <li>reissue : worker 가 가진 refresh token 으로 재발급 (token family 교체)</li>
+ *     <li>authenticated : access token 으로 인증이 필요한 endpoint 호출</li>
+ * </ul>
+ * 준비된 유저는 worker 별로 나누어 가지므로 같은 refresh token 을 두 worker 가 동시에 쓰지 않는다
+ * (동시에 쓰면 재사용으로 감지되어 family 가 폐기된다).
+ * <p>
+ * 실행마다 결과를 비교할 수 있도록 요청 순서는 seed 로 고정되고, BCrypt cost 는 측정값 대신 bcryptStrength 로 고정하며,
+ * warmup 구간은 결과에서 제외한다. closed-loop 특성상 서버가 느려지면 보내는 요청 수도 줄어드므로
+ * 지연 시간은 처리량과 함께 보아야 한다.
+ * <p>
+ * 실행 : gradle loadTest [-Pconcurrency=32 -Pduration=30 -Pwarmup=10 -Pusers=64 -Pseed=42
+ * -Pmix=signup=5,sign=15,reissue=10,authenticated=70 -PbcryptStrength=10 -Pbaseline=이전 결과 json]
+ */
+public class LoadTestRunner {
+
+    private static final String SECRET = "dd8c1a53325ae3211ae6dd4f2ad2d5d80d0ced29305ba45d3df0c8a249e8ea50e984dac55d0513a400e4f7d7b17599ba49439039c22527d187d280d26722a5d1";
+    private static final String PASSWORD = "loadTestPassword1!";
+
+    enum Operation {
+        SIGNUP, SIGN, REISSUE, AUTHENTICATED;
+
+        String key() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final Options options;
+    private final HttpClient httpClient;
+    private final String baseUrl;
+
+    private LoadTestRunner(Options options, int port) {
+        this.options = options;
+        this.baseUrl = "http://localhost:" + port;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+
+        EmbeddedRedis redis = EmbeddedRedis.start();
+
+        ConfigurableApplicationContext context = null;
+        try {
+            context = new SpringApplicationBuilder(TaskApplication.class)
+                .properties(applicationProperties(options, redis.port()))
+                .run(options.applicationArgs());
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            LoadTestRunner runner = new LoadTestRunner(options, port);
+            LoadTestReport report = runner.run();
+            report.print();
+            report.write(options.output());
+            if (options.baseline() != null) {
+                report.compare(options.baseline());
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            redis.close();
+        }
+    }
+
+    private static Map<String, Object> applicationProperties(Options options, int redisPort) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url",
+            "jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.open-in-view", false);
+        properties.put("spring.data.redis.host", "localhost");
+        properties.put("spring.data.redis.port", redisPort);
+        properties.put("jwt.secret", SECRET);
+        properties.put("jwt.issuer", "load-test");
+        properties.put("jwt.access-expiration", 3600000L);
+        properties.put("jwt.refresh-expiration", 1209600000L);
+        properties.put("password-hashing.strength", options.bcryptStrength());
+        // 같은 IP, 같은 계정으로 반복 요청하므로 요청 수 제한은 끈다
+        properties.put("rate-limit.enabled", false);
+        properties.put("logging.level.root", "WARN");
+        return properties;
+    }
+
+    private LoadTestReport run() throws Exception {
+        List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < options.concurrency(); i++) {
+            workers.add(new Worker(i, new Random(options.seed() + i)));
+        }
+        int users = Math.max(options.users(), options.concurrency());
+        for (int i = 0; i < users; i++) {
+            workers.get(i % workers.size()).sessions.add(new Session("lt-user-" + i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers.size());
+        try {
+            System.out.printf("유저 %d 명 준비 중...%n", users);
+            runAll(executor, workers, Worker::prepare);
+
+            System.out.printf("warmup %d 초...%n", options.warmup());
+            long warmupEnd = System.nanoTime() + Duration.ofSeconds(options.warmup()).toNanos();
+            runAll(executor, workers, worker -> worker.drive(warmupEnd));
+
+            System.out.printf("측정 %d 초 (concurrency %d)...%n", options.duration(), options.concurrency());
+            workers.forEach(Worker::reset);
+            long startedAt = System.nanoTime();
+            long measureEnd = startedAt + Duration.ofSeconds(options.duration()).toNanos();
+            runAll(executor, workers, worker -> worker.drive(measureEnd));
+            double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+            Map<Operation, LatencyRecorder> merged = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                LatencyRecorder recorder = new LatencyRecorder();
+                workers.forEach(worker -> recorder.merge(worker.recorders.get(operation)));
+                merged.put(operation, recorder);
+            }
+            return new LoadTestReport(options, merged, elapsedSeconds);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void runAll(ExecutorService executor, List<Worker> workers, WorkerTask task) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (Worker worker : workers) {
+            futures.add(executor.submit(() -> {
+                task.run(worker);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    @FunctionalInterface
+    private interface WorkerTask {
+        void run(Worker worker) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface RequestCall {
+        HttpResponse<String> send() throws Exception;
+    }
+
+    private static class Session {
+
+        private final String username;
+        private String accessToken;
+        private String refreshToken;
+
+        private Session(String username) {
+            this.username = username;
+        }
+    }
+
+    private class Worker {
+
+        private final int id;
+        private final Random random;
+        private final List<Session> sessions = new ArrayList<>();
+        private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        private int signupCount;
+
+        private Worker(int id, Random random) {
+            this.id = id;
+            this.random = random;
+            reset();
+        }
+
+        private void reset() {
+            for (Operation operation : Operation.values()) {
+                recorders.put(operation, new LatencyRecorder());
+            }
+        }
+
+        private void prepare() throws Exception {
+            for (Session session : sessions) {
+                expect(() -> signup(session.username, session.username), 201);
+                expect(() -> sign(session), 200);
+            }
+        }
+
+        // 준비 단계에서는 해시 작업 과부하(503) 응답을 Retry-After 만큼 기다린 뒤 다시 시도한다
+        private void expect(RequestCall call, int expectedStatus) throws Exception {
+            while (true) {
+                HttpResponse<String> response = call.send();
+                if (response.statusCode() == expectedStatus) {
+                    return;
+                }
+                if (response.statusCode() != 503) {
+                    throw new IllegalStateException("유저 준비 실패 : " + response.statusCode() + " " + response.body());
+                }
+                long retryAfter = response.headers().firstValueAsLong("Retry-After").orElse(1L);
+                Thread.sleep(Duration.ofSeconds(retryAfter).toMillis());
+            }
+        }
+
+        private void drive(long deadline) throws Exception {
+            while (System.nanoTime() < deadline) {
+                Operation operation = options.mix().next(random);
+                Session session = sessions.get(random.nextInt(sessions.size()));
+
+                long startedAt = System.nanoTime();
+                HttpResponse<String> response = switch (operation) {
+                    case SIGNUP -> {
+                        String name = "lt-signup-" + id + "-" + signupCount++;
+                        yield signup(name, name);
+                    }
+                    case SIGN -> sign(session);
+                    case REISSUE -> reissue(session);
+                    case AUTHENTICATED -> authenticated(session);
+                };
+                long latencyMicros = (System.nanoTime() - startedAt) / 1000;
+
+                int expected = operation == Operation.SIGNUP ? 201 : 200;
+                recorders.get(operation).record(latencyMicros, response.statusCode() == expected);
+            }
+        }
+
+        private HttpResponse<String> signup(String username, String nickname) throws Exception {
+            String body = "{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD
+                + "\",\"nickname\":\"" + nickname + "\"}";
+            return send(post("/signup", body));
+        }
+
+        private HttpResponse<String> sign(Session session) throws Exception {
+            String body = "{\"username\":\"" + session.username + "\",\"password\":\"" + PASSWORD + "\"}";
+            HttpResponse<String> response = send(post("/sign", body));
+            updateTokens(session, response);
+            return response;
+        }
+
+        private HttpResponse<String> reissue(Session session) throws Exception {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/access-token/reissue"))
+                .header("Cookie", "refreshToken=" + session.refreshToken)
+                .POST(BodyPublishers.noBody())
+                .build();
+            HttpResponse<String> response = send(request);
+            updateTokens(session, response);
+            return response;
+        }
+
+        private HttpResponse<String> authenticated(Session session) throws Exception {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/load-test/me"))
+                .header("Authorization", "Bearer " + session.accessToken)
+                .GET()
+                .build();
+            return send(request);
+        }
+
+        private HttpRequest post(String path, String body) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofString(body))
+                .build();
+        }
+
+        private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+            return httpClient.send(request, BodyHandlers.ofString());
+        }
+
+        private void updateTokens(Session session, HttpResponse<String> response) {
+            if (response.statusCode() != 200) {
+                return;
+            }
+            response.headers().firstValue("Authorization")
+                .ifPresent(value -> session.accessToken = value.substring("Bearer ".length()));
+            for (String cookie : response.headers().allValues("Set-Cookie")) {
+                if (cookie.startsWith("refreshToken=")) {
+                    int end = cookie.indexOf(';');
+                    session.refreshToken = cookie.substring("refreshToken=".length(), end < 0 ? cookie.length() : end);
+                }
+            }
+        }
+    }
+
+    /**
+     * 요청 종류별 비율, 예) signup=5,sign=15,reissue=10,authenticated=70
+     */
+    static class Mix {
+
+        private final Operation[] operations;
+        private final int[] cumulativeWeights;
+
+        private Mix(Map<Operation, Integer> weights) {
+            this.operations = weights.keySet().toArray(new Operation[0]);
+            this.cumulativeWeights = new int[operations.length];
+            int total = 0;
+            for (int i = 0; i < operations.length; i++) {
+                total += weights.get(operations[i]);
+                cumulativeWeights[i] = total;
+            }
+            if (total <= 0) {
+                throw new IllegalArgumentException("요청 비율의 합은 0 보다 커야 합니다.");
+            }
+        }
+
+        static Mix parse(String value) {
+            Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+            for (String entry : value.split(",")) {
+                String[] pair = entry.trim().split("=");
+                weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+            }
+            return new Mix(weights);
+        }
+
+        Operation next(Random random) {
+            int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (pick < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            int previous = 0;
+            for (int i = 0; i < operations.length; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                builder.append(operations[i].key()).append('=').append(cumulativeWeights[i] - previous);
+                previous = cumulativeWeights[i];
+            }
+            return builder.toString();
+        }
+    }
+
+    /**
+     * --이름=값 형식의 실행 옵션, 나머지 인자는 애플리케이션 설정으로 전달한다
+     */
+    record Options(int concurrency, int duration, int warmup, int users, long seed, Mix mix,
+                   int bcryptStrength, Path output, Path baseline, String[] applicationArgs) {
+
+        private static final List<String> OPTION_NAMES = List.of(
+            "concurrency", "duration", "warmup", "users", "seed", "mix", "bcryptStrength", "output", "baseline");
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new LinkedHashMap<>();
+            List<String> applicationArgs = new ArrayList<>();
+            for (String arg : args) {
+                int separator = arg.indexOf('=');
+                String name = arg.startsWith("--") && separator > 0 ? arg.substring(2, separator) : null;
+                if (name != null && OPTION_NAMES.contains(name)) {
+                    values.put(name, arg.substring(separator + 1));
+                } else {
+                    applicationArgs.add(arg);
+                }
+            }
+            return new Options(
+                Integer.parseInt(values.getOrDefault("concurrency", "32")),
+                Integer.parseInt(values.getOrDefault("duration", "30")),
+                Integer.parseInt(values.getOrDefault("warmup", "10")),
+                Integer.parseInt(values.getOrDefault("users", "64")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Mix.parse(values.getOrDefault("mix", "signup=5,sign=15,reissue=10,authenticated=70")),
+                Integer.parseInt(values.getOrDefault("bcryptStrength", "10")),
+                Path.of(values.getOrDefault("output", "build/results/load-test/result.json")),
+                values.containsKey("baseline") ? Path.of(values.get("baseline")) : null,
+                applicationArgs.toArray(new String[0])
+            );
+        }
+    }
+}
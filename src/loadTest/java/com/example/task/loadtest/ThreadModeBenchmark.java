@@ -0,0 +1,156 @@
+package com.example.task.loadtest;
+
+import com.example.task.application.utils.JwtUtil;
+import com.example.task.application.utils.PhaseTimer;
+import com.example.task.application.utils.SigningKeyRing;
+import com.example.task.domain.model.User;
+import com.example.task.domain.repository.RedisRepository;
+import com.example.task.support.EmbeddedRedis;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * platform thread 풀과 virtual thread 의 고동시성 요청 지연 시간 비교
+ * <p>
+ * 요청 하나는 인증된 요청이 거치는 경로를 흉내낸다.
+ * access token 검증(JwtUtil.parseClaims), Redis 조회(embedded Redis + Lettuce sync),
+ * DB 조회를 대신하는 5ms blocking 대기 순서로 처리한다.
+ * concurrency 개의 요청을 계속 실행 중으로 유지하면서 제출부터 완료까지의 지연 시간을 측정한다.
+ * <ul>
+ *     <li>platform-200 : Tomcat 기본 최대 스레드 수와 같은 고정 풀</li>
+ *     <li>virtual : 요청마다 virtual thread (JRE 21 이상)</li>
+ *     <li>virtual-pinned : DB 대기를 synchronized 안에서 수행, 8.x 드라이버처럼 carrier 를 고정시키는 경우</li>
+ * </ul>
+ * 실행 : gradle threadModeBenchmark -PjavaVersion=21 [-Prequests=20000 -Pconcurrency=2000]
+ */
+public class ThreadModeBenchmark {
+
+    private static final String SECRET = "dd8c1a53325ae3211ae6dd4f2ad2d5d80d0ced29305ba45d3df0c8a249e8ea50e984dac55d0513a400e4f7d7b17599ba49439039c22527d187d280d26722a5d1";
+    private static final long DB_LATENCY_MILLIS = 5;
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final int DB_CONNECTIONS = 10;
+
+    private final JwtUtil jwtUtil;
+    private final RedisRepository redisRepository;
+    private final String token;
+    private final Object[] connectionLocks = new Object[DB_CONNECTIONS];
+
+    private ThreadModeBenchmark(JwtUtil jwtUtil, RedisRepository redisRepository, String token) {
+        this.jwtUtil = jwtUtil;
+        this.redisRepository = redisRepository;
+        this.token = token;
+        Arrays.setAll(connectionLocks, i -> new Object());
+    }
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+
+        try (EmbeddedRedis redis = EmbeddedRedis.start()) {
+            RedisRepository redisRepository = redis.redisRepository();
+            redisRepository.save("user:epoch:1", "0", 3600L);
+
+            JwtUtil jwtUtil = new JwtUtil(SECRET, "benchmark", null, null, PhaseTimer.disabled(),
+                SigningKeyRing.empty());
+            ReflectionTestUtils.setField(jwtUtil, "accessExpiration", 3600000L);
+            User user = User.createUser("benchmarkUser", "encodedPassword", "benchmarkNick");
+            ReflectionTestUtils.setField(user, "userId", 1L);
+
+            ThreadModeBenchmark benchmark = new ThreadModeBenchmark(jwtUtil, redisRepository,
+                jwtUtil.createAccessToken(user));
+            benchmark.run(requests, concurrency);
+        }
+    }
+
+    private void run(int requests, int concurrency) throws Exception {
+        System.out.printf("JRE %d, cores %d, requests %d, concurrency %d%n", Runtime.version().feature(),
+            Runtime.getRuntime().availableProcessors(), requests, concurrency);
+        System.out.printf("%-16s %10s %9s %9s %9s %9s %9s%n",
+            "mode", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+
+        // JIT 예열
+        measure("warmup", Executors.newFixedThreadPool(PLATFORM_POOL_SIZE), Math.min(requests, 5000),
+            Math.min(concurrency, PLATFORM_POOL_SIZE), false, false);
+
+        measure("platform-200", Executors.newFixedThreadPool(PLATFORM_POOL_SIZE), requests, concurrency, false, true);
+        ExecutorService virtual = newVirtualThreadExecutor();
+        if (virtual == null) {
+            System.out.println("virtual thread 는 JRE 21 이상에서만 측정합니다. (-PjavaVersion=21)");
+            return;
+        }
+        measure("virtual", virtual, requests, concurrency, false, true);
+        measure("virtual-pinned", newVirtualThreadExecutor(), requests, concurrency, true, true);
+    }
+
+    private void measure(String mode, ExecutorService executor, int requests, int concurrency, boolean pinned,
+        boolean print) throws InterruptedException {
+        long[] latencies = new long[requests];
+        Semaphore inFlight = new Semaphore(concurrency);
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            int index = i;
+            long submittedAt = System.nanoTime();
+            executor.execute(() -> {
+                try {
+                    handleRequest(index, pinned);
+                } finally {
+                    latencies[index] = System.nanoTime() - submittedAt;
+                    inFlight.release();
+                }
+            });
+        }
+        inFlight.acquire(concurrency);
+        long elapsed = System.nanoTime() - startedAt;
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        if (!print) {
+            return;
+        }
+        Arrays.sort(latencies);
+        System.out.printf("%-16s %10.0f %9.2f %9.2f %9.2f %9.2f %9.2f%n", mode,
+            requests / (elapsed / 1e9),
+            percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+            percentile(latencies, 0.999), latencies[latencies.length - 1] / 1e6);
+    }
+
+    private void handleRequest(int index, boolean pinned) {
+        jwtUtil.parseClaims(token);
+        redisRepository.getValue("user:epoch:1");
+        if (pinned) {
+            synchronized (connectionLocks[index % DB_CONNECTIONS]) {
+                sleep(DB_LATENCY_MILLIS);
+            }
+        } else {
+            sleep(DB_LATENCY_MILLIS);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    // 17 로 컴파일해도 실행 JRE 가 21 이상이면 virtual thread 를 사용할 수 있도록 reflection 으로 생성
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.task;
 
+import java.util.Map;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
@@ -8,7 +9,11 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 public class TaskApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(TaskApplication.class, args);
+        SpringApplication application = new SpringApplication(TaskApplication.class);
+        // 설정 파일에서 덮어쓰지 않으면 health 와 prometheus scrape endpoint 만 노출
+        application.setDefaultProperties(Map.of(
+            "management.endpoints.web.exposure.include", "health,prometheus"));
+        application.run(args);
     }
 
 }
@@ -0,0 +1,41 @@
+package com.example.task.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TokenIntrospectionResponseDto {
+
+    // 요청의 tokens 와 같은 순서
+    private List<ResultDto> results;
+
+    public enum Status {
+        ACTIVE,
+        EXPIRED,
+        INVALID,          // 서명 불일치, 형식 오류, refresh token
+        USER_NOT_FOUND,
+        REVOKED           // 만료 전 폐기, 발급 후 권한/비밀번호 변경 (security epoch 불일치)
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ResultDto {
+        private boolean active;
+        private Status status;
+        private String username;
+        private Long userId;
+        private String role;
+        private String issuer;
+        private String tokenId;
+        private Long issuedAt;    // epoch seconds
+        private Long expiresAt;   // epoch seconds
+
+        public static ResultDto inactive(Status status) {
+            return new ResultDto(false, status, null, null, null, null, null, null, null);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.task.application.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResponseDto {
+
+    private long totalCount;
+    private long importedCount;
+    private long failedCount;
+    private List<FailureDto> failures;
+
+    @Getter
+    @AllArgsConstructor
+    public static class FailureDto {
+        private long line;
+        private String username;
+        private String reason;
+    }
+}
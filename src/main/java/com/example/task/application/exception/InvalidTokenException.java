@@ -0,0 +1,44 @@
+package com.example.task.application.exception;
+
+import lombok.Getter;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * access/refresh token 으로 인증할 수 없을 때 발생, 401 로 응답한다
+ * <p>
+ * 위조/만료 토큰은 공격 상황에서 초당 수만 건씩 들어올 수 있으므로 stack trace 를 만들지 않는다.
+ * 원인은 reason 으로 구분하고 호출 위치는 필요하지 않다.
+ */
+@Getter
+public class InvalidTokenException extends AuthenticationException {
+
+    private final Reason reason;
+
+    public InvalidTokenException(Reason reason) {
+        super(reason.getMessage());
+        this.reason = reason;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    @Getter
+    public enum Reason {
+        // 서명 검증 전에 걸러진 형식 오류 (segment 수, 길이, base64url 알파벳)
+        MALFORMED("유효하지 않은 토큰입니다."),
+        // 서명 불일치, 모르는 kid, claim 형식 오류
+        INVALID("유효하지 않은 토큰입니다."),
+        EXPIRED("토큰이 만료되었습니다."),
+        REVOKED("폐기된 토큰입니다."),
+        // 유저가 없거나 토큰 발급 이후 권한/비밀번호가 변경됨
+        USER_VERIFICATION_FAILED("유저 검증에 실패했습니다.");
+
+        private final String message;
+
+        Reason(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.task.application.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청 수 제한을 넘었을 때 발생, 429 와 Retry-After 로 응답한다
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    // 클라이언트가 재시도 전 기다려야 하는 시간 (초단위)
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
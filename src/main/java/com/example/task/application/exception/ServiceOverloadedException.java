@@ -0,0 +1,18 @@
+package com.example.task.application.exception;
+
+import lombok.Getter;
+
+/**
+ * 처리 용량을 넘어 요청을 받지 않을 때 발생, 503 과 Retry-After 로 응답한다
+ */
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+    // 클라이언트가 재시도 전 기다려야 하는 시간 (초단위)
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.task.application.security;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 권한 문자열별 불변 권한 목록 (flyweight)
+ * <p>
+ * 권한 종류는 몇 개뿐이므로 요청마다 ArrayList 와 SimpleGrantedAuthority 를 만들지 않고 같은 목록을 공유한다.
+ * 예상하지 못한 값이 계속 들어와도 메모리가 늘지 않도록 MAX_CACHED 개까지만 보관한다.
+ */
+public final class Authorities {
+
+    private static final int MAX_CACHED = 64;
+    private static final ConcurrentHashMap<String, List<GrantedAuthority>> CACHE = new ConcurrentHashMap<>();
+
+    static {
+        of("ROLE_USER");
+        of("ROLE_ADMIN");
+    }
+
+    private Authorities() {
+    }
+
+    /**
+     * @param authority 권한 문자열 (예: ROLE_USER)
+     * @return 권한 하나를 가진 불변 목록
+     */
+    public static List<GrantedAuthority> of(String authority) {
+        List<GrantedAuthority> authorities = CACHE.get(authority);
+        if (authorities != null) {
+            return authorities;
+        }
+        authorities = List.of(new SimpleGrantedAuthority(authority));
+        if (CACHE.size() < MAX_CACHED) {
+            List<GrantedAuthority> previous = CACHE.putIfAbsent(authority, authorities);
+            return previous != null ? previous : authorities;
+        }
+        return authorities;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.task.application.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 실행 중인 하드웨어에서 BCrypt 해시 시간을 측정해 목표 지연 시간에 맞는 cost(strength)를 고른다
+ * <p>
+ * cost 가 1 오를 때마다 해시 시간이 두 배가 되므로 최소 cost 에서 한 번 측정한 값으로 나머지를 추정한다.
+ * 측정값은 GC, JIT 영향을 줄이기 위해 예열 후 여러 번 잰 값 중 가장 빠른 값을 사용한다.
+ */
+@Slf4j(topic = "BCrypt 보정")
+public final class BCryptStrengthCalibrator {
+
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURE_ROUNDS = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    /**
+     * @param targetMillis 해시 한 번에 허용할 시간 (밀리초)
+     * @param minStrength 보안상 최소 cost, 목표 시간을 넘더라도 이보다 낮추지 않는다
+     * @param maxStrength 최대 cost
+     * @return 목표 시간 이내인 가장 큰 cost
+     */
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            encoder.encode(SAMPLE_PASSWORD);
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+
+        double baseMillis = best / 1_000_000.0;
+        int strength = minStrength;
+        while (strength < maxStrength && baseMillis * (1L << (strength + 1 - minStrength)) <= targetMillis) {
+            strength++;
+        }
+        log.info("BCrypt cost {} 에서 {}ms, 목표 {}ms 에 맞춰 cost {} 사용 (예상 {}ms)", minStrength,
+            String.format("%.1f", baseMillis), targetMillis, strength,
+            String.format("%.1f", baseMillis * (1L << (strength - minStrength))));
+        return strength;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.task.application.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 게이트웨이 전용 경로(/introspect)의 client secret 인증
+ * <p>
+ * 유저 존재/토큰 폐기 여부를 알려주는 경로이므로 GATEWAY_SECRET_HEADER 의 값이 설정한 secret 과 같을 때만
+ * ROLE_GATEWAY 인증 객체를 만들고, 그 외에는 서명 검증이나 유저 조회 없이 401 로 응답한다.
+ * secret 을 설정하지 않으면 모든 호출을 거부한다.
+ */
+@Slf4j(topic = "게이트웨이 인증")
+public class GatewayAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String GATEWAY_SECRET_HEADER = "X-Gateway-Secret";
+    public static final String ROLE_GATEWAY = "ROLE_GATEWAY";
+    private static final String PRINCIPAL = "gateway";
+
+    private final byte[] clientSecret;
+
+    public GatewayAuthenticationFilter(String clientSecret) {
+        this.clientSecret = StringUtils.hasText(clientSecret) ? clientSecret.getBytes(StandardCharsets.UTF_8) : null;
+        if (this.clientSecret == null) {
+            log.info("게이트웨이 client secret 이 설정되지 않아 게이트웨이 전용 경로를 사용할 수 없습니다.");
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !PublicRoutes.isGatewayRoute(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain)
+        throws ServletException, IOException {
+        if (!matches(req.getHeader(GATEWAY_SECRET_HEADER))) {
+            log.warn("게이트웨이 인증 실패 uri : {}, ip : {}", req.getRequestURI(), req.getRemoteAddr());
+            SecurityContextHolder.clearContext();
+            writeUnauthorized(res);
+            return;
+        }
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(PRINCIPAL, null, Authorities.of(ROLE_GATEWAY)));
+        filterChain.doFilter(req, res);
+    }
+
+    // 일치하는 앞부분 길이에 따라 비교 시간이 달라지지 않도록 MessageDigest.isEqual 로 비교
+    private boolean matches(String presented) {
+        if (clientSecret == null || presented == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(clientSecret, presented.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeUnauthorized(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("게이트웨이 인증이 필요합니다.");
+    }
+}
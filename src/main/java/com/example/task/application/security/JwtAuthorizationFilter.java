@@ -1,18 +1,27 @@
 package com.example.task.application.security;
 
 
+import com.example.task.application.exception.InvalidTokenException;
+import com.example.task.application.exception.InvalidTokenException.Reason;
+import com.example.task.application.security.VerifiedTokenCache.VerifiedToken;
 import com.example.task.application.utils.JwtUtil;
-import io.jsonwebtoken.Claims;
+import com.example.task.application.utils.PhaseTimer;
+import com.example.task.application.utils.PhaseTimer.Phase;
+import com.example.task.application.utils.TokenClaims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.util.StringUtils;
@@ -22,57 +31,167 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
+    // DEBUG 로그는 1024 요청 중 하나만 남긴다
+    private static final long DEBUG_SAMPLE_MASK = 1023L;
+    private static final String INVALID_TOKEN_CHALLENGE = "Bearer error=\"invalid_token\"";
+
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenDenylist tokenDenylist;
+    private final SecurityEpochStore securityEpochStore;
+    private final PhaseTimer phaseTimer;
+    // true 면 유저 조회 없이 토큰 claim 만으로 인증 객체를 만든다
+    private final boolean claimsOnlyAuth;
+    private final AtomicLong debugSampleCounter = new AtomicLong();
+    private volatile String alreadyFilteredAttributeName;
 
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res,
         FilterChain filterChain) throws ServletException, IOException {
-        if (req.getRequestURI().startsWith("/signup") ||
-            req.getRequestURI().startsWith("/sign") ||
-            req.getRequestURI().startsWith("/access-token/reissue") ||
-            req.getRequestURI().equals("/")
-        ) {
-            log.info("Pass Authorization : " + req.getRequestURI());
+        if (PublicRoutes.skipsAuthentication(req.getServletPath())) {
             filterChain.doFilter(req, res);
             return;
         }
 
         String accessTokenValue = jwtUtil.getJwtFromHeader(req, JwtUtil.AUTHORIZATION_HEADER);
-        log.info("accessTokenValue = {}", accessTokenValue);
+        // 요청마다 로그를 남기지 않고 DEBUG 일 때만 일부 요청을 기록, 토큰 값은 남기지 않는다
+        if (log.isDebugEnabled() && (debugSampleCounter.getAndIncrement() & DEBUG_SAMPLE_MASK) == 0) {
+            log.debug("인가 처리 uri : {}, token : {}", req.getRequestURI(), accessTokenValue != null);
+        }
 
         if (StringUtils.hasText(accessTokenValue)) {
-            // JWT 토큰 substring
-            accessTokenValue = jwtUtil.substringToken(accessTokenValue);
+            long startedAt = phaseTimer.start();
+            try {
+                if (!authenticate(accessTokenValue)) {
+                    return;
+                }
+            } catch (InvalidTokenException e) {
+                SecurityContextHolder.clearContext();
+                writeUnauthorized(res, e);
+                return;
+            } finally {
+                phaseTimer.stop(Phase.AUTH_FILTER, startedAt);
+            }
+        }
+
+        filterChain.doFilter(req, res);
+    }
+
+    // 기본 구현은 요청마다 필터 이름 + ".FILTERED" 문자열을 새로 만들므로 한 번만 만든다
+    @Override
+    protected String getAlreadyFilteredAttributeName() {
+        String name = alreadyFilteredAttributeName;
+        if (name == null) {
+            name = super.getAlreadyFilteredAttributeName();
+            alreadyFilteredAttributeName = name;
+        }
+        return name;
+    }
 
-            // access 토큰이 유효하면 그대로 반환 -> validateToken
-            // 만료되어 refresh 토큰을 통해 반환되면 새로운 토큰 발급 -> validateToken
+    // 토큰으로 인증 객체를 만들어 SecurityContext 에 저장, 인증 객체 생성에 실패하면 false
+    private boolean authenticate(String accessTokenValue) {
+        // 이미 검증한 토큰이면 서명 검증과 유저 조회를 건너뛴다
+        long cacheStartedAt = phaseTimer.start();
+        VerifiedToken verifiedToken = verifiedTokenCache.get(accessTokenValue);
+        phaseTimer.stop(Phase.TOKEN_CACHE, cacheStartedAt);
 
-            Claims info = jwtUtil.verifyJwt(accessTokenValue);
+        Authentication authentication;
+        String tokenId;
+        if (verifiedToken != null) {
+            authentication = verifiedToken.authentication();
+            tokenId = verifiedToken.tokenId();
+        } else {
+            TokenClaims info;
+            try {
+                info = claimsOnlyAuth
+                    ? jwtUtil.parseClaims(accessTokenValue)
+                    : jwtUtil.verifyJwt(accessTokenValue);
+            } catch (InvalidTokenException e) {
+                // 서명 검증까지 간 위조/만료 토큰은 다시 들어오면 캐시에서 바로 거부한다
+                // 형식 오류는 digest 계산보다 검사가 싸므로 저장하지 않는다
+                if (e.getReason() == Reason.INVALID || e.getReason() == Reason.EXPIRED) {
+                    verifiedTokenCache.reject(accessTokenValue, e.getReason());
+                }
+                throw e;
+            }
 
             try {
-                setAuthentication(info.getSubject());
+                authentication = claimsOnlyAuth
+                    ? createAuthentication(info)
+                    : createAuthentication(info.getSubject());
             } catch (Exception e) {
                 log.error(e.toString());
-                return;
+                return false;
             }
+            tokenId = info.getId();
+            verifiedTokenCache.put(accessTokenValue, authentication, info.getUserId(), tokenId, info.getExpiration());
         }
 
-        filterChain.doFilter(req, res);
+        // 만료 전에 폐기된 토큰, 로컬 집합만 확인하므로 네트워크 조회 없음
+        if (tokenDenylist.isRevoked(tokenId)) {
+            throw new InvalidTokenException(Reason.REVOKED);
+        }
+
+        if (claimsOnlyAuth) {
+            verifySecurityEpoch(authentication);
+        }
+
+        setAuthentication(authentication);
+        return true;
     }
 
     // 인증 처리
     public void setAuthentication(String username) {
-        SecurityContext context = SecurityContextHolder.createEmptyContext();
-        Authentication authentication = createAuthentication(username);
-        context.setAuthentication(authentication);
-        SecurityContextHolder.setContext(context);
+        setAuthentication(createAuthentication(username));
+    }
+
+    private void setAuthentication(Authentication authentication) {
+        // STATELESS 라 SecurityContext 는 요청마다 새로 만들어지고 세션으로 다른 요청과 공유되지 않으므로
+        // 새 context 를 만들지 않고 현재 요청의 context 에 인증 객체만 넣는다
+        SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
 
     // 인증 객체 생성
     private Authentication createAuthentication(String username){
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        long startedAt = phaseTimer.start();
+        UserDetails userDetails;
+        try {
+            userDetails = userDetailsService.loadUserByUsername(username);
+        } finally {
+            phaseTimer.stop(Phase.LOAD_USER, startedAt);
+        }
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
+
+    // 토큰 claim 으로 인증 객체 생성 (DB 조회 없음)
+    private Authentication createAuthentication(TokenClaims info) {
+        JwtUserPrincipal principal = JwtUserPrincipal.from(info);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    // 토큰 발급 이후 권한/비밀번호가 변경되었으면 거부
+    private void verifySecurityEpoch(Authentication authentication) {
+        JwtUserPrincipal principal = (JwtUserPrincipal) authentication.getPrincipal();
+        long startedAt = phaseTimer.start();
+        Long currentEpoch;
+        try {
+            currentEpoch = securityEpochStore.getEpoch(principal.getUserId());
+        } finally {
+            phaseTimer.stop(Phase.SECURITY_EPOCH, startedAt);
+        }
+        if (currentEpoch == null || currentEpoch != principal.getSecurityEpoch()) {
+            throw new InvalidTokenException(Reason.USER_VERIFICATION_FAILED);
+        }
+    }
+
+    // 인증 실패는 예외를 컨테이너까지 올리지 않고 401 로 바로 응답
+    private static void writeUnauthorized(HttpServletResponse response, InvalidTokenException e) throws IOException {
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, INVALID_TOKEN_CHALLENGE);
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(e.getMessage());
+    }
 }
@@ -0,0 +1,65 @@
+package com.example.task.application.security;
+
+import com.example.task.application.utils.TokenClaims;
+import java.util.Collection;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 검증된 토큰의 claim 만으로 만든 인증 주체
+ * User 엔티티를 조회하지 않으므로 비밀번호는 가지지 않는다.
+ */
+@Getter
+public class JwtUserPrincipal implements UserDetails {
+
+    private final Long userId;
+    private final String username;
+    private final String authority;
+    private final long securityEpoch;
+    private final List<GrantedAuthority> authorities;
+
+    public JwtUserPrincipal(Long userId, String username, String authority, long securityEpoch) {
+        this.userId = userId;
+        this.username = username;
+        this.authority = authority;
+        this.securityEpoch = securityEpoch;
+        this.authorities = Authorities.of(authority);
+    }
+
+    public static JwtUserPrincipal from(TokenClaims claims) {
+        return new JwtUserPrincipal(claims.getUserId(), claims.getSubject(), claims.getRole(),
+            claims.getSecurityEpochOrDefault());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
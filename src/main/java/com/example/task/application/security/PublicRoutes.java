@@ -0,0 +1,76 @@
+package com.example.task.application.security;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 인증 없이 호출되는 경로 목록
+ * <p>
+ * WebSecurityConfig 의 permitAll 설정과 JwtAuthorizationFilter 의 통과 판단이 같은 목록을 쓰도록 한 곳에 둔다.
+ * 필터는 요청마다 호출되므로 패턴 매칭 없이 servlet path 를 미리 만든 Set 에서 한 번만 찾는다.
+ */
+public final class PublicRoutes {
+
+    // 토큰을 발급/검증하는 경로, 만료되었거나 잘못된 Authorization 헤더가 붙어 와도 인증 필터가 보지 않는다
+    private static final String[] TOKEN_ENDPOINTS = {
+        "/", "/sign", "/signup", "/access-token/reissue"
+    };
+
+    // 게이트웨이 전용 경로, 유저 토큰 대신 GatewayAuthenticationFilter 의 client secret 으로 인증한다
+    private static final String[] GATEWAY_ENDPOINTS = {
+        "/introspect"
+    };
+
+    // 그 외 인증 없이 허용하는 경로 (Ant 패턴), 헤더에 토큰이 있으면 인증 필터가 검증한다
+    private static final String[] OTHER_PERMIT_ALL = {
+        "/health", "/css/**", "/js/**", "/img/**", "/lib/**", "/scss/**", "/favicon.ico",
+        "/swagger-ui/**", "/v3/api-docs/**", "/.well-known/jwks.json",
+        // 수집기(Prometheus)용, 외부 노출은 네트워크 단에서 막는다
+        "/actuator/health", "/actuator/prometheus"
+    };
+
+    private static final Set<String> GATEWAY = Set.of(GATEWAY_ENDPOINTS);
+    private static final Set<String> SKIP_AUTHENTICATION = union(TOKEN_ENDPOINTS, GATEWAY_ENDPOINTS);
+
+    private PublicRoutes() {
+    }
+
+    /**
+     * WebSecurityConfig permitAll 에 등록할 패턴
+     */
+    public static String[] permitAllPatterns() {
+        String[] patterns = new String[TOKEN_ENDPOINTS.length + OTHER_PERMIT_ALL.length];
+        System.arraycopy(TOKEN_ENDPOINTS, 0, patterns, 0, TOKEN_ENDPOINTS.length);
+        System.arraycopy(OTHER_PERMIT_ALL, 0, patterns, TOKEN_ENDPOINTS.length, OTHER_PERMIT_ALL.length);
+        return patterns;
+    }
+
+    /**
+     * WebSecurityConfig 에서 ROLE_GATEWAY 를 요구할 패턴
+     */
+    public static String[] gatewayPatterns() {
+        return GATEWAY_ENDPOINTS.clone();
+    }
+
+    /**
+     * @param servletPath 요청의 servlet path
+     * @return 게이트웨이 client secret 으로 인증해야 하는 경로면 true
+     */
+    public static boolean isGatewayRoute(String servletPath) {
+        return GATEWAY.contains(servletPath);
+    }
+
+    /**
+     * @param servletPath 요청의 servlet path
+     * @return 인증 필터가 토큰을 확인하지 않고 통과시켜야 하면 true (게이트웨이 경로는 GatewayAuthenticationFilter 가 인증)
+     */
+    public static boolean skipsAuthentication(String servletPath) {
+        return SKIP_AUTHENTICATION.contains(servletPath);
+    }
+
+    private static Set<String> union(String[] first, String[] second) {
+        Set<String> paths = new HashSet<>(Set.of(first));
+        paths.addAll(Set.of(second));
+        return Set.copyOf(paths);
+    }
+}
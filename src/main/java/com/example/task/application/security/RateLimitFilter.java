@@ -0,0 +1,81 @@
+package com.example.task.application.security;
+
+import com.example.task.application.security.RateLimiter.Route;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 인증 없이 호출되는 /sign, /signup, /access-token/reissue 와 게이트웨이용 /introspect 의 client IP 별 요청 수 제한
+ * <p>
+ * 인증 필터보다 앞에서 동작하므로 제한을 넘은 요청은 토큰 검증, BCrypt, DB 조회 없이 429 로 끝난다.
+ */
+@Slf4j(topic = "요청 수 제한")
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    // 프록시 뒤에 있을 때만 true, 아니면 클라이언트가 헤더로 IP 를 위조할 수 있다
+    private final boolean trustForwardedFor;
+
+    public RateLimitFilter(RateLimiter rateLimiter, boolean trustForwardedFor) {
+        this.rateLimiter = rateLimiter;
+        this.trustForwardedFor = trustForwardedFor;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        Route route = resolveRoute(request);
+        if (route != null) {
+            long retryAfter = rateLimiter.tryAcquire(route, clientIp(request));
+            if (retryAfter > 0) {
+                log.warn("요청 수 제한 초과 route : {}, ip : {}", route, clientIp(request));
+                writeTooManyRequests(response, retryAfter);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static Route resolveRoute(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod())) {
+            return null;
+        }
+        return switch (request.getServletPath()) {
+            case "/sign" -> Route.SIGN;
+            case "/signup" -> Route.SIGNUP;
+            case "/access-token/reissue" -> Route.REISSUE;
+            case "/introspect" -> Route.INTROSPECT;
+            default -> null;
+        };
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (StringUtils.hasText(forwardedFor)) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static void writeTooManyRequests(HttpServletResponse response, long retryAfterSeconds)
+        throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
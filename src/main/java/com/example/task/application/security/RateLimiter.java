@@ -0,0 +1,117 @@
+package com.example.task.application.security;
+
+import com.example.task.application.utils.StripedTokenBuckets;
+import com.example.task.domain.repository.RateLimitRepository;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공개 endpoint 요청 수 제한
+ * <p>
+ * 먼저 in-process striped token bucket 으로 판단하고, 통과한 요청만 redis 가 켜져 있으면
+ * 노드 간 공유되는 Redis sliding window 로 한 번 더 확인한다.
+ * route 별 설정은 rate-limit.{route}.capacity / rate-limit.{route}.period (밀리초)
+ * Redis 장애 시에는 로컬 제한만 적용한다(fail open).
+ */
+@Slf4j(topic = "요청 수 제한")
+@Component
+public class RateLimiter {
+
+    public enum Route {
+        SIGN("sign", 20, 60000),
+        SIGNUP("signup", 5, 60000),
+        REISSUE("reissue", 60, 60000),
+        // 게이트웨이 IP 기준, 요청마다 최대 100개 토큰을 검증하므로 secret 검사 전에 제한
+        INTROSPECT("introspect", 600, 60000),
+        // 로그인 시도 username 기준, IP 를 바꿔가며 한 계정을 노리는 요청 제한
+        LOGIN_USERNAME("login-username", 10, 60000);
+
+        private final String name;
+        private final int defaultCapacity;
+        private final long defaultPeriod;
+
+        Route(String name, int defaultCapacity, long defaultPeriod) {
+            this.name = name;
+            this.defaultCapacity = defaultCapacity;
+            this.defaultPeriod = defaultPeriod;
+        }
+    }
+
+    private final RateLimitRepository rateLimitRepository;
+    private final boolean enabled;
+    private final boolean redisEnabled;
+    private final Map<Route, Rule> rules = new EnumMap<>(Route.class);
+    private final LongAdder localRejectedCount = new LongAdder();
+    private final LongAdder redisRejectedCount = new LongAdder();
+
+    public RateLimiter(RateLimitRepository rateLimitRepository, Environment environment,
+        @Value("${rate-limit.enabled:true}") boolean enabled,
+        @Value("${rate-limit.redis.enabled:false}") boolean redisEnabled,
+        @Value("${rate-limit.stripes:64}") int stripes,
+        @Value("${rate-limit.max-keys:100000}") int maxKeys) {
+        this.rateLimitRepository = rateLimitRepository;
+        this.enabled = enabled;
+        this.redisEnabled = redisEnabled;
+        for (Route route : Route.values()) {
+            int capacity = environment.getProperty("rate-limit." + route.name + ".capacity", Integer.class,
+                route.defaultCapacity);
+            long period = environment.getProperty("rate-limit." + route.name + ".period", Long.class,
+                route.defaultPeriod);
+            rules.put(route, new Rule(capacity, period, new StripedTokenBuckets(capacity, period, stripes, maxKeys)));
+        }
+    }
+
+    /**
+     * 요청 한 건 허용 여부 판단
+     *
+     * @param route 제한 대상 route
+     * @param key client 식별값 (IP 또는 username)
+     * @return 허용되면 0, 거부되면 재시도까지 기다려야 하는 시간 (초단위, 최소 1)
+     */
+    public long tryAcquire(Route route, String key) {
+        if (!enabled) {
+            return 0L;
+        }
+        Rule rule = rules.get(route);
+        long waitMillis = rule.buckets().tryAcquire(key);
+        if (waitMillis > 0) {
+            localRejectedCount.increment();
+            return toRetryAfterSeconds(waitMillis);
+        }
+        if (!redisEnabled) {
+            return 0L;
+        }
+        try {
+            waitMillis = rateLimitRepository.tryAcquire(route.name + ":" + key, rule.capacity(), rule.period());
+        } catch (RuntimeException e) {
+            log.warn("Redis 요청 수 제한 확인 실패, 로컬 제한만 적용합니다. {}", e.getMessage());
+            return 0L;
+        }
+        if (waitMillis > 0) {
+            redisRejectedCount.increment();
+            return toRetryAfterSeconds(waitMillis);
+        }
+        return 0L;
+    }
+
+    public long getLocalRejectedCount() {
+        return localRejectedCount.sum();
+    }
+
+    public long getRedisRejectedCount() {
+        return redisRejectedCount.sum();
+    }
+
+    private static long toRetryAfterSeconds(long waitMillis) {
+        return Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(waitMillis + 999));
+    }
+
+    private record Rule(int capacity, long period, StripedTokenBuckets buckets) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.task.application.security;
+
+import com.example.task.application.utils.ExpiringCache;
+import com.example.task.domain.event.UserSecurityChangedEvent;
+import com.example.task.domain.repository.RedisRepository;
+import com.example.task.domain.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 유저별 security epoch 조회
+ * <p>
+ * 로컬 캐시 -> Redis -> DB 순으로 조회한다. 로컬 캐시 TTL 이 짧기 때문에
+ * epoch 가 증가하면 최대 TTL 이내에 모든 노드에서 이전 토큰이 거부된다.
+ * <p>
+ * epoch 는 증가만 하므로 Redis 에는 저장된 값보다 클 때만 쓴다. 변경 전에 DB 에서 읽은 값이
+ * 변경 이벤트보다 늦게 저장되더라도 이전 epoch 로 되돌아가지 않는다.
+ */
+@Slf4j(topic = "Security Epoch")
+@Component
+public class SecurityEpochStore {
+
+    private static final String KEY_PREFIX = "user:epoch:";
+    private static final long REDIS_TTL_SECONDS = 3600L;
+
+    private final RedisRepository redisRepository;
+    private final UserRepository userRepository;
+    private final ExpiringCache<Long, Long> localCache;
+    private final long localTtl;
+
+    public SecurityEpochStore(RedisRepository redisRepository, UserRepository userRepository,
+        @Value("${jwt.claims-only-auth.epoch-cache-size:100000}") int localCacheSize,
+        @Value("${jwt.claims-only-auth.epoch-cache-ttl:5000}") long localTtl) {
+        this.redisRepository = redisRepository;
+        this.userRepository = userRepository;
+        this.localCache = new ExpiringCache<>(localCacheSize);
+        this.localTtl = localTtl;
+    }
+
+    /**
+     * 현재 security epoch 조회
+     *
+     * @param userId 대상 유저 id
+     * @return 현재 epoch, 유저가 없으면 null
+     */
+    public Long getEpoch(Long userId) {
+        Long epoch = localCache.get(userId);
+        if (epoch != null) {
+            return epoch;
+        }
+
+        epoch = readFromRedis(userId);
+        if (epoch == null) {
+            epoch = userRepository.findSecurityEpochById(userId).orElse(null);
+            if (epoch == null) {
+                return null;
+            }
+            // 그 사이 더 큰 epoch 가 저장되었으면 그 값을 사용
+            epoch = writeToRedis(userId, epoch);
+        }
+
+        localCache.put(userId, epoch, System.currentTimeMillis() + localTtl);
+        return epoch;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+        writeToRedis(event.userId(), event.securityEpoch());
+        localCache.invalidate(event.userId());
+    }
+
+    private Long readFromRedis(Long userId) {
+        String value = redisRepository.getValue(KEY_PREFIX + userId);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 epoch 값 userId : {}", userId);
+            return null;
+        }
+    }
+
+    private long writeToRedis(Long userId, long epoch) {
+        return redisRepository.saveIfGreater(KEY_PREFIX + userId, epoch, REDIS_TTL_SECONDS);
+    }
+}
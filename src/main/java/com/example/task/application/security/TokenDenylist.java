@@ -0,0 +1,175 @@
+package com.example.task.application.security;
+
+import com.example.task.application.utils.RevokedTokenSet;
+import com.example.task.domain.repository.RedisRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 전에 폐기된 access token 목록
+ * <p>
+ * 폐기는 Redis stream 에 jti 와 exp 를 추가하고, 모든 노드가 poll-interval 마다 이어서 읽어
+ * 로컬 {@link RevokedTokenSet} 에 반영한다. 인가 필터는 로컬 집합만 보므로 요청마다 Redis 를 조회하지 않으며,
+ * 다른 노드의 폐기는 Redis 가 정상이면 최대 poll-interval (+ 조회 시간) 안에 반영된다.
+ * <p>
+ * stream 항목 id 는 폐기 시각이고 폐기된 토큰은 그로부터 access token 유효 기간 안에 만료되므로,
+ * 그보다 오래된 항목은 추가할 때 함께 잘라낸다. 새로 뜬 노드는 남아 있는 항목을 처음부터 읽어 목록을 채운다.
+ */
+@Slf4j(topic = "토큰 폐기 목록")
+@Component
+public class TokenDenylist {
+
+    static final String STREAM_KEY = "token:denylist";
+    private static final String TOKEN_ID_FIELD = "jti";
+    private static final String EXPIRES_AT_FIELD = "exp";
+    private static final int READ_BATCH_SIZE = 1000;
+
+    private final RedisRepository redisRepository;
+    private final boolean enabled;
+    private final long accessExpiration;
+    private final long pollInterval;
+    private final long purgeInterval;
+    private final RevokedTokenSet revokedTokens;
+
+    // poll 스레드에서만 읽고 쓴다
+    private String lastReadId = "0";
+    private long nextPurgeAt;
+    private ScheduledExecutorService poller;
+
+    public TokenDenylist(RedisRepository redisRepository,
+        @Value("${token-denylist.enabled:true}") boolean enabled,
+        @Value("${jwt.access-expiration}") long accessExpiration,
+        @Value("${token-denylist.expected-entries:100000}") long expectedEntries,
+        @Value("${token-denylist.false-positive-rate:0.001}") double falsePositiveRate,
+        @Value("${token-denylist.poll-interval:1000}") long pollInterval,
+        @Value("${token-denylist.purge-interval:60000}") long purgeInterval) {
+        this.redisRepository = redisRepository;
+        this.enabled = enabled;
+        this.accessExpiration = accessExpiration;
+        this.pollInterval = pollInterval;
+        this.purgeInterval = purgeInterval;
+        this.revokedTokens = new RevokedTokenSet(expectedEntries, falsePositiveRate);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        // 유효 기간 안에 폐기된 항목만 읽으면 된다
+        lastReadId = minRetainedId(System.currentTimeMillis());
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-denylist-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::pollSafely, 0L, pollInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    /**
+     * 폐기 여부 확인, 네트워크 조회 없이 로컬 집합만 본다
+     *
+     * @param tokenId 토큰 jti
+     * @return 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revokedTokens.contains(tokenId, System.currentTimeMillis());
+    }
+
+    /**
+     * access token 폐기, 이 노드에는 즉시 반영하고 다른 노드에는 stream 으로 전파한다
+     *
+     * @param tokenId 토큰 jti
+     * @param expiration 토큰 exp, 이미 지났으면 아무것도 하지 않는다
+     */
+    public void revoke(String tokenId, Date expiration) {
+        long now = System.currentTimeMillis();
+        if (tokenId == null || expiration == null || expiration.getTime() <= now) {
+            return;
+        }
+        revokedTokens.add(tokenId, expiration.getTime());
+        if (enabled) {
+            redisRepository.appendToStream(STREAM_KEY,
+                Map.of(TOKEN_ID_FIELD, tokenId, EXPIRES_AT_FIELD, Long.toString(expiration.getTime())),
+                minRetainedId(now));
+        }
+        log.info("access token 폐기 jti : {}", tokenId);
+    }
+
+    public int size() {
+        return revokedTokens.size();
+    }
+
+    /**
+     * 마지막으로 읽은 항목 이후를 모두 읽어 로컬 집합에 반영
+     *
+     * @return 반영한 항목 수
+     */
+    int poll() {
+        int applied = 0;
+        List<MapRecord<String, Object, Object>> records;
+        do {
+            records = redisRepository.readStream(STREAM_KEY, lastReadId, READ_BATCH_SIZE);
+            for (MapRecord<String, Object, Object> record : records) {
+                apply(record);
+                lastReadId = record.getId().getValue();
+            }
+            applied += records.size();
+        } while (records.size() == READ_BATCH_SIZE);
+
+        long now = System.currentTimeMillis();
+        if (now >= nextPurgeAt) {
+            revokedTokens.purgeExpired(now);
+            nextPurgeAt = now + purgeInterval;
+            if (revokedTokens.size() > revokedTokens.getExpectedEntries()) {
+                log.warn("폐기 토큰 수가 예상치를 넘어 Bloom filter 오탐률이 높아집니다. size : {}", revokedTokens.size());
+            }
+        }
+        return applied;
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            // Redis 장애 중에는 다음 주기에 마지막으로 읽은 위치부터 다시 읽는다
+            log.warn("폐기 목록 조회 실패 : {}", e.toString());
+        }
+    }
+
+    private void apply(MapRecord<String, Object, Object> record) {
+        Map<Object, Object> fields = record.getValue();
+        Object tokenId = fields.get(TOKEN_ID_FIELD);
+        Object expiresAt = fields.get(EXPIRES_AT_FIELD);
+        if (tokenId == null || expiresAt == null) {
+            log.warn("잘못된 폐기 항목 id : {}", record.getId());
+            return;
+        }
+        try {
+            revokedTokens.add(tokenId.toString(), Long.parseLong(expiresAt.toString()));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 폐기 항목 id : {}", record.getId());
+        }
+    }
+
+    private String minRetainedId(long now) {
+        return Math.max(0L, now - accessExpiration) + "-0";
+    }
+}
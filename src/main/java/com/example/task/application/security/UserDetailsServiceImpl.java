@@ -1,7 +1,7 @@
 package com.example.task.application.security;
 
 import com.example.task.domain.model.User;
-import com.example.task.domain.repository.UserRepository;
+import com.example.task.domain.repository.UserCacheRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -12,11 +12,11 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserCacheRepository userCacheRepository;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username).orElseThrow(() ->
+        User user = userCacheRepository.findByUsername(username).orElseThrow(() ->
             new UsernameNotFoundException("해당 유저를 찾을 수 없습니다. :" + username));
 
         return new UserDetailsImpl(user);
@@ -0,0 +1,252 @@
+package com.example.task.application.security;
+
+import com.example.task.application.exception.InvalidTokenException;
+import com.example.task.application.exception.InvalidTokenException.Reason;
+import com.example.task.application.utils.ExpiringCache;
+import com.example.task.application.utils.ObjectPool;
+import com.example.task.domain.event.UserSecurityChangedEvent;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 검증이 끝난 access token 의 Authentication 캐시
+ * <p>
+ * 같은 토큰이 만료 전까지 반복해서 들어오므로, 한 번 검증한 결과를 토큰 digest 로 저장해두고
+ * 서명 검증과 유저 조회(existsById, loadUserByUsername)를 건너뛴다.
+ * 항목은 토큰의 exp 와 max-ttl 중 빠른 시각에 만료된다.
+ * 만료 전 폐기 여부는 캐시와 별개로 확인해야 하므로 토큰 jti 를 함께 저장한다.
+ * <p>
+ * 서명 검증에 실패한 토큰도 잠시 따로 저장해 같은 위조 토큰이 반복될 때 서명 검증 없이 거부한다.
+ * 위조 토큰이 아무리 많이 들어와도 검증된 토큰 항목을 밀어내지 않도록 별도의 상한을 가진다.
+ * <p>
+ * 인증 객체에는 처음 검증할 때 읽은 권한이 들어 있으므로, 유저의 권한/비밀번호가 바뀌거나 유저 캐시가 제거되면
+ * (같은 노드의 변경 이벤트, 다른 노드의 user-cache:invalidate 메시지) 그 유저의 제거 시각을 기록하고
+ * 그 이전에 저장된 항목은 조회 시 버린 뒤 다시 검증한다. 제거 시각은 max-ttl 이 지나면 필요 없으므로 함께 만료된다.
+ * user_id claim 이 없는 토큰은 유저별로 제거할 수 없으므로 저장하지 않는다.
+ */
+@Slf4j(topic = "검증된 토큰 캐시")
+@Component
+public class VerifiedTokenCache implements MessageListener {
+
+    // virtual thread 에서도 재사용되도록 ThreadLocal 대신 풀 사용
+    private static final ObjectPool<Sha256> SHA_256 = new ObjectPool<>(Sha256::new, 256);
+
+    private final boolean enabled;
+    private final long maxTtl;
+    private final long rejectedTtl;
+    private final ExpiringCache<String, VerifiedToken> cache;
+    private final ExpiringCache<String, Reason> rejected;
+    // userId -> 캐시 제거 시각, 이 시각 이전에 저장된 항목은 사용하지 않는다
+    private final ExpiringCache<Long, Long> invalidatedAt;
+
+    public VerifiedTokenCache(
+        @Value("${jwt.token-cache.enabled:true}") boolean enabled,
+        @Value("${jwt.token-cache.max-size:10000}") int maxSize,
+        @Value("${jwt.token-cache.max-ttl:300000}") long maxTtl,
+        @Value("${jwt.token-cache.rejected-max-size:10000}") int rejectedMaxSize,
+        @Value("${jwt.token-cache.rejected-ttl:60000}") long rejectedTtl) {
+        this.enabled = enabled;
+        this.maxTtl = maxTtl;
+        this.rejectedTtl = rejectedTtl;
+        this.cache = new ExpiringCache<>(maxSize);
+        this.rejected = new ExpiringCache<>(rejectedMaxSize);
+        this.invalidatedAt = new ExpiringCache<>(maxSize);
+    }
+
+    /**
+     * 캐시된 인증 객체 조회
+     *
+     * @param token Bearer prefix 를 제거한 access token
+     * @return 캐시에 없거나 만료되었으면 null
+     * @throws InvalidTokenException 최근 서명 검증에 실패한 토큰일 때
+     */
+    public VerifiedToken get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        String key = digest(token);
+        VerifiedToken verifiedToken = cache.get(key);
+        if (verifiedToken != null) {
+            if (isInvalidated(verifiedToken)) {
+                cache.invalidate(key);
+                return null;
+            }
+            return verifiedToken;
+        }
+        Reason reason = rejected.get(key);
+        if (reason != null) {
+            throw new InvalidTokenException(reason);
+        }
+        return null;
+    }
+
+    /**
+     * 검증된 토큰의 인증 객체 저장
+     *
+     * @param token Bearer prefix 를 제거한 access token
+     * @param authentication 토큰으로 생성한 인증 객체
+     * @param userId 토큰의 user_id, null 이면 저장하지 않는다
+     * @param tokenId 토큰의 jti
+     * @param expiration 토큰의 exp
+     */
+    public void put(String token, Authentication authentication, Long userId, String tokenId, Date expiration) {
+        if (!enabled || userId == null || expiration == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(expiration.getTime(), now + maxTtl);
+        cache.put(digest(token), new VerifiedToken(authentication, tokenId, userId, now), expiresAt);
+    }
+
+    /**
+     * 유저의 검증 결과를 모두 무효화, 이후 요청은 서명 검증과 유저 조회를 다시 한다
+     *
+     * @param userId 대상 유저 id
+     */
+    public void invalidateUser(Long userId) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        invalidatedAt.put(userId, now, now + maxTtl);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+        invalidateUser(event.userId());
+    }
+
+    /**
+     * 유저 캐시 제거 메시지 처리 ("{userId}:{username}"), 다른 노드의 변경도 반영한다
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        try {
+            invalidateUser(Long.parseLong(separator < 0 ? body : body.substring(0, separator)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 캐시 제거 메시지 : {}", body);
+        }
+    }
+
+    /**
+     * 서명 검증에 실패한 토큰 저장, rejected-ttl 동안 get 이 같은 이유로 거부한다
+     *
+     * @param token Bearer prefix 를 제거한 access token
+     * @param reason 거부 이유
+     */
+    public void reject(String token, Reason reason) {
+        if (!enabled) {
+            return;
+        }
+        rejected.put(digest(token), reason, System.currentTimeMillis() + rejectedTtl);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+        rejected.invalidateAll();
+        invalidatedAt.invalidateAll();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public int getMaxSize() {
+        return cache.getMaxSize();
+    }
+
+    public int rejectedSize() {
+        return rejected.size();
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    // 제거 시각과 같은 밀리초에 저장된 항목도 제거 전에 읽은 값일 수 있으므로 버린다
+    private boolean isInvalidated(VerifiedToken verifiedToken) {
+        if (invalidatedAt.size() == 0) {
+            return false;
+        }
+        Long at = invalidatedAt.get(verifiedToken.userId());
+        return at != null && at >= verifiedToken.cachedAt();
+    }
+
+    /**
+     * 토큰의 SHA-256 digest 를 32자 문자열로 만든 cache key
+     * <p>
+     * 요청마다 호출되므로 입력/출력 byte 배열은 풀의 것을 재사용하고, 결과는 byte 하나를 char 하나로 옮긴
+     * ISO-8859-1 문자열로 만들어 base64 인코딩에 드는 배열 할당을 없앤다. 사람이 읽는 값이 아니므로 충분하다.
+     */
+    private String digest(String token) {
+        Sha256 sha256 = SHA_256.acquire();
+        try {
+            return sha256.digest(token);
+        } finally {
+            SHA_256.release(sha256);
+        }
+    }
+
+    private static final class Sha256 {
+
+        private final MessageDigest messageDigest;
+        private final byte[] output = new byte[32];
+        private byte[] input = new byte[512];
+
+        private Sha256() {
+            try {
+                this.messageDigest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private String digest(String token) {
+            int length = token.length();
+            if (input.length < length) {
+                input = new byte[Math.max(length, input.length * 2)];
+            }
+            // getBytes(US_ASCII) 와 같이 ASCII 가 아닌 문자는 '?' 로 바꾼다
+            for (int i = 0; i < length; i++) {
+                char c = token.charAt(i);
+                input[i] = c < 0x80 ? (byte) c : (byte) '?';
+            }
+            messageDigest.update(input, 0, length);
+            try {
+                messageDigest.digest(output, 0, output.length);
+            } catch (DigestException e) {
+                throw new IllegalStateException(e);
+            }
+            return new String(output, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    /**
+     * @param authentication 토큰으로 생성한 인증 객체
+     * @param tokenId 토큰의 jti
+     * @param userId 토큰의 user_id
+     * @param cachedAt 저장 시각 (epoch millis)
+     */
+    public record VerifiedToken(Authentication authentication, String tokenId, Long userId, long cachedAt) {
+    }
+}
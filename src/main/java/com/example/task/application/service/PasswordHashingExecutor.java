@@ -0,0 +1,204 @@
+package com.example.task.application.service;
+
+import com.example.task.application.exception.ServiceOverloadedException;
+import com.example.task.application.utils.PhaseTimer;
+import com.example.task.application.utils.PhaseTimer.Phase;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인/회원 가입의 BCrypt 해시와 비교를 전용 스레드 풀에서 수행
+ * <p>
+ * BCrypt 는 요청당 수십 ms 의 CPU 를 쓰기 때문에 요청 스레드에서 바로 실행하면 로그인이 몰릴 때
+ * Tomcat 스레드를 모두 점유해 다른 요청까지 멈춘다. 스레드 수는 코어 수, 대기열은 고정 크기로 제한하고
+ * 대기열이 가득 찼거나 대기열에서 max-queue-wait 이상 기다린 작업은 바로 거부해 503 으로 응답하게 한다.
+ */
+@Slf4j(topic = "비밀번호 해시")
+@Component
+public class PasswordHashingExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PhaseTimer phaseTimer;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final long maxQueueWaitNanos;
+    private final long retryAfterSeconds;
+
+    private final LongAdder startedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder, PhaseTimer phaseTimer,
+        @Value("${password-hashing.threads:0}") int threads,
+        @Value("${password-hashing.queue-capacity:64}") int queueCapacity,
+        @Value("${password-hashing.max-queue-wait:1000}") long maxQueueWait,
+        @Value("${password-hashing.retry-after:1}") long retryAfterSeconds) {
+        this.passwordEncoder = passwordEncoder;
+        this.phaseTimer = phaseTimer;
+        this.queueCapacity = queueCapacity;
+        this.maxQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxQueueWait);
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 비밀번호 해시
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return 해시된 비밀번호
+     * @throws ServiceOverloadedException 대기열이 가득 찼거나 대기 시간을 넘긴 경우
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> timedEncode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 비교
+     *
+     * @param rawPassword 평문 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 일치 여부
+     * @throws ServiceOverloadedException 대기열이 가득 찼거나 대기 시간을 넘긴 경우
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> {
+            long startedAt = phaseTimer.start();
+            try {
+                return passwordEncoder.matches(rawPassword, encodedPassword);
+            } finally {
+                phaseTimer.stop(Phase.BCRYPT_MATCHES, startedAt);
+            }
+        });
+    }
+
+    /**
+     * 저장된 해시가 현재 설정(cost)보다 약한지 여부
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 결과를 기다리지 않는 백그라운드 해시, 로그인 처리 용량을 뺏지 않도록 대기열이 절반 이상 차 있으면 받지 않는다
+     *
+     * @param rawPassword 평문 비밀번호
+     * @param onEncoded 해시 스레드에서 호출되는 결과 처리
+     * @return 작업을 받았는지 여부
+     */
+    public boolean encodeInBackground(String rawPassword, Consumer<String> onEncoded) {
+        if (executor.getQueue().size() * 2 >= queueCapacity) {
+            return false;
+        }
+        try {
+            executor.execute(() -> onEncoded.accept(timedEncode(rawPassword)));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getStartedCount() {
+        return startedCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+
+    public double getAverageWaitMillis() {
+        long count = startedCount.sum();
+        return count == 0 ? 0.0 : totalWaitNanos.sum() / (double) count / 1_000_000;
+    }
+
+    public double getMaxWaitMillis() {
+        return maxWaitNanos.get() / 1_000_000.0;
+    }
+
+    private String timedEncode(String rawPassword) {
+        long startedAt = phaseTimer.start();
+        try {
+            return passwordEncoder.encode(rawPassword);
+        } finally {
+            phaseTimer.stop(Phase.BCRYPT_ENCODE, startedAt);
+        }
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long waited = System.nanoTime() - submittedAt;
+                totalWaitNanos.add(waited);
+                maxWaitNanos.accumulateAndGet(waited, Math::max);
+                startedCount.increment();
+                // 오래 기다린 요청은 클라이언트가 이미 포기했을 가능성이 높으므로 해시하지 않는다
+                if (waited > maxQueueWaitNanos) {
+                    throw overloaded();
+                }
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            throw overloaded();
+        }
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    private ServiceOverloadedException overloaded() {
+        rejectedCount.increment();
+        log.warn("비밀번호 해시 대기열 초과, queue : {}", executor.getQueue().size());
+        return new ServiceOverloadedException("요청이 많아 잠시 후 다시 시도해 주세요.", retryAfterSeconds);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.task.application.service;
+
+import com.example.task.domain.model.User;
+import com.example.task.domain.repository.UserCacheRepository;
+import com.example.task.domain.repository.UserRepository;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그인 시 이전 설정(낮은 cost)으로 저장된 비밀번호 해시를 현재 설정으로 교체
+ * <p>
+ * 평문 비밀번호는 로그인에 성공한 순간에만 알 수 있으므로 그때 재해시한다.
+ * 해시와 저장은 PasswordHashingExecutor 에서 백그라운드로 처리해 로그인 응답을 늦추지 않고,
+ * 대기열이 붐비면 건너뛰었다가 다음 로그인에서 다시 시도한다.
+ */
+@Slf4j(topic = "비밀번호 재해시")
+@Service
+@RequiredArgsConstructor
+public class PasswordRehashService {
+
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final UserRepository userRepository;
+    private final UserCacheRepository userCacheRepository;
+
+    // 같은 유저가 동시에 여러 번 로그인해도 한 번만 재해시
+    private final Set<Long> inProgress = ConcurrentHashMap.newKeySet();
+    private final LongAdder upgradedCount = new LongAdder();
+    private final LongAdder deferredCount = new LongAdder();
+
+    /**
+     * 필요하면 재해시 예약
+     *
+     * @param user 로그인한 유저 (저장된 해시 포함)
+     * @param rawPassword 검증이 끝난 평문 비밀번호
+     */
+    public void rehashIfNeeded(User user, String rawPassword) {
+        String currentPassword = user.getPassword();
+        if (!passwordHashingExecutor.upgradeEncoding(currentPassword) || !inProgress.add(user.getUserId())) {
+            return;
+        }
+        boolean accepted = passwordHashingExecutor.encodeInBackground(rawPassword,
+            newPassword -> replace(user.getUserId(), user.getUsername(), currentPassword, newPassword));
+        if (!accepted) {
+            inProgress.remove(user.getUserId());
+            deferredCount.increment();
+        }
+    }
+
+    public long getUpgradedCount() {
+        return upgradedCount.sum();
+    }
+
+    public long getDeferredCount() {
+        return deferredCount.sum();
+    }
+
+    private void replace(Long userId, String username, String currentPassword, String newPassword) {
+        try {
+            // 그 사이 비밀번호가 변경되었으면 아무것도 하지 않는다
+            if (userRepository.updatePasswordIfUnchanged(userId, currentPassword, newPassword) > 0) {
+                userCacheRepository.evict(userId, username);
+                upgradedCount.increment();
+                log.info("비밀번호 해시 갱신 userId : {}", userId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("비밀번호 해시 갱신 실패 userId : {}, {}", userId, e.getMessage());
+        } finally {
+            inProgress.remove(userId);
+        }
+    }
+}
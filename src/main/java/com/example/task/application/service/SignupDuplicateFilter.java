@@ -0,0 +1,92 @@
+package com.example.task.application.service;
+
+import com.example.task.application.utils.BloomFilter;
+import com.example.task.domain.event.UserSignedUpEvent;
+import com.example.task.domain.repository.UserRepository;
+import com.example.task.domain.repository.UserUniqueKeys;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 회원 가입 중복 검사용 Bloom filter
+ * <p>
+ * username, nickname 컬럼마다 하나씩 두고 기동 시 m_user 테이블로 채운 뒤 가입이 커밋될 때마다 추가한다.
+ * "확실히 없음" 이면 DB exists 조회를 생략하고, 최종 판단은 DB unique 제약이 한다.
+ * 다른 노드에서 가입한 값은 반영되지 않지만 그 경우에도 unique 제약에서 걸러진다.
+ */
+@Slf4j(topic = "가입 중복 필터")
+@Component
+public class SignupDuplicateFilter {
+
+    private static final int WARM_UP_PAGE_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final BloomFilter usernames;
+    private final BloomFilter nicknames;
+
+    // 초기 적재 전에는 모든 값을 "있을 수 있음" 으로 취급
+    private volatile boolean ready;
+
+    public SignupDuplicateFilter(UserRepository userRepository,
+        @Value("${signup.bloom.enabled:true}") boolean enabled,
+        @Value("${signup.bloom.expected-insertions:1000000}") long expectedInsertions,
+        @Value("${signup.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.usernames = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.nicknames = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        long count = 0;
+        Long afterId = 0L;
+        List<UserUniqueKeys> page;
+        try {
+            do {
+                page = userRepository.findUniqueKeysAfter(afterId, PageRequest.ofSize(WARM_UP_PAGE_SIZE));
+                for (UserUniqueKeys keys : page) {
+                    usernames.put(keys.getUsername());
+                    nicknames.put(keys.getNickname());
+                    afterId = keys.getUserId();
+                }
+                count += page.size();
+            } while (page.size() == WARM_UP_PAGE_SIZE);
+        } catch (RuntimeException e) {
+            // 적재에 실패하면 필터를 사용하지 않고 항상 DB 로 확인한다
+            log.error("가입 중복 필터 적재 실패 : {}", e.toString());
+            return;
+        }
+
+        ready = true;
+        log.info("가입 중복 필터 적재 완료 count : {}", count);
+    }
+
+    public boolean mightContainUsername(String username) {
+        return !ready || usernames.mightContain(username);
+    }
+
+    public boolean mightContainNickname(String nickname) {
+        return !ready || nicknames.mightContain(nickname);
+    }
+
+    public void add(String username, String nickname) {
+        usernames.put(username);
+        nicknames.put(nickname);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSignedUp(UserSignedUpEvent event) {
+        add(event.username(), event.nickname());
+    }
+}
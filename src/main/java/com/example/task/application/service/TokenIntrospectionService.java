@@ -0,0 +1,183 @@
+package com.example.task.application.service;
+
+import com.example.task.application.dto.TokenIntrospectionResponseDto;
+import com.example.task.application.dto.TokenIntrospectionResponseDto.ResultDto;
+import com.example.task.application.dto.TokenIntrospectionResponseDto.Status;
+import com.example.task.application.security.TokenDenylist;
+import com.example.task.application.utils.JwtUtil;
+import com.example.task.application.utils.TokenClaims;
+import com.example.task.application.utils.TokenFormat;
+import com.example.task.domain.model.User;
+import com.example.task.domain.repository.UserCacheRepository;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게이트웨이용 access token 일괄 검증
+ * <p>
+ * 서명 검증은 CPU 작업이라 토큰 수가 parallel-threshold 이상이면 전용 스레드 풀에 나눠 맡기고
+ * 요청 스레드도 한 덩어리를 직접 처리한다. 풀 대기열이 가득 차면 요청 스레드가 그대로 처리하므로
+ * 부하가 몰려도 거부하지 않고 순차 검증으로 느려질 뿐이다.
+ * 유저 확인은 토큰마다 existsById 를 호출하지 않고 서명이 유효한 토큰의 userId 를 모아 한 번에 조회한다.
+ */
+@Slf4j(topic = "토큰 일괄 검증")
+@Service
+public class TokenIntrospectionService {
+
+    private final JwtUtil jwtUtil;
+    private final UserCacheRepository userCacheRepository;
+    private final TokenDenylist tokenDenylist;
+    private final ThreadPoolExecutor executor;
+    private final int parallelThreshold;
+
+    public TokenIntrospectionService(JwtUtil jwtUtil, UserCacheRepository userCacheRepository,
+        TokenDenylist tokenDenylist,
+        @Value("${introspection.threads:0}") int threads,
+        @Value("${introspection.queue-capacity:256}") int queueCapacity,
+        @Value("${introspection.parallel-threshold:16}") int parallelThreshold) {
+        this.jwtUtil = jwtUtil;
+        this.userCacheRepository = userCacheRepository;
+        this.tokenDenylist = tokenDenylist;
+        this.parallelThreshold = parallelThreshold;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "introspection-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 토큰 목록 검증
+     *
+     * @param tokens Bearer 접두어가 없는 access token 목록
+     * @return 요청과 같은 순서의 토큰별 결과
+     */
+    public TokenIntrospectionResponseDto introspect(List<String> tokens) {
+        Object[] verified = verifyAll(tokens);
+
+        // 서명이 유효한 토큰의 유저만 한 번에 조회
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (Object result : verified) {
+            if (result instanceof TokenClaims claims) {
+                userIds.add(claims.getUserId());
+            }
+        }
+        Map<Long, User> users = userIds.isEmpty() ? Map.of() : userCacheRepository.findAllById(userIds);
+
+        List<ResultDto> results = new ArrayList<>(verified.length);
+        for (Object result : verified) {
+            if (result instanceof TokenClaims claims) {
+                results.add(toResult(claims, users.get(claims.getUserId())));
+            } else {
+                results.add(ResultDto.inactive((Status) result));
+            }
+        }
+        return new TokenIntrospectionResponseDto(results);
+    }
+
+    /**
+     * 토큰별 서명/만료 검증, 각 칸에는 TokenClaims 또는 실패 Status 가 들어간다
+     */
+    private Object[] verifyAll(List<String> tokens) {
+        Object[] verified = new Object[tokens.size()];
+        if (tokens.size() < parallelThreshold) {
+            verifyRange(tokens, verified, 0, tokens.size());
+            return verified;
+        }
+
+        int chunks = Math.min(executor.getMaximumPoolSize() + 1, tokens.size());
+        int chunkSize = (tokens.size() + chunks - 1) / chunks;
+        List<Future<?>> futures = new ArrayList<>(chunks - 1);
+        for (int from = chunkSize; from < tokens.size(); from += chunkSize) {
+            int start = from;
+            int end = Math.min(from + chunkSize, tokens.size());
+            futures.add(executor.submit(() -> verifyRange(tokens, verified, start, end)));
+        }
+        // 첫 덩어리는 요청 스레드가 처리
+        verifyRange(tokens, verified, 0, Math.min(chunkSize, tokens.size()));
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            } catch (InterruptedException e) {
+                futures.forEach(f -> f.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("토큰 검증 중 인터럽트가 발생했습니다.", e);
+            }
+        }
+        return verified;
+    }
+
+    private void verifyRange(List<String> tokens, Object[] verified, int from, int to) {
+        for (int i = from; i < to; i++) {
+            verified[i] = verify(tokens.get(i));
+        }
+    }
+
+    private Object verify(String token) {
+        // 형식이 맞지 않으면 서명 검증과 예외 생성 없이 바로 INVALID
+        if (!TokenFormat.isWellFormed(token)) {
+            return Status.INVALID;
+        }
+        try {
+            TokenClaims claims = jwtUtil.verifyClaims(token);
+            // refresh token 이나 userId 가 없는 토큰은 access token 으로 인정하지 않는다
+            if (claims.getFamilyId() != null || claims.getUserId() == null) {
+                return Status.INVALID;
+            }
+            if (tokenDenylist.isRevoked(claims.getId())) {
+                return Status.REVOKED;
+            }
+            return claims;
+        } catch (ExpiredJwtException e) {
+            return Status.EXPIRED;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("토큰 검증 실패 : {}", e.getClass().getSimpleName());
+            return Status.INVALID;
+        }
+    }
+
+    private ResultDto toResult(TokenClaims claims, User user) {
+        if (user == null) {
+            return ResultDto.inactive(Status.USER_NOT_FOUND);
+        }
+        // 발급 이후 권한 변경/비밀번호 변경이 있었으면 폐기된 토큰
+        if (claims.getSecurityEpochOrDefault() < user.getSecurityEpoch()) {
+            return ResultDto.inactive(Status.REVOKED);
+        }
+        return new ResultDto(true, Status.ACTIVE, claims.getSubject(), claims.getUserId(), claims.getRole(),
+            claims.getIssuer(), claims.getId(), epochSeconds(claims.getIssuedAt()),
+            epochSeconds(claims.getExpiration()));
+    }
+
+    private static Long epochSeconds(Date date) {
+        return date == null ? null : date.getTime() / 1000;
+    }
+}
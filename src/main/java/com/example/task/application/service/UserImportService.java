@@ -0,0 +1,330 @@
+package com.example.task.application.service;
+
+import com.example.task.application.dto.UserImportResponseDto;
+import com.example.task.application.dto.UserImportResponseDto.FailureDto;
+import com.example.task.application.exception.ServiceOverloadedException;
+import com.example.task.domain.model.User;
+import com.example.task.domain.repository.UserBulkRepository;
+import com.example.task.domain.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * 유저 대량 등록
+ * <p>
+ * 요청 본문을 한 줄씩 읽어 batch-size 단위로 처리한다. batch 마다 검증과 중복 조회를 한 번에 하고,
+ * 비밀번호를 병렬로 해시한 뒤 JDBC batch 로 insert 한다.
+ * batch insert 가 실패하면 해당 batch 만 한 건씩 다시 넣어 실패한 레코드를 찾는다.
+ * <p>
+ * 해시는 로그인/회원 가입과 같은 PasswordHashingExecutor 에서 수행해 전체 BCrypt 스레드 수를 넘지 않게 하고,
+ * 동시에 맡기는 작업 수는 hash-parallelism(기본 코어 수의 절반)으로 제한해 로그인 처리 용량을 남겨 둔다.
+ * 대기열 초과 등으로 해시하지 못한 레코드는 해당 레코드만 실패로 기록한다.
+ */
+@Slf4j(topic = "유저 대량 등록")
+@Service
+public class UserImportService {
+
+    private final UserRepository userRepository;
+    private final UserBulkRepository userBulkRepository;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final SignupDuplicateFilter signupDuplicateFilter;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService hashExecutor;
+    private final int batchSize;
+    private final int maxReportedFailures;
+
+    public UserImportService(UserRepository userRepository, UserBulkRepository userBulkRepository,
+        PasswordHashingExecutor passwordHashingExecutor, SignupDuplicateFilter signupDuplicateFilter,
+        ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+        @Value("${user-import.batch-size:500}") int batchSize,
+        @Value("${user-import.hash-parallelism:0}") int hashParallelism,
+        @Value("${user-import.max-reported-failures:1000}") int maxReportedFailures) {
+        this.userRepository = userRepository;
+        this.userBulkRepository = userBulkRepository;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.signupDuplicateFilter = signupDuplicateFilter;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxReportedFailures = maxReportedFailures;
+
+        int threads = hashParallelism > 0
+            ? hashParallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.hashExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-hash-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdownNow();
+    }
+
+    /**
+     * 입력 스트림의 유저를 등록
+     *
+     * @param inputStream NDJSON 또는 CSV(username,password,nickname) 본문
+     * @param format 본문 형식
+     * @return 처리 결과와 레코드별 실패 사유
+     */
+    public UserImportResponseDto importUsers(InputStream inputStream, ImportFormat format) throws IOException {
+        log.info("유저 대량 등록 시작 format : {}", format);
+
+        ImportResult result = new ImportResult();
+        List<ImportRecord> batch = new ArrayList<>(batchSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (!StringUtils.hasText(line) || (format == ImportFormat.CSV && lineNumber == 1 && isCsvHeader(line))) {
+                continue;
+            }
+            result.totalCount++;
+
+            ImportRecord record = format == ImportFormat.CSV ? parseCsv(lineNumber, line) : parseJson(lineNumber, line);
+            if (record == null) {
+                result.fail(lineNumber, null, "형식이 올바르지 않습니다.");
+                continue;
+            }
+
+            batch.add(record);
+            if (batch.size() >= batchSize) {
+                processBatch(batch, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            processBatch(batch, result);
+        }
+
+        log.info("유저 대량 등록 완료 total : {}, imported : {}, failed : {}",
+            result.totalCount, result.importedCount, result.failedCount);
+        return new UserImportResponseDto(result.totalCount, result.importedCount, result.failedCount,
+            result.failures);
+    }
+
+    private void processBatch(List<ImportRecord> batch, ImportResult result) {
+        List<ImportRecord> candidates = new ArrayList<>(batch.size());
+        for (ImportRecord record : batch) {
+            String reason = validate(record, result);
+            if (reason != null) {
+                result.fail(record.line(), record.username(), reason);
+                continue;
+            }
+            candidates.add(record);
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // batch 전체의 DB 중복 여부를 컬럼별 쿼리 한 번으로 확인
+        Set<String> existingUsernames = new HashSet<>(
+            userRepository.findExistingUsernames(candidates.stream().map(ImportRecord::username).toList()));
+        Set<String> existingNicknames = new HashSet<>(
+            userRepository.findExistingNicknames(candidates.stream().map(ImportRecord::nickname).toList()));
+
+        List<ImportRecord> accepted = new ArrayList<>(candidates.size());
+        for (ImportRecord record : candidates) {
+            if (existingUsernames.contains(record.username())) {
+                result.fail(record.line(), record.username(), "중복된 아이디가 존재합니다.");
+            } else if (existingNicknames.contains(record.nickname())) {
+                result.fail(record.line(), record.username(), "중복된 닉네임이 존재합니다.");
+            } else {
+                accepted.add(record);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        // hashExecutor 는 해시 작업을 동시에 hash-parallelism 개까지만 PasswordHashingExecutor 에 맡긴다
+        List<CompletableFuture<User>> hashing = accepted.stream()
+            .map(record -> CompletableFuture.supplyAsync(() -> User.createUser(record.username(),
+                passwordHashingExecutor.encode(record.password()), record.nickname()), hashExecutor))
+            .toList();
+
+        List<ImportRecord> hashed = new ArrayList<>(accepted.size());
+        List<User> users = new ArrayList<>(accepted.size());
+        for (int i = 0; i < hashing.size(); i++) {
+            ImportRecord record = accepted.get(i);
+            try {
+                users.add(hashing.get(i).join());
+                hashed.add(record);
+            } catch (CompletionException e) {
+                log.warn("비밀번호 해시 실패 line : {}, cause : {}", record.line(), e.getCause().toString());
+                result.fail(record.line(), record.username(), e.getCause() instanceof ServiceOverloadedException
+                    ? "요청이 많아 비밀번호를 해시하지 못했습니다." : "비밀번호 해시에 실패했습니다.");
+            }
+        }
+        if (users.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> userBulkRepository.insertAll(users));
+            for (User user : users) {
+                signupDuplicateFilter.add(user.getUsername(), user.getNickname());
+            }
+            result.importedCount += users.size();
+        } catch (DataAccessException e) {
+            log.warn("batch insert 실패, 한 건씩 재시도 : {}", e.getMostSpecificCause().getMessage());
+            insertOneByOne(hashed, users, result);
+        }
+    }
+
+    private void insertOneByOne(List<ImportRecord> records, List<User> users, ImportResult result) {
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            try {
+                userBulkRepository.insert(user);
+                signupDuplicateFilter.add(user.getUsername(), user.getNickname());
+                result.importedCount++;
+            } catch (DataIntegrityViolationException e) {
+                result.fail(records.get(i).line(), user.getUsername(), "중복된 아이디 또는 닉네임이 존재합니다.");
+            } catch (DataAccessException e) {
+                result.fail(records.get(i).line(), user.getUsername(), "저장에 실패했습니다.");
+            }
+        }
+    }
+
+    // 회원 가입 요청 DTO 와 같은 검증 규칙, 파일 안에서의 중복도 함께 확인
+    private String validate(ImportRecord record, ImportResult result) {
+        if (!StringUtils.hasText(record.username())) {
+            return "Username은 필수 항목입니다.";
+        }
+        if (record.password() == null || record.password().length() < 4) {
+            return "Password는 최소 4자 이상이어야 합니다.";
+        }
+        if (!StringUtils.hasText(record.nickname())) {
+            return "Nickname은 필수 항목입니다.";
+        }
+        if (result.seenUsernames.contains(record.username())) {
+            return "중복된 아이디가 존재합니다.";
+        }
+        if (result.seenNicknames.contains(record.nickname())) {
+            return "중복된 닉네임이 존재합니다.";
+        }
+        result.seenUsernames.add(record.username());
+        result.seenNicknames.add(record.nickname());
+        return null;
+    }
+
+    private ImportRecord parseJson(long lineNumber, String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            if (!node.isObject()) {
+                return null;
+            }
+            return new ImportRecord(lineNumber, node.path("username").asText(null),
+                node.path("password").asText(null), node.path("nickname").asText(null));
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private ImportRecord parseCsv(long lineNumber, String line) {
+        List<String> fields = splitCsv(line);
+        if (fields == null || fields.size() != 3) {
+            return null;
+        }
+        return new ImportRecord(lineNumber, fields.get(0), fields.get(1), fields.get(2));
+    }
+
+    private static boolean isCsvHeader(String line) {
+        return line.trim().equalsIgnoreCase("username,password,nickname");
+    }
+
+    // 큰따옴표로 감싼 필드와 "" escape 를 지원하는 CSV 분리, 따옴표가 닫히지 않으면 null
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(3);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    public enum ImportFormat {
+        NDJSON, CSV;
+
+        public static ImportFormat fromContentType(String contentType) {
+            if (contentType != null && contentType.toLowerCase().startsWith("text/csv")) {
+                return CSV;
+            }
+            return NDJSON;
+        }
+    }
+
+    private record ImportRecord(long line, String username, String password, String nickname) {
+
+    }
+
+    private class ImportResult {
+
+        private final Set<String> seenUsernames = new HashSet<>();
+        private final Set<String> seenNicknames = new HashSet<>();
+        private final List<FailureDto> failures = new ArrayList<>();
+        private long totalCount;
+        private long importedCount;
+        private long failedCount;
+
+        private void fail(long line, String username, String reason) {
+            failedCount++;
+            if (failures.size() < maxReportedFailures) {
+                failures.add(new FailureDto(line, username, reason));
+            }
+        }
+    }
+}
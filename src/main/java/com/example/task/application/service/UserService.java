@@ -2,22 +2,33 @@ package com.example.task.application.service;
 
 import com.example.task.application.dto.UserLoginResponseDto;
 import com.example.task.application.dto.UserSignupResponseDto;
+import com.example.task.application.exception.RateLimitExceededException;
+import com.example.task.application.security.RateLimiter;
+import com.example.task.application.security.RateLimiter.Route;
+import com.example.task.application.security.TokenDenylist;
 import com.example.task.application.utils.JwtUtil;
+import com.example.task.application.utils.JwtUtil.RotatedRefreshToken;
+import com.example.task.application.utils.PhaseTimer;
+import com.example.task.application.utils.PhaseTimer.Phase;
+import com.example.task.application.utils.TokenClaims;
+import com.example.task.domain.event.UserSignedUpEvent;
 import com.example.task.domain.model.User;
-import com.example.task.domain.repository.RedisRepository;
+import com.example.task.domain.repository.UserCacheRepository;
 import com.example.task.domain.repository.UserRepository;
 import com.example.task.presentation.request.UserLoginRequestDto;
 import com.example.task.presentation.request.UserSignupRequestDto;
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,38 +38,75 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class UserService {
 
-    private final RedisRepository redisRepository;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UserCacheRepository userCacheRepository;
+    private final SignupDuplicateFilter signupDuplicateFilter;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final PasswordRehashService passwordRehashService;
+    private final RateLimiter rateLimiter;
+    private final PhaseTimer phaseTimer;
     private final JwtUtil jwtUtil;
+    private final TokenDenylist tokenDenylist;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${jwt.refresh-expiration}")
     private Long refreshExpiration;  // refresh token 만료 시간
 
     @Transactional
     public UserSignupResponseDto signupUser(UserSignupRequestDto requestDto) {
+        long startedAt = phaseTimer.start();
+        try {
+            return doSignupUser(requestDto);
+        } finally {
+            phaseTimer.stop(Phase.SIGNUP, startedAt);
+        }
+    }
+
+    private UserSignupResponseDto doSignupUser(UserSignupRequestDto requestDto) {
         log.info("회원 가입 로직");
 
         String username = requestDto.getUsername();
-        String encodedPassword = passwordEncoder.encode(requestDto.getPassword());
         String nickname = requestDto.getNickname();
 
+        // 중복 검사가 끝난 뒤에만 비용이 큰 BCrypt 해시를 수행
         verifySignupException(username, nickname);
 
+        String encodedPassword = passwordHashingExecutor.encode(requestDto.getPassword());
         User user = User.createUser(username, encodedPassword, nickname);
 
-        userRepository.save(user);
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // 사전 검사를 통과했더라도 unique 제약이 최종 판단
+            throw duplicatedException(username, nickname, e);
+        }
+        // 가입 중복 필터와 유저 캐시는 커밋 이후에 갱신, rollback 된 가입은 반영되지 않는다
+        eventPublisher.publishEvent(new UserSignedUpEvent(user.getUserId(), username, nickname));
 
         return UserSignupResponseDto.fromEntity(user);
     }
 
     public UserLoginResponseDto signUser(UserLoginRequestDto requestDto, HttpServletResponse response) {
+        long startedAt = phaseTimer.start();
+        try {
+            return doSignUser(requestDto, response);
+        } finally {
+            phaseTimer.stop(Phase.LOGIN, startedAt);
+        }
+    }
+
+    private UserLoginResponseDto doSignUser(UserLoginRequestDto requestDto, HttpServletResponse response) {
         log.info("로그인 로직");
 
         String username = requestDto.getUsername();
         String password = requestDto.getPassword();
 
-        User user = findUserByUsername(username);
+        // 계정 단위 제한은 유저 조회와 BCrypt 비교 전에 확인
+        verifyLoginRateLimit(username);
+
+        // 비밀번호 해시는 Redis 캐시에 없으므로 로컬 사본 또는 DB 에서 읽는다
+        User user = userCacheRepository.findWithPasswordByUsername(username).orElseThrow(() ->
+            new UsernameNotFoundException("해당 유저를 찾을 수 없습니다. :" + username));
 
         verifyPassword(password, user);
 
@@ -74,23 +122,47 @@ public class UserService {
     }
 
     public void reissueAccessToken(String refreshToken, HttpServletResponse response) {
+        long startedAt = phaseTimer.start();
+        try {
+            doReissueAccessToken(refreshToken, response);
+        } finally {
+            phaseTimer.stop(Phase.REISSUE, startedAt);
+        }
+    }
+
+    private void doReissueAccessToken(String refreshToken, HttpServletResponse response) {
         log.info("AccessToken 재발급 로직");
-        // Redis에서 refreshToken 유효성 확인
 
-        String storedToken = redisRepository.getValue(refreshToken);
-        if (storedToken == null || !storedToken.equals("true")) {
-            throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다.");
-        }
+        TokenClaims claims = jwtUtil.parseClaims(refreshToken);  // 서명, 만료 검증
 
-        Long userId = jwtUtil.getUserIdFromToken(refreshToken);  // 토큰에서 userId 추출
-        User user = userRepository.findById(userId).orElseThrow(() ->
-            new IllegalArgumentException("해당 유저는 존재하지 않습니다"));  // userId로 유저 조회
-        String newAccessToken = jwtUtil.createAccessToken(user);
+        // Redis 에서 refreshToken 유효성 확인과 교체, 유저 snapshot 조회를 한 번에 처리 (DB 조회 없음)
+        RotatedRefreshToken rotated = jwtUtil.rotateRefreshToken(refreshToken, claims);
+        String newRefreshToken = rotated.refreshToken();
+        String newAccessToken = jwtUtil.createAccessToken(rotated.user());
 
-        // 새로운 Access Token을 응답 헤더에 추가
+        // 새로운 Refresh Token 은 쿠키, Access Token 은 응답 헤더에 추가
+        addCookieToResponse(response, "refreshToken", newRefreshToken, refreshExpiration);
         addHeaderToResponse(response, newAccessToken);
     }
 
+    public void logoutAllDevices(String username) {
+        log.info("전체 기기 로그아웃 로직");
+
+        User user = findUserByUsername(username);
+        jwtUtil.revokeAllRefreshTokens(user.getUserId());
+    }
+
+    /**
+     * 요청에 사용된 access token 을 만료 전에 폐기
+     */
+    public void revokeAccessToken(HttpServletRequest request) {
+        log.info("AccessToken 폐기 로직");
+
+        String accessToken = jwtUtil.getJwtFromHeader(request, JwtUtil.AUTHORIZATION_HEADER);
+        TokenClaims claims = jwtUtil.parseClaims(accessToken);
+        tokenDenylist.revoke(claims.getId(), claims.getExpiration());
+    }
+
     private void addHeaderToResponse(HttpServletResponse response, String accessToken) {
         response.setHeader("Authorization", "Bearer " + accessToken);  // Authorization 헤더에 Access Token 추가
     }
@@ -105,16 +177,27 @@ public class UserService {
         response.addCookie(cookie);
     }
 
+    private void verifyLoginRateLimit(String username) {
+        long retryAfter = rateLimiter.tryAcquire(Route.LOGIN_USERNAME, username);
+        if (retryAfter > 0) {
+            log.warn("로그인 요청 수 제한 초과 username : {}", username);
+            throw new RateLimitExceededException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.", retryAfter);
+        }
+    }
+
     private void verifyPassword(String password, User user) {
-        boolean matches = passwordEncoder.matches(password, user.getPassword());
+        // BCrypt 비교는 요청 스레드가 아닌 전용 풀에서 수행, 풀이 가득 차면 503 으로 거부
+        boolean matches = passwordHashingExecutor.matches(password, user.getPassword());
         if (!matches) {
             log.warn("로그인 요청, 비밀번호 인증 실패 username: {}", user.getUsername());
             throw new BadCredentialsException("Invalid password for username: " + user.getUsername());
         }
+        // 이전 cost 로 저장된 해시는 응답과 별개로 백그라운드에서 교체
+        passwordRehashService.rehashIfNeeded(user, password);
     }
 
     private User findUserByUsername(String username) {
-        return userRepository.findByUsername(username).orElseThrow(() ->
+        return userCacheRepository.findByUsername(username).orElseThrow(() ->
             new UsernameNotFoundException("해당 유저를 찾을 수 없습니다. :" + username));
     }
 
@@ -124,6 +207,10 @@ public class UserService {
     }
 
     private void verifyDuplicatedUsername(String username) {
+        // Bloom filter 가 "확실히 없음" 이면 DB 조회 생략
+        if (!signupDuplicateFilter.mightContainUsername(username)) {
+            return;
+        }
         boolean value = userRepository.existsByUsername(username);
         if (value){
             log.warn("중복된 아이디로 회원 가입 실패 username : {}", username);
@@ -132,10 +219,25 @@ public class UserService {
     }
 
     private void verifyDuplicatedNickname(String nickname) {
+        if (!signupDuplicateFilter.mightContainNickname(nickname)) {
+            return;
+        }
         boolean value = userRepository.existsByNickname(nickname);
         if (value){
             log.warn("중복된 닉네임으로 회원 가입 실패 nickname : {}", nickname);
             throw new IllegalArgumentException("중복된 닉네임이 존재합니다.");
         }
     }
+
+    // MySQL 의 "Duplicate entry '값' for key ..." 메시지로 어느 컬럼이 중복인지 판단
+    private IllegalArgumentException duplicatedException(String username, String nickname,
+        DataIntegrityViolationException e) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage());
+        if (message.contains("'" + nickname + "'") && !message.contains("'" + username + "'")) {
+            log.warn("중복된 닉네임으로 회원 가입 실패 nickname : {}", nickname);
+            return new IllegalArgumentException("중복된 닉네임이 존재합니다.");
+        }
+        log.warn("중복된 아이디로 회원 가입 실패 username : {}", username);
+        return new IllegalArgumentException("중복된 아이디가 존재합니다.");
+    }
 }
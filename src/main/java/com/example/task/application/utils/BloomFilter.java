@@ -0,0 +1,119 @@
+package com.example.task.application.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 Bloom filter
+ * <p>
+ * mightContain 이 false 면 절대 추가된 적 없는 값이고, true 면 오탐(false positive)일 수 있다.
+ * 비트 배열은 AtomicLongArray 라서 lock 없이 여러 스레드에서 추가/조회할 수 있다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate 목표 오탐률 (0 ~ 1)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("잘못된 Bloom filter 설정입니다.");
+        }
+        long size = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(64, ((size + 63) / 64) * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitSize / 64));
+    }
+
+    public void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(h1 + i * h2));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            if (!getBit(index(h1 + i * h2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    private long index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    // UTF-8 byte 열에 대한 FNV-1a 64bit + 마무리 섞기 (murmur3 fmix64)
+    // 요청마다 호출되므로 byte 배열을 만들지 않고 char 에서 바로 UTF-8 byte 를 계산한다
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                hash = fnv(hash, c);
+            } else if (c < 0x800) {
+                hash = fnv(hash, 0xc0 | (c >> 6));
+                hash = fnv(hash, 0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                hash = fnv(hash, 0xf0 | (codePoint >> 18));
+                hash = fnv(hash, 0x80 | ((codePoint >> 12) & 0x3f));
+                hash = fnv(hash, 0x80 | ((codePoint >> 6) & 0x3f));
+                hash = fnv(hash, 0x80 | (codePoint & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                hash = fnv(hash, '?');  // 짝이 없는 surrogate 는 getBytes(UTF_8) 와 같이 '?' 로 취급
+            } else {
+                hash = fnv(hash, 0xe0 | (c >> 12));
+                hash = fnv(hash, 0x80 | ((c >> 6) & 0x3f));
+                hash = fnv(hash, 0x80 | (c & 0x3f));
+            }
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb3fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    // 기존 구현과 같은 값이 나오도록 byte 는 부호 확장해서 섞는다
+    private static long fnv(long hash, int unsignedByte) {
+        return (hash ^ (byte) unsignedByte) * 0x100000001b3L;
+    }
+}
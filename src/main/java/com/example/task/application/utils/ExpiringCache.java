@@ -0,0 +1,131 @@
+package com.example.task.application.utils;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기 상한과 항목별 만료 시각을 가지는 in-process 캐시
+ * <p>
+ * 상한에 도달하면 만료된 항목을 먼저 정리하고, 그래도 부족하면 상한의 1/16 만큼을 한 번에 비워
+ * put 마다 전체 순회가 일어나지 않도록 한다. 조회/쓰기는 lock 없이 동작한다.
+ *
+ * @param <K> key 타입
+ * @param <V> value 타입
+ */
+public class ExpiringCache<K, V> {
+
+    private final Map<K, Entry<V>> entries;
+    private final int maxSize;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public ExpiringCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize 는 0보다 커야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.entries = new ConcurrentHashMap<>(Math.min(maxSize, 1 << 16));
+    }
+
+    /**
+     * 만료되지 않은 값 조회
+     *
+     * @param key 조회 하려는 key 값
+     * @return 값이 없거나 만료되었으면 null
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            if (entries.remove(key, entry)) {
+                evictionCount.increment();
+            }
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return entry.value();
+    }
+
+    /**
+     * 값 저장
+     *
+     * @param key 저장하려는 key 값
+     * @param value 저장하려는 value 값
+     * @param expiresAtMillis 만료 시각 (epoch millis), 이미 지난 시각이면 저장하지 않는다
+     */
+    public void put(K key, V value, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        if (expiresAtMillis <= now) {
+            return;
+        }
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            makeRoom(now);
+        }
+        entries.put(key, new Entry<>(value, expiresAtMillis));
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private void makeRoom(long now) {
+        entries.entrySet().removeIf(e -> {
+            boolean expired = e.getValue().isExpired(now);
+            if (expired) {
+                evictionCount.increment();
+            }
+            return expired;
+        });
+
+        if (entries.size() < maxSize) {
+            return;
+        }
+
+        int toEvict = Math.max(1, maxSize >> 4);
+        Iterator<K> iterator = entries.keySet().iterator();
+        while (toEvict-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount.increment();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtMillis) {
+
+        boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+}
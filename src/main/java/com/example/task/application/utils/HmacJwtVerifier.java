@@ -0,0 +1,349 @@
+package com.example.task.application.utils;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Date;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+
+/**
+ * 이 서비스가 발급한 HMAC 토큰 전용 검증기
+ * <p>
+ * header 가 발급 시와 완전히 같고 payload 가 알려진 claim 으로만 이루어진 토큰만 처리한다.
+ * Mac 과 버퍼는 풀에서 꺼내 재사용하고(virtual thread 에서도 재사용되도록 ThreadLocal 대신 풀 사용), base64url 을 토큰 문자열에서 바로 디코딩하며,
+ * payload 는 범용 map 없이 필요한 claim 만 읽는다.
+ * 모양이 다르면 null 을 반환하므로 호출 측은 jjwt 로 다시 검증해야 한다.
+ */
+final class HmacJwtVerifier {
+
+    static final int MAX_TOKEN_LENGTH = 4096;
+
+    private static final byte[] DECODE_TABLE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE_TABLE[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private static final int MAX_IDLE_WORKSPACES = 256;
+
+    private final String expectedHeader;
+    private final ObjectPool<Workspace> workspaces;
+
+    HmacJwtVerifier(SecretKey secretKey) {
+        // jjwt 가 이 키로 만드는 header 를 그대로 기대값으로 사용
+        String probe = Jwts.builder().subject("probe").signWith(secretKey).compact();
+        this.expectedHeader = probe.substring(0, probe.indexOf('.'));
+        this.workspaces = new ObjectPool<>(() -> new Workspace(newMac(secretKey)), MAX_IDLE_WORKSPACES);
+    }
+
+    /**
+     * 토큰 검증
+     *
+     * @param token Bearer prefix 를 제거한 토큰
+     * @return 검증된 claim, 처리할 수 없는 모양이면 null
+     * @throws SignatureException 서명이 일치하지 않을 때
+     * @throws ExpiredJwtException 만료된 토큰일 때
+     */
+    TokenClaims verify(String token) {
+        int length = token.length();
+        int headerLength = expectedHeader.length();
+        if (length > MAX_TOKEN_LENGTH
+            || length <= headerLength
+            || token.charAt(headerLength) != '.'
+            || !token.startsWith(expectedHeader)) {
+            return null;
+        }
+        int secondDot = token.indexOf('.', headerLength + 1);
+        if (secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            return null;
+        }
+
+        Workspace workspace = workspaces.acquire();
+        TokenClaims claims;
+        try {
+            claims = verifySignatureAndRead(token, headerLength, secondDot, workspace);
+        } finally {
+            workspace.mac.reset();
+            workspaces.release(workspace);
+        }
+        if (claims == null) {
+            return null;
+        }
+
+        Date expiration = claims.getExpiration();
+        if (expiration != null && System.currentTimeMillis() > expiration.getTime()) {
+            throw new ExpiredJwtException(null, null, "JWT expired at " + expiration.toInstant());
+        }
+        return claims;
+    }
+
+    // 서명을 확인하고 payload 를 읽는다, 처리할 수 없는 모양이면 null
+    private static TokenClaims verifySignatureAndRead(String token, int headerLength, int secondDot,
+        Workspace workspace) {
+        int length = token.length();
+        byte[] buffer = workspace.buffer;
+        for (int i = 0; i < secondDot; i++) {
+            char c = token.charAt(i);
+            if (c > 0x7f) {
+                return null;
+            }
+            buffer[i] = (byte) c;
+        }
+
+        Mac mac = workspace.mac;
+        byte[] expected = workspace.macOutput;
+        mac.update(buffer, 0, secondDot);
+        try {
+            mac.doFinal(expected, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+
+        int payloadLength = decode(token, headerLength + 1, secondDot, buffer);
+        if (payloadLength < 0) {
+            return null;
+        }
+        byte[] signature = workspace.signature;
+        int signatureLength = decode(token, secondDot + 1, length, signature);
+        if (signatureLength < 0) {
+            return null;
+        }
+        if (!constantTimeEquals(expected, signature, signatureLength)) {
+            throw new SignatureException("JWT signature does not match locally computed signature.");
+        }
+
+        return new ClaimsReader(buffer, payloadLength).read();
+    }
+
+    private static Mac newMac(SecretKey secretKey) {
+        try {
+            Mac mac = Mac.getInstance(secretKey.getAlgorithm());
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean constantTimeEquals(byte[] expected, byte[] actual, int actualLength) {
+        if (expected.length != actualLength) {
+            return false;
+        }
+        int result = 0;
+        for (int i = 0; i < actualLength; i++) {
+            result |= expected[i] ^ actual[i];
+        }
+        return result == 0;
+    }
+
+    // 검증 한 번에 필요한 Mac 과 버퍼 묶음
+    private static final class Workspace {
+
+        private final Mac mac;
+        private final byte[] macOutput;
+        private final byte[] signature;
+        private final byte[] buffer = new byte[MAX_TOKEN_LENGTH];
+
+        private Workspace(Mac mac) {
+            this.mac = mac;
+            this.macOutput = new byte[mac.getMacLength()];
+            this.signature = new byte[mac.getMacLength() + 3];
+        }
+    }
+
+    /**
+     * padding 없는 base64url 구간을 out 의 앞부분에 디코딩
+     *
+     * @return 디코딩된 byte 수, 알파벳 밖의 문자가 있거나 길이가 맞지 않으면 -1
+     */
+    static int decode(String source, int from, int to, byte[] out) {
+        int length = to - from;
+        if (length % 4 == 1 || (length / 4) * 3 + 3 > out.length) {
+            return -1;
+        }
+        int written = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = from; i < to; i++) {
+            char c = source.charAt(i);
+            int value = c < 128 ? DECODE_TABLE[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                out[written++] = (byte) (bits >> bitCount);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * 한 단계 깊이의 JSON object 에서 알려진 claim 만 읽는다.
+     * escape, 중첩 구조, 소수, 모르는 claim 이 있으면 null 을 반환한다.
+     */
+    private static final class ClaimsReader {
+
+        private final byte[] json;
+        private final int length;
+        private int pos;
+
+        private String issuer;
+        private String id;
+        private String subject;
+        private String role;
+        private Long userId;
+        private Long issuedAt;
+        private Long expiration;
+        private Long securityEpoch;
+        private String familyId;
+
+        private ClaimsReader(byte[] json, int length) {
+            this.json = json;
+            this.length = length;
+        }
+
+        private TokenClaims read() {
+            skipWhitespace();
+            if (!consume('{')) {
+                return null;
+            }
+            skipWhitespace();
+            if (consume('}')) {
+                return toClaims();
+            }
+            do {
+                skipWhitespace();
+                String name = readString();
+                skipWhitespace();
+                if (name == null || !consume(':')) {
+                    return null;
+                }
+                skipWhitespace();
+                if (!readValue(name)) {
+                    return null;
+                }
+                skipWhitespace();
+            } while (consume(','));
+
+            if (!consume('}')) {
+                return null;
+            }
+            skipWhitespace();
+            return pos == length ? toClaims() : null;
+        }
+
+        private boolean readValue(String name) {
+            switch (name) {
+                case "iss" -> {
+                    issuer = readString();
+                    return issuer != null;
+                }
+                case "jti" -> {
+                    id = readString();
+                    return id != null;
+                }
+                case "sub" -> {
+                    subject = readString();
+                    return subject != null;
+                }
+                case "role" -> {
+                    role = readString();
+                    return role != null;
+                }
+                case "user_id" -> {
+                    userId = readLong();
+                    return userId != null;
+                }
+                case "iat" -> {
+                    issuedAt = readLong();
+                    return issuedAt != null;
+                }
+                case "exp" -> {
+                    expiration = readLong();
+                    return expiration != null;
+                }
+                case "epoch" -> {
+                    securityEpoch = readLong();
+                    return securityEpoch != null;
+                }
+                case "fam" -> {
+                    familyId = readString();
+                    return familyId != null;
+                }
+                default -> {
+                    return false;
+                }
+            }
+        }
+
+        private TokenClaims toClaims() {
+            return new TokenClaims(issuer, id, subject, role, userId,
+                issuedAt == null ? null : new Date(issuedAt * 1000),
+                expiration == null ? null : new Date(expiration * 1000),
+                securityEpoch, familyId);
+        }
+
+        private String readString() {
+            if (!consume('"')) {
+                return null;
+            }
+            int start = pos;
+            while (pos < length) {
+                byte b = json[pos];
+                if (b == '"') {
+                    String value = new String(json, start, pos - start, StandardCharsets.UTF_8);
+                    pos++;
+                    return value;
+                }
+                if (b == '\\' || (b >= 0 && b < 0x20)) {
+                    return null;
+                }
+                pos++;
+            }
+            return null;
+        }
+
+        private Long readLong() {
+            boolean negative = consume('-');
+            int start = pos;
+            long value = 0;
+            while (pos < length && json[pos] >= '0' && json[pos] <= '9') {
+                if (pos - start >= 18) {
+                    return null;
+                }
+                value = value * 10 + (json[pos] - '0');
+                pos++;
+            }
+            if (pos == start || (pos < length && (json[pos] == '.' || json[pos] == 'e' || json[pos] == 'E'))) {
+                return null;
+            }
+            return negative ? -value : value;
+        }
+
+        private boolean consume(char c) {
+            if (pos < length && json[pos] == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (pos < length && (json[pos] == ' ' || json[pos] == '\t' || json[pos] == '\n' || json[pos] == '\r')) {
+                pos++;
+            }
+        }
+    }
+}
@@ -1,24 +1,36 @@
 package com.example.task.application.utils;
 
+import com.example.task.application.exception.InvalidTokenException;
+import com.example.task.application.exception.InvalidTokenException.Reason;
+import com.example.task.application.utils.PhaseTimer.Phase;
+import com.example.task.application.utils.SigningKeyRing.SigningKey;
+import com.example.task.domain.event.UserSecurityChangedEvent;
 import com.example.task.domain.model.User;
-import com.example.task.domain.repository.RedisRepository;
-import com.example.task.domain.repository.UserRepository;
+import com.example.task.domain.model.UserSnapshot;
+import com.example.task.domain.repository.RefreshTokenRepository;
+import com.example.task.domain.repository.RefreshTokenRepository.Rotation;
+import com.example.task.domain.repository.RefreshTokenRepository.RotationResult;
+import com.example.task.domain.repository.UserCacheRepository;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
-import java.util.UUID;
 import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.util.StringUtils;
 
 @Component
@@ -29,10 +41,16 @@ public class JwtUtil {
     public static final String REFRESH_HEADER = "Refresh";
     public static final String BEARER_PREFIX = "Bearer ";
 
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final HmacJwtVerifier hmacJwtVerifier;
     private final String issuer;
-    private final RedisRepository redisRepository;
-    private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserCacheRepository userCacheRepository;
+    private final PhaseTimer phaseTimer;
+    private final SigningKeyRing signingKeyRing;
 
     @Value("${jwt.access-expiration}")
     private Long accessExpiration;
@@ -41,42 +59,181 @@ public class JwtUtil {
 
     public JwtUtil(
         @Value("${jwt.secret}") String secretKey, @Value("${jwt.issuer}")String issuer,
-        RedisRepository redisRepository,
-        UserRepository userRepository) {
+        RefreshTokenRepository refreshTokenRepository,
+        UserCacheRepository userCacheRepository, PhaseTimer phaseTimer, SigningKeyRing signingKeyRing) {
         this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secretKey));
+        // kid 가 있는 토큰은 key ring 의 공개키, 없으면 HMAC secret 으로 검증
+        this.jwtParser = Jwts.parser().keyLocator(signingKeyRing.keyLocator(this.secretKey)).build();
+        this.hmacJwtVerifier = new HmacJwtVerifier(this.secretKey);
         this.issuer = issuer;
-        this.redisRepository = redisRepository;
-        this.userRepository = userRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userCacheRepository = userCacheRepository;
+        this.phaseTimer = phaseTimer;
+        this.signingKeyRing = signingKeyRing;
     }
 
     public String createAccessToken(User user) {
-        return generateToken(user, accessExpiration);
+        return generateToken(user, accessExpiration, newTokenId(), null);
     }
 
     /**
-     * refreshToken redis 저장후 반환
+     * 새 token family 로 refreshToken 발급, redis 저장후 반환
      * @param user
      * @return
      */
     public String createRefreshToken(User user) {
-        String refreshToken = generateToken(user, refreshExpiration);
+        String familyId = newTokenId();
+        String tokenId = newTokenId();
+        String refreshToken = generateToken(user, refreshExpiration, tokenId, familyId);
 
-        redisRepository.save(refreshToken, "true");
-        redisRepository.setExpire(refreshToken, refreshExpiration);
+        refreshTokenRepository.createFamily(UserSnapshot.from(user), familyId, tokenId,
+            Duration.ofMillis(refreshExpiration));
 
         return refreshToken;
     }
 
-    private String generateToken(User user, Long expirationTime) {
-        return Jwts.builder()
+    /**
+     * 제시된 refreshToken 을 폐기하고 같은 family 의 새 refreshToken 발급
+     * 이미 교체된 토큰이 다시 들어오면 탈취로 보고 family 전체를 폐기한다.
+     * <p>
+     * 교체와 함께 Redis 에 저장된 유저 snapshot 을 받아 서명하므로 DB 를 조회하지 않는다.
+     * snapshot 이 없는 이전 family 나 이전 구조의 토큰만 유저를 조회하고 snapshot 을 저장한다.
+     * 토큰 발급 이후 권한/비밀번호가 변경되었으면(epoch claim 이 유저의 epoch 보다 작으면) family 를 폐기하고 거부한다.
+     *
+     * @param refreshToken 제시된 refreshToken
+     * @param claims 검증된 refreshToken 의 claim
+     * @return 새 refreshToken 과 토큰 서명에 사용한 유저
+     * @throws InvalidTokenException 토큰 발급 이후 security epoch 가 증가했을 때
+     */
+    public RotatedRefreshToken rotateRefreshToken(String refreshToken, TokenClaims claims) {
+        if (claims.getFamilyId() == null) {
+            // family 도입 이전에 발급된 토큰은 저장된 값을 소비하고 새 family 로 전환
+            String storedToken = refreshTokenRepository.consumeLegacyToken(refreshToken);
+            if (storedToken == null || !(storedToken.equals("true") || storedToken.equals("\"true\""))) {
+                throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다.");
+            }
+            User user = findUser(claims.getUserId());
+            verifySecurityEpoch(claims, user, null);
+            return new RotatedRefreshToken(createRefreshToken(user), user);
+        }
+
+        String familyId = claims.getFamilyId();
+        String newTokenId = newTokenId();
+        Duration ttl = Duration.ofMillis(refreshExpiration);
+        RotationResult result;
+        UserSnapshot snapshot = null;
+        if (isPreviousFamilyId(familyId)) {
+            // 이전 key 구조로 저장된 family 는 교체하면서 새 구조로 옮긴다
+            familyId = newTokenId();
+            result = refreshTokenRepository.migrateFamily(claims.getUserId(), claims.getFamilyId(), claims.getId(),
+                familyId, newTokenId, ttl);
+        } else {
+            // snapshot 의 epoch 가 토큰보다 크면 스크립트가 family 를 폐기하고 STALE 을 돌려준다
+            Rotation rotation = refreshTokenRepository.rotate(claims.getUserId(), familyId, claims.getId(),
+                claims.getSecurityEpochOrDefault(), newTokenId, ttl);
+            result = rotation.result();
+            snapshot = rotation.user();
+        }
+
+        if (result == RotationResult.REUSED) {
+            log.warn("재사용된 Refresh Token, token family 폐기 userId : {}", claims.getUserId());
+        }
+        if (result == RotationResult.STALE) {
+            log.warn("권한/비밀번호 변경 이전의 Refresh Token, token family 폐기 userId : {}", claims.getUserId());
+            throw new InvalidTokenException(Reason.USER_VERIFICATION_FAILED);
+        }
+        if (result != RotationResult.ROTATED) {
+            throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다.");
+        }
+
+        User user;
+        if (snapshot != null) {
+            user = snapshot.toUser();
+        } else {
+            // snapshot 이 없으면 스크립트가 비교하지 못하므로 DB 의 epoch 와 비교
+            user = findUser(claims.getUserId());
+            verifySecurityEpoch(claims, user, familyId);
+            refreshTokenRepository.saveUserSnapshot(UserSnapshot.from(user), ttl);
+        }
+        return new RotatedRefreshToken(generateToken(user, refreshExpiration, newTokenId, familyId), user);
+    }
+
+    // 변경 전에 발급된 refresh token 으로 새 epoch 의 토큰을 만들지 못하게 한다
+    private void verifySecurityEpoch(TokenClaims claims, User user, String familyId) {
+        if (claims.getSecurityEpochOrDefault() >= user.getSecurityEpoch()) {
+            return;
+        }
+        if (familyId != null) {
+            refreshTokenRepository.revokeFamily(user.getUserId(), familyId);
+        }
+        log.warn("권한/비밀번호 변경 이전의 Refresh Token, token family 폐기 userId : {}", user.getUserId());
+        throw new InvalidTokenException(Reason.USER_VERIFICATION_FAILED);
+    }
+
+    /**
+     * 권한/비밀번호가 바뀌면 재발급에 사용할 유저 snapshot 도 새 값으로 교체
+     * 변경 이전에 발급된 refresh token 은 새 snapshot 의 epoch 보다 작으므로 재발급 시 family 와 함께 폐기된다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+        refreshTokenRepository.saveUserSnapshot(
+            new UserSnapshot(event.userId(), event.username(), event.authority(), event.securityEpoch()),
+            Duration.ofMillis(refreshExpiration));
+    }
+
+    /**
+     * 유저의 모든 refreshToken 폐기 (전체 기기 로그아웃)
+     */
+    public void revokeAllRefreshTokens(Long userId) {
+        long revoked = refreshTokenRepository.revokeAll(userId);
+        log.info("전체 기기 로그아웃 userId : {}, family : {}", userId, revoked);
+    }
+
+    private User findUser(Long userId) {
+        return userCacheRepository.findById(userId).orElseThrow(() ->
+            new IllegalArgumentException("해당 유저는 존재하지 않습니다"));
+    }
+
+    // 128bit 난수를 base64url 로 인코딩한 22자 id
+    private String newTokenId() {
+        byte[] bytes = new byte[16];
+        SECURE_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    // 이전 구조의 family id 는 UUID 문자열(36자)
+    private boolean isPreviousFamilyId(String familyId) {
+        return familyId.length() == 36;
+    }
+
+    private String generateToken(User user, Long expirationTime, String tokenId, String familyId) {
+        long startedAt = phaseTimer.start();
+        try {
+            return buildToken(user, expirationTime, tokenId, familyId);
+        } finally {
+            phaseTimer.stop(Phase.TOKEN_SIGN, startedAt);
+        }
+    }
+
+    private String buildToken(User user, Long expirationTime, String tokenId, String familyId) {
+        JwtBuilder builder = Jwts.builder()
             .issuer(issuer)
-            .id(user.getUserId().toString())
+            .id(tokenId)
             .subject(user.getUsername())
             .claim("role", user.getAuthority())
             .claim("user_id", user.getUserId())
+            .claim("epoch", user.getSecurityEpoch())
+            .claim("fam", familyId)  // null 이면 포함되지 않음
             .issuedAt(new Date())
-            .expiration(new Date(System.currentTimeMillis() + expirationTime))
-            .signWith(secretKey)  // HMAC SHA-256 알고리즘으로 서명
+            .expiration(new Date(System.currentTimeMillis() + expirationTime));
+
+        // refresh token 은 이 서비스만 검증하므로 key ring 이 있어도 비용이 낮은 HMAC 으로 서명
+        if (familyId != null || signingKeyRing.isEmpty()) {
+            return builder.signWith(secretKey).compact();  // HMAC SHA-256 알고리즘으로 서명
+        }
+        SigningKey signingKey = signingKeyRing.currentSigningKey(Instant.now());
+        return builder.header().keyId(signingKey.getKid()).and()
+            .signWith(signingKey.getPrivateKey(), signingKey.getAlgorithm().getSignatureAlgorithm())
             .compact();
     }
 
@@ -86,23 +243,63 @@ public class JwtUtil {
      * @return
      */
     public Long getUserIdFromToken(String refreshToken) {
-        Jws<Claims> claims = parseToken(refreshToken);
-        return claims.getPayload().get("user_id", Long.class);
+        return parseClaims(refreshToken).getUserId();
+    }
+
+    /**
+     * 토큰 검증 후 claim 반환
+     * 형식이 맞지 않는 토큰은 서명 검증 없이 거부하고, 이 서비스가 발급한 모양의 토큰은 전용 검증기로 처리하며,
+     * 그 외에는 jjwt 로 검증한다.
+     *
+     * @throws InvalidTokenException 형식 오류, 서명 불일치, 만료
+     */
+    public TokenClaims parseClaims(final String token) {
+        if (!TokenFormat.isWellFormed(token)) {
+            throw new InvalidTokenException(Reason.MALFORMED);
+        }
+        long startedAt = phaseTimer.start();
+        try {
+            return verifyClaims(token);
+        } catch (JwtException e) {
+            throw translateException(e);
+        } finally {
+            phaseTimer.stop(Phase.TOKEN_PARSE, startedAt);
+        }
+    }
+
+    /**
+     * parseClaims 와 같은 검증이지만 jjwt 예외를 변환하거나 로그를 남기지 않고 그대로 던진다
+     * 일괄 검증처럼 실패가 흔하고 호출 측에서 예외 종류로 결과를 구분하는 경우에 사용
+     *
+     * @throws JwtException 서명 불일치, 만료, 형식 오류
+     */
+    public TokenClaims verifyClaims(final String token) {
+        TokenClaims claims = hmacJwtVerifier.verify(token);
+        if (claims != null) {
+            return claims;
+        }
+        return TokenClaims.from(jwtParser.parseSignedClaims(token).getPayload());
     }
 
     public Jws<Claims> parseToken(final String token) {
+        if (!TokenFormat.isWellFormed(token)) {
+            throw new InvalidTokenException(Reason.MALFORMED);
+        }
         try {
-            return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
-        } catch (ExpiredJwtException e) {
-            log.info("토큰이 만료되었습니다: {}", e.getMessage());
-            throw new RuntimeException("토큰이 만료되었습니다.");
+            return jwtParser.parseSignedClaims(token);
         } catch (JwtException e) {
-            log.error("유효하지 않은 토큰입니다: {}", e.getMessage());
-            throw new RuntimeException("유효하지 않은 토큰입니다.");
+            throw translateException(e);
+        }
+    }
+
+    // 잘못된 토큰은 공격 상황에서 요청마다 들어오므로 ERROR 로그와 stack trace 를 남기지 않는다
+    private InvalidTokenException translateException(JwtException e) {
+        if (e instanceof ExpiredJwtException) {
+            log.debug("토큰이 만료되었습니다: {}", e.getMessage());
+            return new InvalidTokenException(Reason.EXPIRED);
         }
+        log.debug("유효하지 않은 토큰입니다: {}", e.getMessage());
+        return new InvalidTokenException(Reason.INVALID);
     }
 
     // header 에서 JWT 가져오기
@@ -122,15 +319,29 @@ public class JwtUtil {
         throw new NullPointerException("Not Found Token");
     }
 
-    public Claims verifyJwt(String token) {
-        Jws<Claims> jws = parseToken(token);
-        Claims claims = jws.getPayload();
-        Long userId = claims.get("user_id", Long.class);
+    public TokenClaims verifyJwt(String token) {
+        TokenClaims claims = parseClaims(token);
+        Long userId = claims.getUserId();
+
+        long startedAt = phaseTimer.start();
+        boolean exists;
+        try {
+            exists = userCacheRepository.existsById(userId);
+        } finally {
+            phaseTimer.stop(Phase.USER_EXISTS, startedAt);
+        }
 
-        if(userRepository.existsById(userId)){
+        if(exists){
             return claims;
         }else{
-            throw new RuntimeException("유저 검증에 실패했습니다.");
+            throw new InvalidTokenException(Reason.USER_VERIFICATION_FAILED);
         }
     }
+
+    /**
+     * @param refreshToken 새 refreshToken
+     * @param user 서명에 사용한 유저, snapshot 에서 만든 경우 비밀번호와 닉네임이 비어 있다
+     */
+    public record RotatedRefreshToken(String refreshToken, User user) {
+    }
 }
@@ -0,0 +1,48 @@
+package com.example.task.application.utils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 생성 비용이 있는 재사용 객체(Mac, MessageDigest, 버퍼 등)의 lock-free 풀
+ * <p>
+ * ThreadLocal 은 스레드가 재사용될 때만 효과가 있어서, 요청마다 새 virtual thread 가 만들어지면
+ * 매번 새 객체를 만들게 된다. 이 풀은 스레드와 무관하게 반납된 객체를 다시 꺼내 쓰고,
+ * 비어 있으면 새로 만들며, maxIdle 을 넘는 반납분은 버린다.
+ *
+ * @param <T> 풀링할 객체 타입
+ */
+public class ObjectPool<T> {
+
+    private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final Supplier<T> factory;
+    private final int maxIdle;
+
+    public ObjectPool(Supplier<T> factory, int maxIdle) {
+        this.factory = factory;
+        this.maxIdle = maxIdle;
+    }
+
+    public T acquire() {
+        T object = idle.poll();
+        if (object == null) {
+            return factory.get();
+        }
+        idleCount.decrementAndGet();
+        return object;
+    }
+
+    /**
+     * 사용이 끝난 객체 반납, 반납 후에는 사용하면 안 된다
+     */
+    public void release(T object) {
+        if (idleCount.incrementAndGet() > maxIdle) {
+            idleCount.decrementAndGet();
+            return;
+        }
+        idle.offer(object);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.task.application.utils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 처리 단계별 소요 시간 Micrometer timer
+ * <p>
+ * 단계는 {@link Phase} 로 고정되어 있어 tag 조합 수가 늘어나지 않는다.
+ * 사용법은 start() 로 시작 시각을 받고 finally 에서 stop(phase, start) 를 호출하는 것이며,
+ * 비활성화(metrics.phase-timer.enabled=false) 상태에서는 둘 다 바로 반환해 System.nanoTime 호출도 하지 않는다.
+ */
+@Component
+public class PhaseTimer {
+
+    public enum Phase {
+        AUTH_FILTER("auth.phase", "filter"),
+        TOKEN_CACHE("auth.phase", "token-cache"),
+        TOKEN_PARSE("auth.phase", "jwt-parse"),
+        TOKEN_SIGN("auth.phase", "jwt-sign"),
+        USER_EXISTS("auth.phase", "exists-by-id"),
+        LOAD_USER("auth.phase", "load-user"),
+        SECURITY_EPOCH("auth.phase", "security-epoch"),
+        LOGIN("auth.phase", "login"),
+        SIGNUP("auth.phase", "signup"),
+        REISSUE("auth.phase", "reissue"),
+        BCRYPT_MATCHES("auth.phase", "bcrypt-matches"),
+        BCRYPT_ENCODE("auth.phase", "bcrypt-encode"),
+        REDIS_GET("redis.command", "get"),
+        REDIS_MGET("redis.command", "mget"),
+        REDIS_SET("redis.command", "set"),
+        REDIS_SET_PIPELINE("redis.command", "set-pipeline"),
+        REDIS_EXPIRE("redis.command", "expire"),
+        REDIS_TTL("redis.command", "ttl"),
+        REDIS_DELETE("redis.command", "del"),
+        REDIS_PUBLISH("redis.command", "publish"),
+        REDIS_XADD("redis.command", "xadd"),
+        REDIS_XREAD("redis.command", "xread");
+
+        private final String meterName;
+        private final String tagValue;
+
+        Phase(String meterName, String tagValue) {
+            this.meterName = meterName;
+            this.tagValue = tagValue;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final boolean enabled;
+    private final Timer[] timers;
+
+    @Autowired
+    public PhaseTimer(MeterRegistry meterRegistry,
+        @Value("${metrics.phase-timer.enabled:true}") boolean enabled,
+        @Value("${metrics.phase-timer.histogram:true}") boolean histogram) {
+        this.enabled = enabled;
+        this.timers = new Timer[PHASES.length];
+        if (!enabled) {
+            return;
+        }
+        for (Phase phase : PHASES) {
+            timers[phase.ordinal()] = Timer.builder(phase.meterName)
+                .tag(phase.meterName.startsWith("redis") ? "command" : "phase", phase.tagValue)
+                .publishPercentileHistogram(histogram)
+                .minimumExpectedValue(Duration.ofNanos(10_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 아무것도 기록하지 않는 timer (테스트, 벤치마크용)
+     */
+    public static PhaseTimer disabled() {
+        return new PhaseTimer(null, false, false);
+    }
+
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void stop(Phase phase, long startedAt) {
+        if (enabled) {
+            timers[phase.ordinal()].record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.task.application.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 토큰 id(jti) 의 로컬 집합
+ * <p>
+ * 대부분의 토큰은 폐기되지 않았으므로 Bloom filter 에서 바로 false 로 끝나고,
+ * 필터가 true 를 준 경우에만 정확한 map 에서 만료 시각까지 확인해 오탐을 걸러낸다.
+ * Bloom filter 는 원소를 지울 수 없기 때문에 만료 항목을 정리할 때 남은 항목으로 다시 만들어 교체한다.
+ * 조회는 lock 이 없고, 추가와 재구성만 서로 배타적으로 수행한다.
+ */
+public class RevokedTokenSet {
+
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+    private final ConcurrentHashMap<String, Long> expirations = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private volatile BloomFilter filter;
+
+    /**
+     * @param expectedEntries 동시에 유지될 것으로 예상하는 폐기 토큰 수
+     * @param falsePositiveRate Bloom filter 목표 오탐률
+     */
+    public RevokedTokenSet(long expectedEntries, double falsePositiveRate) {
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    /**
+     * 폐기 토큰 추가, 이미 있으면 더 늦은 만료 시각을 남긴다
+     *
+     * @param tokenId 토큰 jti
+     * @param expiresAt 토큰 exp (epoch 밀리초), 이 시각 이후에는 토큰 자체가 만료되므로 항목도 필요 없다
+     */
+    public void add(String tokenId, long expiresAt) {
+        synchronized (writeLock) {
+            // map 을 먼저 채워야 필터를 통과한 조회가 항목을 놓치지 않는다
+            expirations.merge(tokenId, expiresAt, Math::max);
+            filter.put(tokenId);
+        }
+    }
+
+    /**
+     * @param tokenId 토큰 jti
+     * @param now 현재 시각 (epoch 밀리초)
+     * @return 폐기되었고 아직 만료되지 않은 토큰이면 true
+     */
+    public boolean contains(String tokenId, long now) {
+        if (!filter.mightContain(tokenId)) {
+            return false;
+        }
+        Long expiresAt = expirations.get(tokenId);
+        return expiresAt != null && expiresAt > now;
+    }
+
+    /**
+     * 만료된 항목 제거, 제거된 항목이 있으면 Bloom filter 를 다시 만든다
+     *
+     * @param now 현재 시각 (epoch 밀리초)
+     * @return 제거된 항목 수
+     */
+    public int purgeExpired(long now) {
+        synchronized (writeLock) {
+            int before = expirations.size();
+            expirations.values().removeIf(expiresAt -> expiresAt <= now);
+            int removed = before - expirations.size();
+            if (removed > 0) {
+                BloomFilter rebuilt = new BloomFilter(expectedEntries, falsePositiveRate);
+                expirations.keySet().forEach(rebuilt::put);
+                filter = rebuilt;
+            }
+            return removed;
+        }
+    }
+
+    public int size() {
+        return expirations.size();
+    }
+
+    public long getExpectedEntries() {
+        return expectedEntries;
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.task.application.utils;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.SecretKey;
+import lombok.Getter;
+
+/**
+ * access token 서명용 비대칭 키 목록 (kid 로 구분)
+ * <p>
+ * 키마다 서명 시작 시각(activateAt)과 폐기 시각(retireAt)을 가지며, 서명에는 시작된 키 중 가장 최근 키를 사용한다.
+ * 검증과 JWKS 공개는 폐기되지 않은 모든 키를 대상으로 하므로,
+ * 새 키는 서명 시작 전에 JWKS 로 먼저 배포되고 이전 키는 마지막으로 서명한 토큰이 만료될 때까지 검증에 남는 식으로 기간을 겹쳐 교체한다.
+ * <p>
+ * 검증 시 키는 미리 만든 kid map 에서 한 번에 찾는다. 목록이 비어 있으면 기존처럼 HMAC secret 으로만 서명한다.
+ */
+public class SigningKeyRing {
+
+    public enum Algorithm {
+        ES256("EC", Jwts.SIG.ES256),
+        EDDSA("Ed25519", Jwts.SIG.EdDSA);
+
+        private final String keyAlgorithm;
+        private final SignatureAlgorithm signatureAlgorithm;
+
+        Algorithm(String keyAlgorithm, SignatureAlgorithm signatureAlgorithm) {
+            this.keyAlgorithm = keyAlgorithm;
+            this.signatureAlgorithm = signatureAlgorithm;
+        }
+
+        public String getKeyAlgorithm() {
+            return keyAlgorithm;
+        }
+
+        public String getJwsAlgorithm() {
+            return signatureAlgorithm.getId();
+        }
+
+        public SignatureAlgorithm getSignatureAlgorithm() {
+            return signatureAlgorithm;
+        }
+
+        public KeyPair generateKeyPair() {
+            return this == ES256 ? Jwts.SIG.ES256.keyPair().build() : Jwks.CRV.Ed25519.keyPair().build();
+        }
+
+        public static Algorithm from(String name) {
+            for (Algorithm algorithm : values()) {
+                if (algorithm.name().equalsIgnoreCase(name) || algorithm.getJwsAlgorithm().equalsIgnoreCase(name)) {
+                    return algorithm;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 서명 알고리즘입니다. : " + name);
+        }
+    }
+
+    @Getter
+    public static class SigningKey {
+
+        private final String kid;
+        private final Algorithm algorithm;
+        private final PrivateKey privateKey;  // 다른 노드가 서명한 키처럼 검증만 하는 경우 null
+        private final PublicKey publicKey;
+        private final Instant activateAt;
+        private final Instant retireAt;
+
+        public SigningKey(String kid, Algorithm algorithm, PrivateKey privateKey, PublicKey publicKey,
+            Instant activateAt, Instant retireAt) {
+            this.kid = kid;
+            this.algorithm = algorithm;
+            this.privateKey = privateKey;
+            this.publicKey = publicKey;
+            this.activateAt = activateAt == null ? Instant.EPOCH : activateAt;
+            this.retireAt = retireAt;
+        }
+
+        boolean isRetired(Instant now) {
+            return retireAt != null && !now.isBefore(retireAt);
+        }
+
+        boolean canSign(Instant now) {
+            return privateKey != null && !activateAt.isAfter(now) && !isRetired(now);
+        }
+    }
+
+    private static final SigningKeyRing EMPTY = new SigningKeyRing(List.of());
+
+    // 서명 시작 시각 내림차순
+    private final List<SigningKey> keys;
+    private final Map<String, SigningKey> keysById;
+
+    public SigningKeyRing(List<SigningKey> keys) {
+        List<SigningKey> sorted = new ArrayList<>(keys);
+        sorted.sort(Comparator.comparing(SigningKey::getActivateAt).reversed());
+        Map<String, SigningKey> byId = new HashMap<>();
+        for (SigningKey key : sorted) {
+            if (byId.put(key.getKid(), key) != null) {
+                throw new IllegalArgumentException("중복된 kid 입니다. : " + key.getKid());
+            }
+        }
+        this.keys = List.copyOf(sorted);
+        this.keysById = Map.copyOf(byId);
+    }
+
+    /**
+     * HMAC secret 으로만 서명하는 경우
+     */
+    public static SigningKeyRing empty() {
+        return EMPTY;
+    }
+
+    public boolean isEmpty() {
+        return keys.isEmpty();
+    }
+
+    /**
+     * 현재 서명에 사용할 키
+     *
+     * @throws IllegalStateException 서명 가능한 키가 없을 때
+     */
+    public SigningKey currentSigningKey(Instant now) {
+        for (SigningKey key : keys) {
+            if (key.canSign(now)) {
+                return key;
+            }
+        }
+        throw new IllegalStateException("서명에 사용할 수 있는 키가 없습니다.");
+    }
+
+    /**
+     * kid 로 검증 키 조회, 없거나 폐기된 키면 null
+     */
+    public SigningKey verificationKey(String kid, Instant now) {
+        SigningKey key = keysById.get(kid);
+        return key == null || key.isRetired(now) ? null : key;
+    }
+
+    /**
+     * JWKS 로 공개할 폐기되지 않은 공개키 목록
+     */
+    public List<PublicJwk<?>> publishedKeys(Instant now) {
+        List<PublicJwk<?>> published = new ArrayList<>(keys.size());
+        for (SigningKey key : keys) {
+            if (!key.isRetired(now)) {
+                published.add(Jwks.builder().key(key.getPublicKey())
+                    .id(key.getKid())
+                    .algorithm(key.getAlgorithm().getJwsAlgorithm())
+                    .publicKeyUse("sig")
+                    .build());
+            }
+        }
+        return published;
+    }
+
+    /**
+     * 토큰 header 의 kid 로 검증 키를 고르는 jjwt locator, kid 가 없으면 HMAC secret 으로 검증한다
+     */
+    LocatorAdapter<Key> keyLocator(SecretKey hmacKey) {
+        return new LocatorAdapter<>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                String kid = header.getKeyId();
+                if (kid == null) {
+                    return hmacKey;
+                }
+                SigningKey key = verificationKey(kid, Instant.now());
+                // header 의 alg 를 키에 맞춰 확인해 다른 알고리즘으로 검증되는 것을 막는다
+                if (key == null || !key.getAlgorithm().getJwsAlgorithm().equals(header.getAlgorithm())) {
+                    throw new InvalidKeyException("알 수 없는 서명 키입니다. kid : " + kid);
+                }
+                return key.getPublicKey();
+            }
+        };
+    }
+}
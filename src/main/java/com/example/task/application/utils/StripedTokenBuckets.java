@@ -0,0 +1,116 @@
+package com.example.task.application.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * key 별 token bucket 모음
+ * <p>
+ * key 의 hash 로 stripe 를 고르고 stripe 단위로만 lock 을 잡아 서로 다른 key 끼리의 경합을 줄인다.
+ * stripe 마다 최근 사용 순서(LRU)로 최대 key 수를 제한하며, 밀려난 key 는 다음 요청 때 가득 찬 bucket 으로 다시 시작한다.
+ * lock 은 virtual thread 가 고정되지 않도록 synchronized 대신 ReentrantLock 을 사용한다.
+ */
+public class StripedTokenBuckets {
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final double capacity;
+    private final double refillPerNano;
+
+    /**
+     * @param capacity bucket 크기 (연속으로 허용하는 최대 요청 수)
+     * @param refillPeriodMillis 빈 bucket 이 가득 찰 때까지 걸리는 시간 (밀리초)
+     * @param stripeCount stripe 수, 2의 거듭제곱으로 올림
+     * @param maxKeys 전체 최대 key 수
+     */
+    public StripedTokenBuckets(int capacity, long refillPeriodMillis, int stripeCount, int maxKeys) {
+        if (capacity <= 0 || refillPeriodMillis <= 0 || stripeCount <= 0 || maxKeys <= 0) {
+            throw new IllegalArgumentException("잘못된 token bucket 설정입니다.");
+        }
+        int size = Integer.highestOneBit(stripeCount - 1) << 1;
+        size = Math.max(1, size);
+        this.stripes = new Stripe[size];
+        int maxKeysPerStripe = Math.max(1, maxKeys / size);
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe(maxKeysPerStripe);
+        }
+        this.mask = size - 1;
+        this.capacity = capacity;
+        this.refillPerNano = capacity / (double) TimeUnit.MILLISECONDS.toNanos(refillPeriodMillis);
+    }
+
+    /**
+     * 토큰 하나 사용
+     *
+     * @param key bucket key
+     * @return 허용되면 0, 거부되면 토큰 하나가 채워질 때까지 남은 시간 (밀리초, 최소 1)
+     */
+    public long tryAcquire(String key) {
+        Stripe stripe = stripes[spread(key.hashCode()) & mask];
+        long now = System.nanoTime();
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+                stripe.buckets.put(key, bucket);
+            } else {
+                bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.refilledAt) * refillPerNano);
+                bucket.refilledAt = now;
+            }
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            long waitNanos = (long) Math.ceil((1 - bucket.tokens) / refillPerNano);
+            return Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Bucket> buckets;
+
+        private Stripe(int maxKeys) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.task.application.utils;
+
+import io.jsonwebtoken.Claims;
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 이 서비스가 발급하는 토큰의 claim 묶음
+ * <p>
+ * jjwt 의 범용 Claims map 대신 필요한 claim 만 필드로 가진다.
+ */
+@Getter
+@AllArgsConstructor
+public class TokenClaims {
+
+    private final String issuer;
+    private final String id;
+    private final String subject;
+    private final String role;
+    private final Long userId;
+    private final Date issuedAt;
+    private final Date expiration;
+    private final Long securityEpoch;
+    // refresh token 의 token family id, access token 은 null
+    private final String familyId;
+
+    /**
+     * epoch claim 이 없는 이전 토큰은 0 으로 취급
+     */
+    public long getSecurityEpochOrDefault() {
+        return securityEpoch == null ? 0L : securityEpoch;
+    }
+
+    public static TokenClaims from(Claims claims) {
+        return new TokenClaims(
+            claims.getIssuer(),
+            claims.getId(),
+            claims.getSubject(),
+            claims.get("role", String.class),
+            claims.get("user_id", Long.class),
+            claims.getIssuedAt(),
+            claims.getExpiration(),
+            claims.get("epoch", Long.class),
+            claims.get("fam", String.class)
+        );
+    }
+}
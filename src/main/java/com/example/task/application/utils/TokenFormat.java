@@ -0,0 +1,59 @@
+package com.example.task.application.utils;
+
+/**
+ * 서명 검증 전에 하는 JWS compact 형식 검사
+ * <p>
+ * 봇이 보내는 임의의 문자열은 대부분 여기서 걸러지므로 디코딩, 서명 검증, jjwt 예외 생성 없이 거부할 수 있다.
+ * 토큰 문자열을 한 번 훑기만 하고 할당하지 않는다.
+ */
+public final class TokenFormat {
+
+    // JSON header '{"' 의 base64url 인코딩
+    private static final String HEADER_PREFIX = "eyJ";
+
+    private static final boolean[] BASE64URL = new boolean[128];
+
+    static {
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL[alphabet.charAt(i)] = true;
+        }
+    }
+
+    private TokenFormat() {
+    }
+
+    /**
+     * @param token Bearer prefix 를 제거한 토큰
+     * @return header.payload.signature 세 구간이 모두 비어 있지 않은 padding 없는 base64url 이고
+     *         길이 상한 이하이면 true
+     */
+    public static boolean isWellFormed(String token) {
+        if (token == null) {
+            return false;
+        }
+        int length = token.length();
+        if (length > HmacJwtVerifier.MAX_TOKEN_LENGTH || !token.startsWith(HEADER_PREFIX)) {
+            return false;
+        }
+        int dots = 0;
+        int segmentStart = 0;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (++dots > 2 || !isSegmentLength(i - segmentStart)) {
+                    return false;
+                }
+                segmentStart = i + 1;
+            } else if (c >= 128 || !BASE64URL[c]) {
+                return false;
+            }
+        }
+        return dots == 2 && isSegmentLength(length - segmentStart);
+    }
+
+    // 비어 있지 않고, 나머지 1 은 base64 로 만들 수 없는 길이
+    private static boolean isSegmentLength(int length) {
+        return length > 0 && length % 4 != 1;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.task.domain.event;
+
+/**
+ * 유저의 권한/비밀번호 등 보안 관련 정보가 변경되었음을 알리는 이벤트
+ *
+ * @param userId 변경된 유저 id
+ * @param username 변경된 유저 username
+ * @param authority 변경 이후의 권한
+ * @param securityEpoch 변경 이후의 security epoch
+ */
+public record UserSecurityChangedEvent(Long userId, String username, String authority, long securityEpoch) {
+
+}
@@ -0,0 +1,12 @@
+package com.example.task.domain.event;
+
+/**
+ * 회원 가입으로 유저가 저장되었음을 알리는 이벤트
+ *
+ * @param userId 가입한 유저 id
+ * @param username 가입한 유저 username
+ * @param nickname 가입한 유저 nickname
+ */
+public record UserSignedUpEvent(Long userId, String username, String nickname) {
+
+}
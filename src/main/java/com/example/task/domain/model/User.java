@@ -2,15 +2,22 @@ package com.example.task.domain.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Getter
 @AllArgsConstructor
@@ -18,13 +25,21 @@ import lombok.NoArgsConstructor;
 @Builder(access = AccessLevel.PRIVATE)
 @Entity
 @Table(name = "m_user")
+@EntityListeners(UserSecurityEpochListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
 public class User {
 
+    public static final String CACHE_REGION = "user";
+    public static final String NATURAL_ID_CACHE_REGION = "user-natural-id";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "user_id")
     private Long userId;
 
+    // 변경되지 않는 업무 키, username -> id 매핑을 natural id 캐시에 둔다
+    @NaturalId
     @Column(name = "username", nullable = false, unique = true)
     private String username;
 
@@ -37,12 +52,62 @@ public class User {
     @Column(name = "authority", nullable = false)
     private String authority;
 
+    // 권한, 비밀번호 변경 시 증가하며 토큰에 포함되어 이전 토큰을 무효화한다
+    @ColumnDefault("0")
+    @Column(name = "security_epoch", nullable = false)
+    private long securityEpoch;
+
+    // securityEpoch 를 올린 뒤 아직 이벤트로 발행하지 않았으면 true, 다른 컬럼만 바뀐 update 는 발행하지 않는다
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean securityEpochChanged;
+
     public static User createUser(String username, String encodedPassword, String nickname) {
         return User.builder()
             .username(username)
             .password(encodedPassword)
             .nickname(nickname)
             .authority("ROLE_USER")
+            .securityEpoch(0L)
+            .build();
+    }
+
+    /**
+     * 캐시에 저장된 값으로 User 복원 (영속 상태가 아니므로 변경 감지 대상이 아니다)
+     */
+    public static User restore(Long userId, String username, String encodedPassword, String nickname,
+        String authority, long securityEpoch) {
+        return User.builder()
+            .userId(userId)
+            .username(username)
+            .password(encodedPassword)
+            .nickname(nickname)
+            .authority(authority)
+            .securityEpoch(securityEpoch)
             .build();
     }
+
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+        raiseSecurityEpoch();
+    }
+
+    public void changeAuthority(String authority) {
+        this.authority = authority;
+        raiseSecurityEpoch();
+    }
+
+    /**
+     * 마지막 호출 이후 securityEpoch 가 올랐는지 확인하고 표시를 지운다 (엔티티 리스너에서 사용)
+     */
+    boolean consumeSecurityEpochChange() {
+        boolean changed = securityEpochChanged;
+        securityEpochChanged = false;
+        return changed;
+    }
+
+    private void raiseSecurityEpoch() {
+        this.securityEpoch++;
+        this.securityEpochChanged = true;
+    }
 }
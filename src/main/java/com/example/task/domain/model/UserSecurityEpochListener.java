@@ -0,0 +1,29 @@
+package com.example.task.domain.model;
+
+import com.example.task.domain.event.UserSecurityChangedEvent;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * User 의 security epoch 변경을 애플리케이션 이벤트로 발행
+ * 토큰에 포함된 security epoch 캐시를 갱신하는 쪽에서 커밋 이후에 처리한다.
+ * 닉네임 등 다른 컬럼만 바뀐 update 는 발행하지 않아 캐시 무효화와 refresh token 폐기가 일어나지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSecurityEpochListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    public void afterUpdate(User user) {
+        if (!user.consumeSecurityEpochChange()) {
+            return;
+        }
+        eventPublisher.publishEvent(
+            new UserSecurityChangedEvent(user.getUserId(), user.getUsername(), user.getAuthority(),
+                user.getSecurityEpoch()));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.task.domain.model;
+
+/**
+ * 토큰 서명에 필요한 최소한의 유저 정보
+ * <p>
+ * refresh token family 와 함께 Redis 에 저장되어 재발급 시 DB 조회 없이 새 토큰을 만들 수 있게 한다.
+ *
+ * @param userId 유저 id
+ * @param username 토큰 subject
+ * @param authority 권한
+ * @param securityEpoch 저장 시점의 security epoch, 더 작은 epoch 로는 덮어쓰지 않는다
+ */
+public record UserSnapshot(Long userId, String username, String authority, long securityEpoch) {
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(user.getUserId(), user.getUsername(), user.getAuthority(), user.getSecurityEpoch());
+    }
+
+    /**
+     * 토큰 서명용 User, 비밀번호와 닉네임은 비어 있으므로 저장하거나 캐시에 넣지 않는다
+     */
+    public User toUser() {
+        return User.restore(userId, username, null, null, authority, securityEpoch);
+    }
+}
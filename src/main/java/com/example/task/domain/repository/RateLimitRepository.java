@@ -0,0 +1,53 @@
+package com.example.task.domain.repository;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 여러 노드가 공유하는 sliding window 요청 수 제한
+ * <p>
+ * key 마다 sorted set 에 요청 시각(Redis 서버 시각, 밀리초)을 기록하고 window 밖의 기록을 지운 뒤 개수를 센다.
+ * 서버 시각을 쓰므로 노드 간 시계 차이에 영향을 받지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RateLimitRepository {
+
+    private static final String KEY_PREFIX = "rl:";
+
+    // 0: 허용, 양수: 가장 오래된 기록이 window 를 벗어날 때까지 남은 시간 (밀리초)
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = RedisScript.of("""
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+        local window = tonumber(ARGV[1])
+        redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+        if redis.call('ZCARD', KEYS[1]) < tonumber(ARGV[2]) then
+            redis.call('ZADD', KEYS[1], now, now .. ':' .. ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], window)
+            return 0
+        end
+        local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+        return math.max(1, tonumber(oldest[2]) + window - now)
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 요청 한 건 기록
+     *
+     * @param key 제한 대상 key (route 와 client 조합)
+     * @param limit window 안에서 허용하는 요청 수
+     * @param windowMillis window 크기 (밀리초)
+     * @return 허용되면 0, 거부되면 재시도까지 남은 시간 (밀리초)
+     */
+    public long tryAcquire(String key, int limit, long windowMillis) {
+        Long result = redisTemplate.execute(SLIDING_WINDOW_SCRIPT, List.of(KEY_PREFIX + key),
+            Long.toString(windowMillis), Integer.toString(limit),
+            Long.toHexString(ThreadLocalRandom.current().nextLong()));
+        return result == null ? 0L : result;
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.task.domain.repository;
+
+import com.example.task.application.utils.ExpiringCache;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * Redis server-assisted client side caching
+ * <p>
+ * RESP3 전용 연결에서 CLIENT TRACKING 을 켜고 GET 결과(없는 key 포함)를 로컬에 보관한다.
+ * 이 연결로 읽은 key 가 어느 클라이언트에서든 변경/삭제/만료되면 Redis 가 invalidate push 를 보내므로
+ * 해당 로컬 사본을 지운다.
+ * <p>
+ * 연결이 끊긴 동안의 알림은 받을 수 없으므로 끊기는 즉시 전부 비우고,
+ * 재연결 후 tracking 이 다시 켜질 때까지는 {@link #isAvailable()} 이 false 가 되어 캐시를 사용하지 않는다.
+ */
+@Slf4j(topic = "Redis client side cache")
+public class RedisClientSideCache implements InitializingBean, DisposableBean {
+
+    private final boolean enabled;
+    private final RedisURI redisUri;
+    private final long ttl;
+    private final ExpiringCache<String, Optional<String>> cache;
+
+    // invalidate/flush 가 처리될 때마다 증가, GET 응답과 알림의 순서 역전을 감지하는 데 사용
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder invalidationCount = new LongAdder();
+    private final LongAdder flushCount = new LongAdder();
+
+    private volatile boolean available;
+    private RedisClient client;
+    private StatefulRedisConnection<String, String> connection;
+
+    /**
+     * @param enabled 사용 여부, false 면 연결을 만들지 않는다
+     * @param host Redis host
+     * @param port Redis port
+     * @param maxSize 로컬 사본 최대 개수
+     * @param ttl 로컬 사본 최대 보관 시간 (밀리초), 알림 유실에 대비한 상한
+     */
+    public RedisClientSideCache(boolean enabled, String host, int port, int maxSize, long ttl) {
+        this.enabled = enabled;
+        this.redisUri = RedisURI.create(host, port);
+        this.ttl = ttl;
+        this.cache = new ExpiringCache<>(maxSize);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        client = RedisClient.create(redisUri);
+        client.setOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP3).build());
+        client.addListener(new ConnectionStateListener());
+        try {
+            connection = client.connect(StringCodec.UTF8);
+            connection.addListener(this::onPushMessage);
+            connection.sync().clientTracking(TrackingArgs.Builder.enabled());
+            available = true;
+        } catch (RuntimeException e) {
+            // 최초 연결 실패 시에는 재연결하지 않으므로 일반 조회 경로만 사용한다
+            log.warn("client side caching 연결에 실패하여 비활성화합니다. {}", e.getMessage());
+            shutdown();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        shutdown();
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * key value 조회, 로컬 사본이 없으면 tracking 연결로 GET 후 보관
+     *
+     * @param key 조회 하려는 key 값
+     * @return key 에 해당하는 value 값
+     */
+    public String get(String key) {
+        Optional<String> cached = cache.get(key);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+        long observed = generation.get();
+        String value = connection.sync().get(key);
+        cache.put(key, Optional.ofNullable(value), System.currentTimeMillis() + ttl);
+        // GET 이후 invalidate 가 먼저 처리되었다면 방금 넣은 값이 이미 오래된 값일 수 있으므로 버린다
+        if (generation.get() != observed) {
+            cache.invalidate(key);
+        }
+        return value;
+    }
+
+    public void flush() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+        flushCount.increment();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.sum();
+    }
+
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    private void onPushMessage(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent();
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        // key 목록이 null 이면 FLUSHALL/FLUSHDB 등으로 전체가 무효화된 것
+        if (!(keys instanceof List<?> keyList)) {
+            flush();
+            return;
+        }
+        generation.incrementAndGet();
+        for (Object key : keyList) {
+            cache.invalidate(decode(key));
+            invalidationCount.increment();
+        }
+    }
+
+    private void shutdown() {
+        available = false;
+        cache.invalidateAll();
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+        if (client != null) {
+            client.shutdown();
+            client = null;
+        }
+    }
+
+    private static String decode(Object key) {
+        if (key instanceof ByteBuffer buffer) {
+            return StandardCharsets.UTF_8.decode(buffer.duplicate()).toString();
+        }
+        return String.valueOf(key);
+    }
+
+    private class ConnectionStateListener implements RedisConnectionStateListener {
+
+        @Override
+        public void onRedisDisconnected(RedisChannelHandler<?, ?> channel) {
+            if (available) {
+                log.warn("Redis 연결이 끊겨 client side cache 를 비웁니다.");
+            }
+            available = false;
+            flush();
+        }
+
+        @Override
+        public void onRedisConnected(RedisChannelHandler<?, ?> channel, SocketAddress socketAddress) {
+            StatefulRedisConnection<String, String> current = connection;
+            if (current == null || current != channel) {
+                return;
+            }
+            // tracking 은 연결 단위 설정이라 재연결 시 다시 켜야 한다
+            current.async().clientTracking(TrackingArgs.Builder.enabled()).whenComplete((result, e) -> {
+                if (e != null) {
+                    log.warn("재연결 후 client tracking 설정에 실패했습니다. {}", e.getMessage());
+                    return;
+                }
+                flush();
+                available = true;
+            });
+        }
+    }
+}
@@ -1,16 +1,65 @@
 package com.example.task.domain.repository;
 
+import com.example.task.application.utils.PhaseTimer;
+import com.example.task.application.utils.PhaseTimer.Phase;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class RedisRepository {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    // 저장된 값이 없거나 숫자가 아니거나 더 작을 때만 SET EX, 반환값은 실행 후 저장된 값
+    private static final RedisScript<Long> SAVE_IF_GREATER_SCRIPT = RedisScript.of("""
+        local stored = tonumber(redis.call('GET', KEYS[1]))
+        if stored and stored >= tonumber(ARGV[1]) then
+            return stored
+        end
+        redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+        return tonumber(ARGV[1])
+        """, Long.class);
+
+    // 저장된 값이 tombstone 이거나 versionField 가 더 큰 JSON 이면 건너뛰고, 아니면 SET EX
+    // ARGV 는 value, 만료 시간(초), tombstone, versionField 순서
+    private static final String SAVE_IF_NOT_OLDER_SCRIPT = """
+        local stored = redis.call('GET', KEYS[1])
+        if stored then
+            if stored == ARGV[3] then
+                return 0
+            end
+            local ok, current = pcall(cjson.decode, stored)
+            if ok and type(current) == 'table' then
+                local storedVersion = tonumber(current[ARGV[4]])
+                local version = tonumber(cjson.decode(ARGV[1])[ARGV[4]])
+                if storedVersion and version and storedVersion > version then
+                    return 0
+                end
+            end
+        end
+        redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+        return 1
+        """;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisClientSideCache clientSideCache;
+    private final PhaseTimer phaseTimer;
 
     /**
      * key-value 저장 메소드
@@ -19,19 +68,143 @@ public class RedisRepository {
      * @param value 저장하려는 value 값
      */
     public void save(String key, String value){
-        ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-        valueOperations.set(key, value);
+        long startedAt = phaseTimer.start();
+        try {
+            ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
+            valueOperations.set(key, value);
+        } finally {
+            phaseTimer.stop(Phase.REDIS_SET, startedAt);
+        }
+    }
+
+    /**
+     * 만료 시간과 함께 key-value 저장 (SET EX)
+     * <p>
+     * save 후 setExpire 를 따로 호출하면 두 번 왕복하고, 그 사이 TTL 없는 key 가 남을 수 있다.
+     *
+     * @param key 저장하려는 key 값
+     * @param value 저장하려는 value 값
+     * @param time 만료 기간 (초단위)
+     */
+    public void save(String key, String value, long time){
+        long startedAt = phaseTimer.start();
+        try {
+            redisTemplate.opsForValue().set(key, value, time, TimeUnit.SECONDS);
+        } finally {
+            phaseTimer.stop(Phase.REDIS_SET, startedAt);
+        }
+    }
+
+    /**
+     * 숫자 값을 저장된 값보다 클 때만 만료 시간과 함께 저장 (Lua 스크립트 한 번)
+     * <p>
+     * 조회 후 저장 사이에 더 큰 값이 먼저 저장되었으면 늦게 도착한 작은 값으로 덮어쓰지 않는다.
+     *
+     * @param key 저장하려는 key 값
+     * @param value 저장하려는 값
+     * @param time 만료 기간 (초단위)
+     * @return 실행 후 저장되어 있는 값 (value 와 기존 값 중 큰 값)
+     */
+    public long saveIfGreater(String key, long value, long time){
+        long startedAt = phaseTimer.start();
+        try {
+            Long stored = redisTemplate.execute(SAVE_IF_GREATER_SCRIPT, List.of(key),
+                Long.toString(value), Long.toString(time));
+            return stored == null ? value : stored;
+        } finally {
+            phaseTimer.stop(Phase.REDIS_SET, startedAt);
+        }
+    }
+
+    /**
+     * 여러 key-value 를 같은 만료 시간으로 한 번의 pipeline 으로 저장
+     *
+     * @param values 저장하려는 key-value 목록
+     * @param time 만료 기간 (초단위)
+     */
+    public void saveAll(Map<String, String> values, long time){
+        if (values.isEmpty()) {
+            return;
+        }
+        long startedAt = phaseTimer.start();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                values.forEach((key, value) -> stringConnection.setEx(key, time, value));
+                return null;
+            });
+        } finally {
+            phaseTimer.stop(Phase.REDIS_SET_PIPELINE, startedAt);
+        }
+    }
+
+    /**
+     * 여러 JSON 값을 저장된 값보다 오래되지 않았을 때만 한 번의 pipeline 으로 저장
+     * <p>
+     * DB 에서 읽은 값을 캐시에 다시 채울 때 사용한다. 조회와 저장 사이에 변경이 커밋되어 tombstone 이 남았거나
+     * versionField 가 더 큰 값이 먼저 저장되었으면 늦게 도착한 이전 값으로 덮어쓰지 않는다.
+     * key 마다 스크립트를 따로 실행하므로 key 들이 다른 slot 에 있어도 된다.
+     *
+     * @param values 저장하려는 key 와 JSON 값
+     * @param versionField 비교할 숫자 field 이름
+     * @param tombstone 저장을 막는 삭제 표시 값
+     * @param time 만료 기간 (초단위)
+     */
+    public void saveAllIfNotOlder(Map<String, String> values, String versionField, String tombstone, long time){
+        if (values.isEmpty()) {
+            return;
+        }
+        String ttl = Long.toString(time);
+        long startedAt = phaseTimer.start();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                values.forEach((key, value) -> stringConnection.eval(SAVE_IF_NOT_OLDER_SCRIPT, ReturnType.INTEGER,
+                    1, key, value, ttl, tombstone, versionField));
+                return null;
+            });
+        } finally {
+            phaseTimer.stop(Phase.REDIS_SET_PIPELINE, startedAt);
+        }
     }
 
     /**
      * key value 조회 메소드
+     * <p>
+     * client side caching 이 켜져 있으면 Redis 의 invalidate 알림으로 관리되는 로컬 사본을 먼저 확인한다.
      *
      * @param key 조회 하려는 key 값
      * @return key 에 해당하는 value 값
      */
     public String getValue(String key){
-        ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-        return valueOperations.get(key);
+        long startedAt = phaseTimer.start();
+        try {
+            if (clientSideCache.isAvailable()) {
+                return clientSideCache.get(key);
+            }
+            ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
+            return valueOperations.get(key);
+        } finally {
+            phaseTimer.stop(Phase.REDIS_GET, startedAt);
+        }
+    }
+
+    /**
+     * 여러 key 의 value 를 한 번에 조회 (MGET)
+     *
+     * @param keys 조회 하려는 key 목록
+     * @return keys 와 같은 순서의 value 목록, 없는 key 는 null
+     */
+    public List<String> multiGet(List<String> keys){
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        long startedAt = phaseTimer.start();
+        try {
+            return redisTemplate.opsForValue().multiGet(keys);
+        } finally {
+            phaseTimer.stop(Phase.REDIS_MGET, startedAt);
+        }
     }
 
     /**
@@ -41,10 +214,108 @@ public class RedisRepository {
      * @param time 만료 기간 (초단위)
      */
     public void setExpire(String key, Long time){
-        redisTemplate.expire(key,time, TimeUnit.SECONDS);
+        long startedAt = phaseTimer.start();
+        try {
+            redisTemplate.expire(key,time, TimeUnit.SECONDS);
+        } finally {
+            phaseTimer.stop(Phase.REDIS_EXPIRE, startedAt);
+        }
     }
 
     public Long getTimeToLive(String key){
-        return redisTemplate.getExpire(key);
+        long startedAt = phaseTimer.start();
+        try {
+            return redisTemplate.getExpire(key);
+        } finally {
+            phaseTimer.stop(Phase.REDIS_TTL, startedAt);
+        }
+    }
+
+    /**
+     * key 삭제 메소드
+     *
+     * @param key 삭제하려는 key 값
+     */
+    public void delete(String key){
+        long startedAt = phaseTimer.start();
+        try {
+            redisTemplate.delete(key);
+        } finally {
+            phaseTimer.stop(Phase.REDIS_DELETE, startedAt);
+        }
+    }
+
+    /**
+     * 여러 key 를 한 번에 삭제
+     *
+     * @param keys 삭제하려는 key 목록
+     * @return 삭제된 key 수
+     */
+    public long deleteAll(Collection<String> keys){
+        if (keys.isEmpty()) {
+            return 0L;
+        }
+        long startedAt = phaseTimer.start();
+        try {
+            Long deleted = redisTemplate.delete(keys);
+            return deleted == null ? 0L : deleted;
+        } finally {
+            phaseTimer.stop(Phase.REDIS_DELETE, startedAt);
+        }
+    }
+
+    /**
+     * pub/sub 채널에 메시지 발행
+     *
+     * @param channel 채널 이름
+     * @param message 발행할 메시지
+     */
+    public void publish(String channel, String message){
+        long startedAt = phaseTimer.start();
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } finally {
+            phaseTimer.stop(Phase.REDIS_PUBLISH, startedAt);
+        }
+    }
+
+    /**
+     * stream 에 항목 추가 (XADD), minId 보다 오래된 항목은 함께 정리한다 (MINID ~)
+     *
+     * @param key stream key
+     * @param fields 항목 내용
+     * @param minId 남겨둘 가장 오래된 항목 id, 보통 "밀리초-0" 형태
+     * @return 추가된 항목 id
+     */
+    public String appendToStream(String key, Map<String, String> fields, String minId){
+        long startedAt = phaseTimer.start();
+        try {
+            XAddOptions options = XAddOptions.none().minId(RecordId.of(minId)).approximateTrimming(true);
+            RecordId recordId = redisTemplate.execute((RedisCallback<RecordId>) connection ->
+                ((StringRedisConnection) connection).xAdd(StreamRecords.string(fields).withStreamKey(key), options));
+            return recordId == null ? null : recordId.getValue();
+        } finally {
+            phaseTimer.stop(Phase.REDIS_XADD, startedAt);
+        }
+    }
+
+    /**
+     * stream 에서 afterId 이후의 항목을 최대 count 개 조회 (XREAD, blocking 없음)
+     *
+     * @param key stream key
+     * @param afterId 마지막으로 읽은 항목 id, 처음부터 읽으려면 "0"
+     * @param count 최대 조회 수
+     * @return id 순서의 항목 목록, 없으면 빈 목록
+     */
+    @SuppressWarnings("unchecked")  // StreamOffset 가변 인자 배열 생성
+    public List<MapRecord<String, Object, Object>> readStream(String key, String afterId, int count){
+        long startedAt = phaseTimer.start();
+        try {
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .read(StreamReadOptions.empty().count(count), StreamOffset.create(key, ReadOffset.from(afterId)));
+            return records == null ? List.of() : records;
+        } finally {
+            phaseTimer.stop(Phase.REDIS_XREAD, startedAt);
+        }
     }
 }
@@ -0,0 +1,288 @@
+package com.example.task.domain.repository;
+
+import com.example.task.domain.model.UserSnapshot;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Refresh token 상태 저장소
+ * <p>
+ * 로그인마다 하나의 token family 를 만들고, family key 에는 현재 유효한 refresh token 의 jti 만 저장한다.
+ * 재발급 시 Lua 스크립트 한 번으로 "현재 jti 확인 -> 새 jti 로 교체" 를 원자적으로 처리하며,
+ * 이미 교체된(재사용된) 토큰이 들어오면 family 를 삭제해 같은 family 의 모든 토큰을 폐기한다.
+ * <p>
+ * key 구조
+ * <ul>
+ *     <li>rt:{userId}:{familyId} -> 현재 jti (familyId, jti 는 22자 고정 길이)</li>
+ *     <li>rt:{userId} -> 유저의 family id set (전체 기기 로그아웃용)</li>
+ *     <li>rt:{userId}:user -> 토큰 서명용 유저 snapshot hash (username, authority, epoch)</li>
+ * </ul>
+ * 재발급은 교체 스크립트가 snapshot 을 함께 돌려주므로 Redis 한 번 왕복으로 끝난다.
+ * snapshot 은 권한/비밀번호 변경 시 갱신되며, 제시된 토큰의 epoch 가 snapshot 보다 작으면 교체 스크립트가
+ * family 를 삭제하고 STALE 을 돌려주므로 변경 이전의 refresh token 은 새 epoch 로 다시 서명되지 않는다.
+ * snapshot 은 epoch 가 더 작은 값으로는 덮어쓰지 않아
+ * 변경 전에 DB 에서 읽은 값이 늦게 저장되더라도 최신 값이 유지된다.
+ * 중괄호는 cluster 환경에서 한 유저의 key 가 같은 slot 에 놓이도록 하는 hash tag 이다.
+ * 스크립트는 KEYS 로 넘긴 key 만 사용하고 한 스크립트의 key 는 모두 같은 유저의 hash tag 를 가지므로 cluster 에서도 실행된다.
+ * hash tag 가 없는 이전 구조의 key 는 스크립트 밖에서 GETDEL 로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenRepository {
+
+    // family 별 key 를 도입했던 이전 구조, 남은 토큰이 만료될 때까지 읽기만 한다
+    private static final String PREVIOUS_FAMILY_KEY_PREFIX = "refresh:family:";
+
+    // KEYS[n] 의 snapshot 을 epoch 가 같거나 클 때만 덮어쓰고 TTL 을 늘린다, ARGV 는 username, authority, epoch, ttl 순서
+    private static final String SAVE_SNAPSHOT = """
+        local function saveSnapshot(key, username, authority, epoch, ttl)
+            local stored = redis.call('HGET', key, 'epoch')
+            if (not stored) or tonumber(stored) <= tonumber(epoch) then
+                redis.call('HSET', key, 'username', username, 'authority', authority, 'epoch', epoch)
+            end
+            if redis.call('PTTL', key) < tonumber(ttl) then
+                redis.call('PEXPIRE', key, ttl)
+            end
+        end
+        """;
+
+    private static final RedisScript<Long> CREATE_SCRIPT = RedisScript.of(SAVE_SNAPSHOT + """
+        redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+        redis.call('SADD', KEYS[2], ARGV[1])
+        if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[3]) then
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+        end
+        saveSnapshot(KEYS[3], ARGV[4], ARGV[5], ARGV[6], ARGV[3])
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> SNAPSHOT_SCRIPT = RedisScript.of(SAVE_SNAPSHOT + """
+        saveSnapshot(KEYS[1], ARGV[1], ARGV[2], ARGV[3], ARGV[4])
+        return 1
+        """, Long.class);
+
+    // 첫 원소 1: 교체 성공 (이어서 snapshot 의 username, authority, epoch), 0: family 없음(만료/폐기), -1: 재사용 감지 후 family 폐기,
+    // -2: 토큰의 epoch(ARGV[5])가 snapshot 보다 작아 family 폐기
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = RedisScript.of("""
+        local current = redis.call('GET', KEYS[1])
+        if not current then
+            redis.call('SREM', KEYS[2], ARGV[4])
+            return {0}
+        end
+        if current ~= ARGV[1] then
+            redis.call('DEL', KEYS[1])
+            redis.call('SREM', KEYS[2], ARGV[4])
+            return {-1}
+        end
+        local storedEpoch = redis.call('HGET', KEYS[3], 'epoch')
+        if storedEpoch and tonumber(storedEpoch) > tonumber(ARGV[5]) then
+            redis.call('DEL', KEYS[1])
+            redis.call('SREM', KEYS[2], ARGV[4])
+            return {-2}
+        end
+        redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+        if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[3]) then
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+        end
+        local userTtl = redis.call('PTTL', KEYS[3])
+        if userTtl >= 0 and userTtl < tonumber(ARGV[3]) then
+            redis.call('PEXPIRE', KEYS[3], ARGV[3])
+        end
+        local user = redis.call('HMGET', KEYS[3], 'username', 'authority', 'epoch')
+        return {1, user[1], user[2], user[3]}
+        """, List.class);
+
+    // 이전 구조에서 확인을 마친 family 를 새 구조에 추가, KEYS 는 모두 같은 유저의 hash tag 를 가진다
+    private static final RedisScript<Long> ADD_FAMILY_SCRIPT = RedisScript.of("""
+        redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+        redis.call('SADD', KEYS[2], ARGV[1])
+        if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[3]) then
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+        end
+        return 1
+        """, Long.class);
+
+    // KEYS[1] 은 family id set, KEYS[2..] 는 조회 시점의 family key, ARGV 는 같은 순서의 family id
+    // 조회 이후 추가된 family 는 set 에 남겨 둔다
+    private static final RedisScript<Long> REVOKE_ALL_SCRIPT = RedisScript.of("""
+        for i = 2, #KEYS do
+            redis.call('DEL', KEYS[i])
+        end
+        redis.call('SREM', KEYS[1], unpack(ARGV))
+        return #ARGV
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 새 token family 와 유저 snapshot 저장
+     *
+     * @param user 토큰 소유자
+     * @param familyId family id
+     * @param jti 현재 유효한 refresh token 의 jti
+     * @param ttl family 만료 시간
+     */
+    public void createFamily(UserSnapshot user, String familyId, String jti, Duration ttl) {
+        Long userId = user.userId();
+        redisTemplate.execute(CREATE_SCRIPT,
+            List.of(familyKey(userId, familyId), userKey(userId), snapshotKey(userId)),
+            familyId, jti, Long.toString(ttl.toMillis()),
+            user.username(), user.authority(), Long.toString(user.securityEpoch()));
+    }
+
+    /**
+     * 유저 snapshot 갱신, 저장된 epoch 가 더 크면 무시한다
+     *
+     * @param user 변경된 유저 정보
+     * @param ttl 최소 유지 시간, refresh token 유효 기간
+     */
+    public void saveUserSnapshot(UserSnapshot user, Duration ttl) {
+        redisTemplate.execute(SNAPSHOT_SCRIPT, List.of(snapshotKey(user.userId())),
+            user.username(), user.authority(), Long.toString(user.securityEpoch()), Long.toString(ttl.toMillis()));
+    }
+
+    /**
+     * refresh token 교체
+     *
+     * @param userId 토큰 소유자 id
+     * @param familyId 제시된 토큰의 family id
+     * @param presentedJti 제시된 토큰의 jti
+     * @param presentedEpoch 제시된 토큰의 security epoch
+     * @param newJti 새로 발급할 토큰의 jti
+     * @param ttl 교체 후 family 만료 시간
+     * @return 교체 결과, 성공했고 snapshot 이 있으면 유저 snapshot 포함
+     */
+    public Rotation rotate(Long userId, String familyId, String presentedJti, long presentedEpoch, String newJti,
+        Duration ttl) {
+        List<?> reply = redisTemplate.execute(ROTATE_SCRIPT,
+            List.of(familyKey(userId, familyId), userKey(userId), snapshotKey(userId)),
+            presentedJti, newJti, Long.toString(ttl.toMillis()), familyId, Long.toString(presentedEpoch));
+        if (reply == null || reply.isEmpty()) {
+            return new Rotation(RotationResult.NOT_FOUND, null);
+        }
+        RotationResult result = RotationResult.of((Long) reply.get(0));
+        if (result != RotationResult.ROTATED || reply.size() < 4 || reply.get(1) == null
+            || reply.get(2) == null || reply.get(3) == null) {
+            return new Rotation(result, null);
+        }
+        UserSnapshot user = new UserSnapshot(userId, reply.get(1).toString(), reply.get(2).toString(),
+            Long.parseLong(reply.get(3).toString()));
+        return new Rotation(result, user);
+    }
+
+    /**
+     * 이전 구조(refresh:family:{familyId})로 저장된 family 를 교체하면서 새 구조로 옮긴다
+     *
+     * @param userId 토큰 소유자 id
+     * @param previousFamilyId 제시된 토큰의 family id
+     * @param presentedJti 제시된 토큰의 jti
+     * @param newFamilyId 새 family id
+     * @param newJti 새로 발급할 토큰의 jti
+     * @param ttl 새 family 만료 시간
+     * @return 교체 결과
+     */
+    public RotationResult migrateFamily(Long userId, String previousFamilyId, String presentedJti,
+        String newFamilyId, String newJti, Duration ttl) {
+        // GETDEL 은 원자적이라 같은 토큰으로 동시에 요청해도 한 요청만 jti 를 받는다
+        String current = redisTemplate.opsForValue().getAndDelete(PREVIOUS_FAMILY_KEY_PREFIX + previousFamilyId);
+        if (current == null) {
+            return RotationResult.NOT_FOUND;
+        }
+        if (!current.equals(presentedJti)) {
+            // 재사용이 감지된 family 는 이미 삭제되었다
+            return RotationResult.REUSED;
+        }
+        redisTemplate.execute(ADD_FAMILY_SCRIPT, List.of(familyKey(userId, newFamilyId), userKey(userId)),
+            newFamilyId, newJti, Long.toString(ttl.toMillis()));
+        return RotationResult.ROTATED;
+    }
+
+    /**
+     * token family 하나 폐기
+     *
+     * @param userId 토큰 소유자 id
+     * @param familyId 폐기할 family id
+     */
+    public void revokeFamily(Long userId, String familyId) {
+        redisTemplate.delete(familyKey(userId, familyId));
+        redisTemplate.opsForSet().remove(userKey(userId), familyId);
+    }
+
+    /**
+     * 유저의 모든 token family 폐기 (전체 기기 로그아웃)
+     * <p>
+     * family id 를 먼저 읽고 family key 를 KEYS 로 넘겨 한 번에 삭제한다.
+     *
+     * @param userId 대상 유저 id
+     * @return 폐기된 family 수
+     */
+    public long revokeAll(Long userId) {
+        String userKey = userKey(userId);
+        Set<String> familyIds = redisTemplate.opsForSet().members(userKey);
+        if (familyIds == null || familyIds.isEmpty()) {
+            return 0L;
+        }
+        List<String> keys = new ArrayList<>(familyIds.size() + 1);
+        keys.add(userKey);
+        for (String familyId : familyIds) {
+            keys.add(familyKey(userId, familyId));
+        }
+        Long revoked = redisTemplate.execute(REVOKE_ALL_SCRIPT, keys, familyIds.toArray());
+        return revoked == null ? 0L : revoked;
+    }
+
+    /**
+     * family 도입 이전 방식(토큰 문자열 자체가 key)으로 저장된 토큰을 조회와 동시에 삭제
+     *
+     * @param refreshToken 토큰 문자열
+     * @return 저장되어 있던 값, 없으면 null
+     */
+    public String consumeLegacyToken(String refreshToken) {
+        return redisTemplate.opsForValue().getAndDelete(refreshToken);
+    }
+
+    private static String userKey(Long userId) {
+        return "rt:{" + userId + "}";
+    }
+
+    private static String familyKeyPrefix(Long userId) {
+        return "rt:{" + userId + "}:";
+    }
+
+    private static String familyKey(Long userId, String familyId) {
+        return familyKeyPrefix(userId) + familyId;
+    }
+
+    // family id 는 22자 또는 36자라 겹치지 않는다
+    private static String snapshotKey(Long userId) {
+        return familyKeyPrefix(userId) + "user";
+    }
+
+    /**
+     * @param result 교체 결과
+     * @param user 저장된 유저 snapshot, 교체에 실패했거나 snapshot 이 없으면 null
+     */
+    public record Rotation(RotationResult result, UserSnapshot user) {
+    }
+
+    public enum RotationResult {
+        ROTATED, NOT_FOUND, REUSED, STALE;
+
+        private static RotationResult of(Long scriptResult) {
+            if (scriptResult == null || scriptResult == 0L) {
+                return NOT_FOUND;
+            }
+            if (scriptResult == -2L) {
+                return STALE;
+            }
+            return scriptResult == 1L ? ROTATED : REUSED;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.task.domain.repository;
+
+import com.example.task.domain.model.User;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * m_user 대량 insert
+ * <p>
+ * user_id 가 IDENTITY 라 Hibernate 는 insert 를 batch 로 묶지 못하므로 JDBC batch 를 직접 사용한다.
+ * MySQL Connector/J 는 JDBC URL 에 rewriteBatchedStatements=true 가 있어야 batch 를 다중 row insert 한 번으로 보내며,
+ * 없으면 row 마다 insert 문을 따로 전송한다 (README 의 유저 대량 등록 참고).
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBulkRepository {
+
+    private static final String INSERT_SQL =
+        "insert into m_user (username, password, nickname, authority, security_epoch) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 유저 batch insert
+     *
+     * @param users 저장하려는 유저 목록 (userId 는 DB 가 부여)
+     */
+    public void insertAll(List<User> users) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, users, users.size(), (ps, user) -> {
+            ps.setString(1, user.getUsername());
+            ps.setString(2, user.getPassword());
+            ps.setString(3, user.getNickname());
+            ps.setString(4, user.getAuthority());
+            ps.setLong(5, user.getSecurityEpoch());
+        });
+    }
+
+    /**
+     * 유저 한 건 insert
+     *
+     * @param user 저장하려는 유저
+     */
+    public void insert(User user) {
+        jdbcTemplate.update(INSERT_SQL, user.getUsername(), user.getPassword(), user.getNickname(),
+            user.getAuthority(), user.getSecurityEpoch());
+    }
+}
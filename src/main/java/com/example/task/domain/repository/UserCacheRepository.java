@@ -0,0 +1,392 @@
+package com.example.task.domain.repository;
+
+import com.example.task.application.utils.ExpiringCache;
+import com.example.task.domain.event.UserSecurityChangedEvent;
+import com.example.task.domain.event.UserSignedUpEvent;
+import com.example.task.domain.model.User;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * UserRepository 앞단의 read-through 캐시
+ * <p>
+ * 로컬(in-process) -> Redis -> DB 순으로 조회하고, 변경 시 두 계층 모두에서 제거한 뒤
+ * Redis pub/sub 으로 다른 노드에도 제거를 알린다.
+ * Redis 에서는 key 를 지우지 않고 tombstone-ttl 동안 tombstone 을 남기며, DB 에서 읽은 값은 tombstone 이 있거나
+ * 더 큰 securityEpoch 가 저장되어 있으면 쓰지 않는다. 변경 전에 읽은 값이 제거 이후에 늦게 저장되어
+ * 이전 권한이 redis ttl 동안 남는 것을 막는다.
+ * 반환되는 User 는 영속 상태가 아닐 수 있으므로 조회 용도로만 사용해야 한다.
+ * 비밀번호 해시는 여러 노드가 공유하는 Redis 에 저장하지 않으므로 Redis 에서 읽은 User 의 password 는 null 이고,
+ * 비밀번호 비교가 필요한 로그인은 {@link #findWithPasswordByUsername(String)} 을 사용한다.
+ * 계층별 hit/miss 는 MetricsConfig 가 user.cache.gets{tier, result} 로 노출한다.
+ * <p>
+ * read replica 를 사용하면 캐시가 제거된 유저(회원가입, 권한/비밀번호 변경 직후)는 read-your-writes-window 동안
+ * DB 조회를 primary 에서 한다. 복제 지연으로 이전 값이나 빈 결과를 읽어 Redis 에 다시 채우는 것을 막는다.
+ */
+@Slf4j(topic = "User 캐시")
+@Repository
+public class UserCacheRepository implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "user-cache:invalidate";
+
+    private static final String ID_KEY_PREFIX = "user:cache:id:";
+    private static final String USERNAME_KEY_PREFIX = "user:cache:username:";
+    // 제거 직후 잠시 남겨 변경 전에 DB 에서 읽은 값이 다시 채워지지 않게 한다, JSON 값과 겹치지 않는다
+    private static final String TOMBSTONE = "evicted";
+    private static final String VERSION_FIELD = "securityEpoch";
+
+    private final UserRepository userRepository;
+    private final RedisRepository redisRepository;
+    private final ObjectMapper objectMapper;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final boolean enabled;
+    private final long localTtl;
+    private final long redisTtl;
+    private final long tombstoneTtl;
+    private final ExpiringCache<Long, User> localById;
+    private final ExpiringCache<String, User> localByUsername;
+    // replica 를 사용하지 않으면 0
+    private final long readYourWritesWindow;
+    private final ExpiringCache<Long, Boolean> recentlyWrittenIds;
+    private final ExpiringCache<String, Boolean> recentlyWrittenUsernames;
+
+    private final LongAdder redisHitCount = new LongAdder();
+    private final LongAdder redisMissCount = new LongAdder();
+    private final LongAdder databaseLoadCount = new LongAdder();
+
+    public UserCacheRepository(UserRepository userRepository, RedisRepository redisRepository,
+        ObjectMapper objectMapper, EntityManagerFactory entityManagerFactory,
+        @Value("${user-cache.enabled:true}") boolean enabled,
+        @Value("${user-cache.local.max-size:10000}") int localMaxSize,
+        @Value("${user-cache.local.ttl:30000}") long localTtl,
+        @Value("${user-cache.redis.ttl:600}") long redisTtl,
+        @Value("${user-cache.redis.tombstone-ttl:10}") long tombstoneTtl,
+        @Value("${datasource.replica.enabled:false}") boolean replicaEnabled,
+        // replica 최대 지연(datasource.replica.max-lag) 이상이어야 한다
+        @Value("${datasource.replica.read-your-writes-window:5000}") long readYourWritesWindow) {
+        this.userRepository = userRepository;
+        this.redisRepository = redisRepository;
+        this.objectMapper = objectMapper;
+        this.entityManagerFactory = entityManagerFactory;
+        this.enabled = enabled;
+        this.localTtl = localTtl;
+        this.redisTtl = redisTtl;
+        this.tombstoneTtl = tombstoneTtl;
+        this.localById = new ExpiringCache<>(localMaxSize);
+        this.localByUsername = new ExpiringCache<>(localMaxSize);
+        this.readYourWritesWindow = replicaEnabled ? readYourWritesWindow : 0L;
+        this.recentlyWrittenIds = new ExpiringCache<>(localMaxSize);
+        this.recentlyWrittenUsernames = new ExpiringCache<>(localMaxSize);
+    }
+
+    public Optional<User> findByUsername(String username) {
+        if (!enabled) {
+            return loadByUsername(username);
+        }
+
+        User user = localByUsername.get(username);
+        if (user != null) {
+            return Optional.of(user);
+        }
+
+        user = readFromRedis(USERNAME_KEY_PREFIX + username);
+        if (user == null) {
+            databaseLoadCount.increment();
+            Optional<User> loaded = loadByUsername(username);
+            if (loaded.isEmpty()) {
+                return loaded;
+            }
+            user = loaded.get();
+            writeToRedis(user);
+        }
+
+        putLocal(user);
+        return Optional.of(user);
+    }
+
+    /**
+     * 로그인용 조회, 비밀번호 해시가 있는 로컬 사본이 없으면 Redis 를 거치지 않고 DB 에서 읽는다
+     *
+     * @param username 로그인 요청 username
+     * @return 비밀번호 해시를 포함한 유저
+     */
+    public Optional<User> findWithPasswordByUsername(String username) {
+        if (!enabled) {
+            return loadByUsername(username);
+        }
+
+        User user = localByUsername.get(username);
+        if (user != null && user.getPassword() != null) {
+            return Optional.of(user);
+        }
+
+        databaseLoadCount.increment();
+        Optional<User> loaded = loadByUsername(username);
+        loaded.ifPresent(this::putLocal);
+        return loaded;
+    }
+
+    public Optional<User> findById(Long userId) {
+        if (!enabled) {
+            return loadById(userId);
+        }
+
+        User user = localById.get(userId);
+        if (user != null) {
+            return Optional.of(user);
+        }
+
+        user = readFromRedis(ID_KEY_PREFIX + userId);
+        if (user == null) {
+            databaseLoadCount.increment();
+            Optional<User> loaded = loadById(userId);
+            if (loaded.isEmpty()) {
+                return loaded;
+            }
+            user = loaded.get();
+            writeToRedis(user);
+        }
+
+        putLocal(user);
+        return Optional.of(user);
+    }
+
+    /**
+     * 여러 유저를 한 번에 조회
+     * 로컬에 없는 유저는 Redis MGET 한 번, 그래도 없는 유저는 DB 조회(in 절) 한 번으로 가져온다.
+     *
+     * @param userIds 조회할 유저 id 목록
+     * @return 존재하는 유저만 담은 userId -> User map
+     */
+    public Map<Long, User> findAllById(Collection<Long> userIds) {
+        Map<Long, User> found = new HashMap<>();
+        if (!enabled) {
+            loadAllById(userIds).forEach(user -> found.put(user.getUserId(), user));
+            return found;
+        }
+
+        List<Long> localMisses = new ArrayList<>();
+        for (Long userId : userIds) {
+            User user = localById.get(userId);
+            if (user != null) {
+                found.put(userId, user);
+            } else {
+                localMisses.add(userId);
+            }
+        }
+        if (localMisses.isEmpty()) {
+            return found;
+        }
+
+        List<String> keys = new ArrayList<>(localMisses.size());
+        localMisses.forEach(userId -> keys.add(ID_KEY_PREFIX + userId));
+        List<String> values = redisRepository.multiGet(keys);
+        List<Long> redisMisses = new ArrayList<>();
+        for (int i = 0; i < localMisses.size(); i++) {
+            User user = deserialize(values.get(i), keys.get(i));
+            if (user != null) {
+                putLocal(user);
+                found.put(user.getUserId(), user);
+            } else {
+                redisMisses.add(localMisses.get(i));
+            }
+        }
+        if (redisMisses.isEmpty()) {
+            return found;
+        }
+
+        databaseLoadCount.add(redisMisses.size());
+        List<User> loaded = loadAllById(redisMisses);
+        for (User user : loaded) {
+            putLocal(user);
+            found.put(user.getUserId(), user);
+        }
+        writeToRedis(loaded);
+        return found;
+    }
+
+    public boolean existsById(Long userId) {
+        if (!enabled) {
+            return isRecentlyWritten(recentlyWrittenIds, userId)
+                ? userRepository.existsPrimaryByUserId(userId)
+                : userRepository.existsById(userId);
+        }
+        return findById(userId).isPresent();
+    }
+
+    /**
+     * 유저 캐시 제거 후 다른 노드에 제거 메시지 발행
+     *
+     * @param userId 제거할 유저 id
+     * @param username 제거할 유저 username
+     */
+    public void evict(Long userId, String username) {
+        evictLocal(userId, username);
+        // 삭제 대신 tombstone 을 남겨, 변경 전에 시작된 조회가 늦게 이전 값을 저장하는 것을 막는다
+        redisRepository.saveAll(Map.of(ID_KEY_PREFIX + userId, TOMBSTONE, USERNAME_KEY_PREFIX + username, TOMBSTONE),
+            tombstoneTtl);
+        redisRepository.publish(INVALIDATION_CHANNEL, userId + ":" + username);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+        evict(event.userId(), event.username());
+    }
+
+    // 가입 직후에는 replica 에 아직 없을 수 있으므로 read-your-writes window 동안 primary 에서 읽게 한다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSignedUp(UserSignedUpEvent event) {
+        evict(event.userId(), event.username());
+    }
+
+    /**
+     * 다른 노드에서 발행한 제거 메시지 처리 ("{userId}:{username}")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            log.warn("잘못된 캐시 제거 메시지 : {}", body);
+            return;
+        }
+        try {
+            evictLocal(Long.parseLong(body.substring(0, separator)), body.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 캐시 제거 메시지 : {}", body);
+        }
+    }
+
+    public long getLocalHitCount() {
+        return localById.getHitCount() + localByUsername.getHitCount();
+    }
+
+    public long getLocalMissCount() {
+        return localById.getMissCount() + localByUsername.getMissCount();
+    }
+
+    public long getRedisHitCount() {
+        return redisHitCount.sum();
+    }
+
+    public long getRedisMissCount() {
+        return redisMissCount.sum();
+    }
+
+    public long getDatabaseLoadCount() {
+        return databaseLoadCount.sum();
+    }
+
+    public int getLocalSize() {
+        return localById.size();
+    }
+
+    // 다른 노드의 제거 메시지도 여기로 오므로 모든 노드가 같은 유저를 primary 에서 읽는다
+    private void evictLocal(Long userId, String username) {
+        localById.invalidate(userId);
+        localByUsername.invalidate(username);
+        // Hibernate 2차 캐시는 노드마다 따로 있으므로 함께 제거, username -> id 매핑은 바뀌지 않아 그대로 둔다
+        entityManagerFactory.getCache().evict(User.class, userId);
+        if (readYourWritesWindow > 0) {
+            long expiresAt = System.currentTimeMillis() + readYourWritesWindow;
+            recentlyWrittenIds.put(userId, Boolean.TRUE, expiresAt);
+            recentlyWrittenUsernames.put(username, Boolean.TRUE, expiresAt);
+        }
+    }
+
+    private Optional<User> loadByUsername(String username) {
+        return isRecentlyWritten(recentlyWrittenUsernames, username)
+            ? userRepository.findPrimaryByUsername(username)
+            : userRepository.findByUsername(username);
+    }
+
+    private Optional<User> loadById(Long userId) {
+        return isRecentlyWritten(recentlyWrittenIds, userId)
+            ? userRepository.findPrimaryByUserId(userId)
+            : userRepository.findById(userId);
+    }
+
+    private List<User> loadAllById(Collection<Long> userIds) {
+        for (Long userId : userIds) {
+            if (isRecentlyWritten(recentlyWrittenIds, userId)) {
+                return userRepository.findPrimaryByUserIdIn(userIds);
+            }
+        }
+        return userRepository.findAllById(userIds);
+    }
+
+    private <K> boolean isRecentlyWritten(ExpiringCache<K, Boolean> recentlyWritten, K key) {
+        return readYourWritesWindow > 0 && recentlyWritten.get(key) != null;
+    }
+
+    private void putLocal(User user) {
+        long expiresAt = System.currentTimeMillis() + localTtl;
+        localById.put(user.getUserId(), user, expiresAt);
+        localByUsername.put(user.getUsername(), user, expiresAt);
+    }
+
+    private User readFromRedis(String key) {
+        return deserialize(redisRepository.getValue(key), key);
+    }
+
+    private User deserialize(String value, String key) {
+        if (value == null || TOMBSTONE.equals(value)) {
+            redisMissCount.increment();
+            return null;
+        }
+        try {
+            CachedUser cached = objectMapper.readValue(value, CachedUser.class);
+            redisHitCount.increment();
+            return User.restore(cached.userId(), cached.username(), null, cached.nickname(),
+                cached.authority(), cached.securityEpoch());
+        } catch (JsonProcessingException e) {
+            log.warn("캐시 값 역직렬화 실패 key : {}", key);
+            redisMissCount.increment();
+            return null;
+        }
+    }
+
+    private void writeToRedis(User user) {
+        writeToRedis(List.of(user));
+    }
+
+    // 여러 유저를 한 번의 pipeline 으로 저장, tombstone 이 있거나 더 큰 epoch 가 저장되어 있으면 건너뛴다
+    private void writeToRedis(List<User> users) {
+        Map<String, String> values = new HashMap<>();
+        for (User user : users) {
+            CachedUser cached = new CachedUser(user.getUserId(), user.getUsername(), user.getNickname(),
+                user.getAuthority(), user.getSecurityEpoch());
+            try {
+                String value = objectMapper.writeValueAsString(cached);
+                values.put(ID_KEY_PREFIX + user.getUserId(), value);
+                values.put(USERNAME_KEY_PREFIX + user.getUsername(), value);
+            } catch (JsonProcessingException e) {
+                log.warn("캐시 값 직렬화 실패 userId : {}", user.getUserId());
+            }
+        }
+        redisRepository.saveAllIfNotOlder(values, VERSION_FIELD, TOMBSTONE, redisTtl);
+    }
+
+    // 이전 버전이 저장한 password 필드는 읽지 않는다
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record CachedUser(Long userId, String username, String nickname, String authority, long securityEpoch) {
+
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.task.domain.repository;
+
+import com.example.task.domain.model.User;
+import java.util.Optional;
+
+/**
+ * username(natural id) 조회, JPQL 대신 Hibernate natural id 조회를 사용해 2차 캐시를 거친다
+ */
+public interface UserNaturalIdRepository {
+
+    Optional<User> findByUsername(String username);
+}
@@ -0,0 +1,26 @@
+package com.example.task.domain.repository;
+
+import com.example.task.domain.model.User;
+import jakarta.persistence.EntityManager;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * UserRepository 의 findByUsername 구현 (Spring Data fragment)
+ * <p>
+ * JPQL 조회는 항상 DB 를 조회하지만 natural id 조회는 natural id 캐시에서 id 를, 엔티티 캐시에서 User 를 찾고
+ * 둘 중 하나라도 없을 때만 DB 를 조회한다.
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(User.class).loadOptional(username);
+    }
+}
@@ -1,14 +1,63 @@
 package com.example.task.domain.repository;
 
 import com.example.task.domain.model.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
 
     boolean existsByUsername(String username);
 
     boolean existsByNickname(String nickname);
 
-    Optional<User> findByUsername(String username);
+    /*
+     * 아래 find/existsPrimary 조회는 read-write transaction 을 새로 열어 replica 가 있어도 primary 에서 읽는다.
+     * 방금 변경된 유저를 복제 지연 없이 읽어야 할 때만 사용한다 (read-your-writes).
+     */
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    Optional<User> findPrimaryByUsername(String username);
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    Optional<User> findPrimaryByUserId(Long userId);
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    List<User> findPrimaryByUserIdIn(Collection<Long> userIds);
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    boolean existsPrimaryByUserId(Long userId);
+
+    /**
+     * 저장된 해시가 그대로일 때만 비밀번호 해시 교체 (로그인 시 재해시용)
+     * <p>
+     * 비밀번호 자체는 바뀌지 않으므로 security epoch 를 올리지 않으며, 벌크 update 라 엔티티 리스너도 호출되지 않는다.
+     *
+     * @return 변경된 행 수, 그 사이 비밀번호가 바뀌었으면 0
+     */
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :newPassword where u.userId = :userId and u.password = :currentPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId, @Param("currentPassword") String currentPassword,
+        @Param("newPassword") String newPassword);
+
+    @Query("select u.securityEpoch from User u where u.userId = :userId")
+    Optional<Long> findSecurityEpochById(@Param("userId") Long userId);
+
+    @Query("select u.userId as userId, u.username as username, u.nickname as nickname from User u "
+        + "where u.userId > :afterId order by u.userId")
+    List<UserUniqueKeys> findUniqueKeysAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select u.username from User u where u.username in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Query("select u.nickname from User u where u.nickname in :nicknames")
+    List<String> findExistingNicknames(@Param("nicknames") Collection<String> nicknames);
 }
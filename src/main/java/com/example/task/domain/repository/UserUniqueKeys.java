@@ -0,0 +1,13 @@
+package com.example.task.domain.repository;
+
+/**
+ * m_user 의 unique 컬럼만 조회하기 위한 projection
+ */
+public interface UserUniqueKeys {
+
+    Long getUserId();
+
+    String getUsername();
+
+    String getNickname();
+}
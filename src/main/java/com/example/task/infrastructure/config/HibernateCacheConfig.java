@@ -0,0 +1,105 @@
+package com.example.task.infrastructure.config;
+
+import com.example.task.domain.model.User;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * User 엔티티와 username natural id 의 Hibernate 2차 캐시 (JCache + Ehcache 3 heap)
+ * <p>
+ * region 마다 최대 max-entries 개를 보관하고, 가득 차면 Ehcache 가 표본 중 가장 오래 사용하지 않은 항목을 내보낸다.
+ * 항목은 expiry 설정에 따라 저장(time-to-live) 또는 마지막 조회(time-to-idle) 후 ttl 이 지나면 만료된다.
+ * 다른 노드의 변경은 UserCacheRepository 의 캐시 제거 메시지로 엔티티 캐시에서도 제거되며, ttl 은 그 외의 안전장치다.
+ * hit/miss/put 통계는 Hibernate 통계를 통해 /actuator/prometheus 의 hibernate_* 지표로 노출된다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "hibernate-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class HibernateCacheConfig {
+
+    @Value("${hibernate-cache.user.max-entries:10000}")
+    private long maxEntries;
+
+    @Value("${hibernate-cache.user.ttl:600000}")
+    private long ttl;
+
+    // time-to-live 또는 time-to-idle
+    @Value("${hibernate-cache.user.expiry:time-to-live}")
+    private String expiry;
+
+    @Value("${hibernate-cache.statistics.enabled:true}")
+    private boolean statisticsEnabled;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        createRegion(cacheManager, User.CACHE_REGION);
+        createRegion(cacheManager, User.NATURAL_ID_CACHE_REGION);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCache(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // 위에서 만들지 않은 region 을 쓰려고 하면 기본 설정으로 만들지 않고 시작을 실패시킨다
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statisticsEnabled);
+        };
+    }
+
+    /**
+     * region 크기 설정을 통계와 함께 볼 수 있도록 노출
+     */
+    @Bean
+    public MeterBinder hibernateCacheRegionMetrics() {
+        return registry -> {
+            for (String region : new String[] {User.CACHE_REGION, User.NATURAL_ID_CACHE_REGION}) {
+                Gauge.builder("hibernate.cache.region.max.entries", () -> maxEntries)
+                    .tag("region", region)
+                    .register(registry);
+                Gauge.builder("hibernate.cache.region.ttl", () -> ttl)
+                    .tag("region", region)
+                    .tag("expiry", expiry)
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            }
+        };
+    }
+
+    private void createRegion(CacheManager cacheManager, String region) {
+        CacheConfigurationBuilder<Object, Object> configuration = CacheConfigurationBuilder
+            .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+            .withExpiry(expiryPolicy());
+        cacheManager.createCache(region, Eh107Configuration.fromEhcacheCacheConfiguration(configuration));
+    }
+
+    private ExpiryPolicy<Object, Object> expiryPolicy() {
+        Duration duration = Duration.ofMillis(ttl);
+        return switch (expiry) {
+            case "time-to-live" -> ExpiryPolicyBuilder.timeToLiveExpiration(duration);
+            case "time-to-idle" -> ExpiryPolicyBuilder.timeToIdleExpiration(duration);
+            default -> throw new IllegalArgumentException("지원하지 않는 hibernate-cache.user.expiry : " + expiry);
+        };
+    }
+}
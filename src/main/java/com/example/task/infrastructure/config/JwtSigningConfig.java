@@ -0,0 +1,78 @@
+package com.example.task.infrastructure.config;
+
+import com.example.task.application.utils.SigningKeyRing;
+import com.example.task.application.utils.SigningKeyRing.Algorithm;
+import com.example.task.application.utils.SigningKeyRing.SigningKey;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+@Slf4j(topic = "JWT 서명 키")
+@Configuration
+@EnableConfigurationProperties(JwtSigningProperties.class)
+public class JwtSigningConfig {
+
+    /**
+     * 설정된 키로 key ring 구성
+     * 비대칭 알고리즘인데 키가 없으면 임시 키를 만든다. 재시작하면 이전 토큰을 검증할 수 없고
+     * 인스턴스마다 키가 달라지므로 단일 인스턴스 개발 환경에서만 사용해야 한다.
+     */
+    @Bean
+    public SigningKeyRing signingKeyRing(JwtSigningProperties properties) {
+        if ("HS512".equalsIgnoreCase(properties.getAlgorithm())) {
+            return SigningKeyRing.empty();
+        }
+        Algorithm algorithm = Algorithm.from(properties.getAlgorithm());
+
+        List<SigningKey> keys = new ArrayList<>();
+        if (properties.getKeys().isEmpty()) {
+            KeyPair keyPair = algorithm.generateKeyPair();
+            String kid = UUID.randomUUID().toString();
+            log.warn("서명 키가 설정되지 않아 임시 {} 키를 생성했습니다. kid : {}", algorithm.getJwsAlgorithm(), kid);
+            keys.add(new SigningKey(kid, algorithm, keyPair.getPrivate(), keyPair.getPublic(), null, null));
+        }
+        for (JwtSigningProperties.Key key : properties.getKeys()) {
+            keys.add(toSigningKey(algorithm, key));
+        }
+
+        SigningKeyRing keyRing = new SigningKeyRing(keys);
+        // 서명 가능한 키가 없으면 기동 시점에 실패시킨다
+        SigningKey current = keyRing.currentSigningKey(Instant.now());
+        log.info("{} 서명 키 {} 개 로드, 현재 서명 kid : {}", algorithm.getJwsAlgorithm(), keys.size(), current.getKid());
+        return keyRing;
+    }
+
+    private static SigningKey toSigningKey(Algorithm algorithm, JwtSigningProperties.Key key) {
+        if (!StringUtils.hasText(key.getKid()) || !StringUtils.hasText(key.getPublicKey())) {
+            throw new IllegalArgumentException("서명 키에는 kid 와 public-key 가 필요합니다.");
+        }
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(algorithm.getKeyAlgorithm());
+            PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(decode(key.getPublicKey())));
+            PrivateKey privateKey = StringUtils.hasText(key.getPrivateKey())
+                ? keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decode(key.getPrivateKey())))
+                : null;
+            return new SigningKey(key.getKid(), algorithm, privateKey, publicKey, key.getActivateAt(), key.getRetireAt());
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("서명 키를 읽을 수 없습니다. kid : " + key.getKid(), e);
+        }
+    }
+
+    private static byte[] decode(String value) {
+        return Base64.getMimeDecoder().decode(value);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.task.infrastructure.config;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * access token 서명 설정 (jwt.signing.*)
+ * <pre>
+ * jwt.signing.algorithm=ES256
+ * jwt.signing.keys[0].kid=2026-10
+ * jwt.signing.keys[0].private-key=(PKCS#8 DER base64, 검증만 하는 키면 생략)
+ * jwt.signing.keys[0].public-key=(X.509 DER base64)
+ * jwt.signing.keys[0].activate-at=2026-10-01T00:00:00Z
+ * jwt.signing.keys[0].retire-at=2026-11-15T00:00:00Z
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "jwt.signing")
+public class JwtSigningProperties {
+
+    // HS512 면 기존 HMAC secret 으로 서명, ES256/EdDSA 면 keys 로 서명
+    private String algorithm = "HS512";
+
+    private List<Key> keys = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Key {
+
+        private String kid;
+        private String privateKey;
+        private String publicKey;
+        private Instant activateAt;
+        private Instant retireAt;
+    }
+}
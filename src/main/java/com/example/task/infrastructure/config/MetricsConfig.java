@@ -0,0 +1,127 @@
+package com.example.task.infrastructure.config;
+
+import com.example.task.application.security.VerifiedTokenCache;
+import com.example.task.application.service.PasswordHashingExecutor;
+import com.example.task.application.service.PasswordRehashService;
+import com.example.task.domain.repository.RedisClientSideCache;
+import com.example.task.domain.repository.UserCacheRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 컴포넌트가 직접 세는 값을 /actuator/prometheus 로 노출
+ * <p>
+ * 카운터는 각 컴포넌트의 LongAdder 를 그대로 두고 FunctionCounter/FunctionTimer/Gauge 로 수집 시점에만 읽으므로
+ * 요청 경로에 Micrometer 호출이 추가되지 않는다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder applicationMetrics(PasswordHashingExecutor passwordHashingExecutor,
+        UserCacheRepository userCacheRepository, RedisClientSideCache redisClientSideCache,
+        VerifiedTokenCache verifiedTokenCache, PasswordRehashService passwordRehashService) {
+        return registry -> {
+            bindPasswordHashing(registry, passwordHashingExecutor);
+            bindPasswordRehash(registry, passwordRehashService);
+            bindUserCache(registry, userCacheRepository);
+            bindRedisClientSideCache(registry, redisClientSideCache);
+            bindVerifiedTokenCache(registry, verifiedTokenCache);
+        };
+    }
+
+    static void bindPasswordHashing(MeterRegistry registry, PasswordHashingExecutor executor) {
+        Gauge.builder("password.hashing.queue.depth", executor, PasswordHashingExecutor::getQueueDepth)
+            .description("BCrypt 작업 대기열 길이")
+            .register(registry);
+        Gauge.builder("password.hashing.active", executor, PasswordHashingExecutor::getActiveCount)
+            .description("BCrypt 작업 중인 스레드 수")
+            .register(registry);
+        FunctionCounter.builder("password.hashing.started", executor, PasswordHashingExecutor::getStartedCount)
+            .description("대기열에서 꺼내 시작한 BCrypt 작업 수")
+            .register(registry);
+        FunctionCounter.builder("password.hashing.rejected", executor, PasswordHashingExecutor::getRejectedCount)
+            .description("대기열 초과 또는 대기 시간 초과로 거부한 BCrypt 작업 수")
+            .register(registry);
+        FunctionTimer.builder("password.hashing.queue.wait", executor,
+                PasswordHashingExecutor::getStartedCount, PasswordHashingExecutor::getTotalWaitNanos,
+                TimeUnit.NANOSECONDS)
+            .description("BCrypt 작업의 대기열 대기 시간")
+            .register(registry);
+        Gauge.builder("password.hashing.queue.wait.max", executor, PasswordHashingExecutor::getMaxWaitMillis)
+            .description("시작 이후 가장 긴 대기열 대기 시간")
+            .baseUnit("milliseconds")
+            .register(registry);
+    }
+
+    static void bindPasswordRehash(MeterRegistry registry, PasswordRehashService service) {
+        FunctionCounter.builder("password.rehash", service, PasswordRehashService::getUpgradedCount)
+            .tag("result", "upgraded")
+            .description("로그인 시 현재 cost 로 교체한 비밀번호 해시 수")
+            .register(registry);
+        FunctionCounter.builder("password.rehash", service, PasswordRehashService::getDeferredCount)
+            .tag("result", "deferred")
+            .description("대기열이 붐벼 다음 로그인으로 미룬 재해시 수")
+            .register(registry);
+    }
+
+    // 계층별 hit ratio 는 수집기에서 hit / (hit + miss) 로 계산해 캐시 크기/ttl 을 정하는 데 사용
+    static void bindUserCache(MeterRegistry registry, UserCacheRepository cache) {
+        bindGets(registry, "user.cache.gets", Tags.of("tier", "local"), cache,
+            UserCacheRepository::getLocalHitCount, UserCacheRepository::getLocalMissCount);
+        bindGets(registry, "user.cache.gets", Tags.of("tier", "redis"), cache,
+            UserCacheRepository::getRedisHitCount, UserCacheRepository::getRedisMissCount);
+        FunctionCounter.builder("user.cache.db.loads", cache, UserCacheRepository::getDatabaseLoadCount)
+            .description("두 계층 모두 없어 DB 에서 읽은 유저 수")
+            .register(registry);
+        Gauge.builder("user.cache.size", cache, UserCacheRepository::getLocalSize)
+            .tag("tier", "local")
+            .description("로컬 캐시에 보관 중인 유저 수")
+            .register(registry);
+    }
+
+    static void bindRedisClientSideCache(MeterRegistry registry, RedisClientSideCache cache) {
+        bindGets(registry, "redis.client.cache.gets", Tags.empty(), cache,
+            RedisClientSideCache::getHitCount, RedisClientSideCache::getMissCount);
+        FunctionCounter.builder("redis.client.cache.invalidations", cache, RedisClientSideCache::getInvalidationCount)
+            .description("Redis invalidate 알림으로 지운 key 수")
+            .register(registry);
+        FunctionCounter.builder("redis.client.cache.flushes", cache, RedisClientSideCache::getFlushCount)
+            .description("연결 끊김 또는 전체 무효화로 로컬 사본을 모두 비운 횟수")
+            .register(registry);
+        Gauge.builder("redis.client.cache.size", cache, RedisClientSideCache::size)
+            .description("로컬에 보관 중인 key 수")
+            .register(registry);
+    }
+
+    static void bindVerifiedTokenCache(MeterRegistry registry, VerifiedTokenCache cache) {
+        bindGets(registry, "jwt.token.cache.gets", Tags.empty(), cache,
+            VerifiedTokenCache::getHitCount, VerifiedTokenCache::getMissCount);
+        FunctionCounter.builder("jwt.token.cache.evictions", cache, VerifiedTokenCache::getEvictionCount)
+            .description("가득 차서 밀려난 검증 결과 수, 계속 늘어나면 max-size 가 작은 것")
+            .register(registry);
+        Gauge.builder("jwt.token.cache.size", cache, VerifiedTokenCache::size)
+            .description("보관 중인 검증 결과 수")
+            .register(registry);
+        Gauge.builder("jwt.token.cache.max.size", cache, VerifiedTokenCache::getMaxSize)
+            .register(registry);
+    }
+
+    private static <T> void bindGets(MeterRegistry registry, String name, Tags tags, T source,
+        ToDoubleFunction<T> hits, ToDoubleFunction<T> misses) {
+        FunctionCounter.builder(name, source, hits)
+            .tags(tags.and("result", "hit"))
+            .register(registry);
+        FunctionCounter.builder(name, source, misses)
+            .tags(tags.and("result", "miss"))
+            .register(registry);
+    }
+}
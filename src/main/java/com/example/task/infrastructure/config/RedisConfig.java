@@ -1,11 +1,20 @@
 package com.example.task.infrastructure.config;
 
+import com.example.task.application.security.VerifiedTokenCache;
+import com.example.task.domain.repository.RedisClientSideCache;
+import com.example.task.domain.repository.UserCacheRepository;
+import java.time.Duration;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -19,9 +28,57 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
+    // false 면 하나의 native 연결을 공유하지 않고 매 작업마다 풀에서 연결을 빌린다
+    @Value("${redis.share-native-connection:true}")
+    private boolean shareNativeConnection;
+
+    @Value("${redis.pool.enabled:false}")
+    private boolean poolEnabled;
+
+    @Value("${redis.pool.max-active:16}")
+    private int poolMaxActive;
+
+    @Value("${redis.pool.max-idle:8}")
+    private int poolMaxIdle;
+
+    @Value("${redis.pool.min-idle:0}")
+    private int poolMinIdle;
+
+    @Value("${redis.pool.max-wait:2000}")
+    private long poolMaxWait;
+
+    /**
+     * 기본은 Lettuce 의 공유 연결 하나로 모든 명령을 multiplexing 한다.
+     * redis.pool.enabled=true 면 MULTI/blocking 명령이나 공유를 끈 경우에 사용할 연결 풀을 둔다.
+     */
     @Bean
     public RedisConnectionFactory redisConnectionFactory(){
-        return new LettuceConnectionFactory(host,port);
+        RedisStandaloneConfiguration serverConfig = new RedisStandaloneConfiguration(host, port);
+        LettuceConnectionFactory factory;
+        if (poolEnabled) {
+            GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+            poolConfig.setMaxTotal(poolMaxActive);
+            poolConfig.setMaxIdle(poolMaxIdle);
+            poolConfig.setMinIdle(poolMinIdle);
+            poolConfig.setMaxWait(Duration.ofMillis(poolMaxWait));
+            factory = new LettuceConnectionFactory(serverConfig,
+                LettucePoolingClientConfiguration.builder().poolConfig(poolConfig).build());
+        } else {
+            factory = new LettuceConnectionFactory(serverConfig);
+        }
+        factory.setShareNativeConnection(shareNativeConnection);
+        return factory;
+    }
+
+    /**
+     * RESP3 client tracking 기반 로컬 캐시, redis.client-side-cache.enabled=true 일 때만 연결을 만든다
+     */
+    @Bean
+    public RedisClientSideCache redisClientSideCache(
+        @Value("${redis.client-side-cache.enabled:false}") boolean enabled,
+        @Value("${redis.client-side-cache.max-size:10000}") int maxSize,
+        @Value("${redis.client-side-cache.ttl:60000}") long ttl){
+        return new RedisClientSideCache(enabled, host, port, maxSize, ttl);
     }
 
     @Bean
@@ -32,4 +89,16 @@ public class RedisConfig {
         redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer()); // value
         return redisTemplate;
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(UserCacheRepository userCacheRepository,
+        VerifiedTokenCache verifiedTokenCache){
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        // 다른 노드의 User 캐시 제거 메시지 구독, 검증된 토큰의 인증 객체도 함께 버린다
+        ChannelTopic invalidation = new ChannelTopic(UserCacheRepository.INVALIDATION_CHANNEL);
+        container.addMessageListener(userCacheRepository, invalidation);
+        container.addMessageListener(verifiedTokenCache, invalidation);
+        return container;
+    }
 }
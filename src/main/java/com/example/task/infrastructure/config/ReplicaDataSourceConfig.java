@@ -0,0 +1,93 @@
+package com.example.task.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * primary + read replica DataSource, datasource.replica.enabled=true 일 때만 사용
+ * <p>
+ * primary 는 spring.datasource.*, replica 는 datasource.replica.urls 의 각 주소로 만들고
+ * 연결 풀 설정(spring.datasource.hikari.*)은 둘 다 같은 값을 사용한다.
+ * 설정하지 않으면 Spring Boot 기본 DataSource 하나를 그대로 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Value("${datasource.replica.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    // 이보다 지연이 큰 replica 는 읽기에서 제외
+    @Value("${datasource.replica.max-lag:5000}")
+    private long maxLag;
+
+    @Value("${datasource.replica.lag-check-interval:1000}")
+    private long lagCheckInterval;
+
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties,
+        Environment environment) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        bindPoolSettings(primary, "primary", environment);
+
+        List<DataSource> replicas = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            bindPoolSettings(replica, "replica-" + i, environment);
+            replica.setJdbcUrl(replicaUrls.get(i));
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, ReplicaLagProbe.mysql(), maxLag, lagCheckInterval);
+    }
+
+    /**
+     * JPA 와 JdbcTemplate 이 사용하는 DataSource
+     * transaction 의 readOnly 여부가 정해진 뒤 첫 쿼리에서 실제 연결을 고르도록 지연시킨다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * 기본값(DELAYED_ACQUISITION_AND_HOLD)은 EntityManager 가 열려 있는 동안 첫 연결을 계속 쓰므로
+     * transaction 마다 연결을 반납해 다음 transaction 이 primary/replica 를 다시 고르게 한다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer replicaConnectionHandling() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+            PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    private static void bindPoolSettings(HikariDataSource dataSource, String poolName, Environment environment) {
+        Binder.get(environment).bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+    }
+}
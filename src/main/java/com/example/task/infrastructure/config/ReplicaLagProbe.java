@@ -0,0 +1,43 @@
+package com.example.task.infrastructure.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+
+/**
+ * replica 의 복제 지연 측정
+ */
+@FunctionalInterface
+public interface ReplicaLagProbe {
+
+    // 복제가 멈춰 지연을 알 수 없을 때
+    long UNAVAILABLE = -1L;
+
+    /**
+     * @param replica 측정할 replica
+     * @return 복제 지연 (ms), 복제가 멈췄으면 UNAVAILABLE
+     * @throws SQLException 연결/조회 실패, 사용할 수 없는 replica 로 처리된다
+     */
+    long lagMillis(DataSource replica) throws SQLException;
+
+    /**
+     * MySQL 8.0.22+ 의 SHOW REPLICA STATUS 로 측정, 초 단위라 1초 미만의 지연은 0 으로 보인다
+     * <p>
+     * 결과가 없으면 복제 설정이 없는 서버(로컬에서 primary 를 replica 로 지정한 경우 등)이므로 지연 0 으로 본다.
+     */
+    static ReplicaLagProbe mysql() {
+        return replica -> {
+            try (Connection connection = replica.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+                if (!resultSet.next()) {
+                    return 0L;
+                }
+                long seconds = resultSet.getLong("Seconds_Behind_Source");
+                return resultSet.wasNull() ? UNAVAILABLE : seconds * 1000L;
+            }
+        };
+    }
+}
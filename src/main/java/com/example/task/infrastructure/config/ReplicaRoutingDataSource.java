@@ -0,0 +1,169 @@
+package com.example.task.infrastructure.config;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * read-only transaction 은 replica, 그 외는 primary 로 보내는 DataSource
+ * <p>
+ * transaction 의 readOnly 여부는 transaction 이 시작된 뒤에야 알 수 있으므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸 첫 쿼리 시점에 연결을 고르게 해야 한다.
+ * replica 는 lag-check-interval 마다 복제 지연을 측정해 max-lag 이하인 것만 돌아가며 사용하고,
+ * 사용할 수 있는 replica 가 없으면 primary 로 보낸다.
+ */
+@Slf4j(topic = "DB replica 라우팅")
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReplicaLagProbe lagProbe;
+    private final long maxLag;
+    private final long lagCheckInterval;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private ScheduledExecutorService lagChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources,
+        ReplicaLagProbe lagProbe, long maxLag, long lagCheckInterval) {
+        this.primary = primary;
+        this.lagProbe = lagProbe;
+        this.maxLag = maxLag;
+        this.lagCheckInterval = lagCheckInterval;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        List<Replica> replicas = new ArrayList<>(replicaDataSources.size());
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            Replica replica = new Replica("replica-" + i, replicaDataSources.get(i));
+            replicas.add(replica);
+            targets.put(replica.key, replica.dataSource);
+        }
+        this.replicas = List.copyOf(replicas);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 지연을 한 번 측정한 뒤 주기적인 측정 시작, 첫 측정 전에는 모든 읽기를 primary 로 보낸다
+     */
+    public void start() {
+        checkReplicas();
+        if (availableReplicaCount() < replicas.size()) {
+            log.warn("사용할 수 없는 replica 가 있어 해당 읽기는 primary 로 보냅니다. 사용 가능 : {}/{}",
+                availableReplicaCount(), replicas.size());
+        }
+        lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-checker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lagChecker.scheduleWithFixedDelay(this::checkReplicas, lagCheckInterval, lagCheckInterval,
+            TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        if (lagChecker != null) {
+            lagChecker.shutdownNow();
+        }
+        close(primary);
+        replicas.forEach(replica -> close(replica.dataSource));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        Replica replica = nextAvailableReplica();
+        return replica != null ? replica.key : PRIMARY;
+    }
+
+    /**
+     * 모든 replica 의 복제 지연을 측정해 사용 여부 갱신
+     */
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            long lag;
+            try {
+                lag = lagProbe.lagMillis(replica.dataSource);
+            } catch (SQLException | RuntimeException e) {
+                log.debug("replica 지연 측정 실패 {} : {}", replica.key, e.getMessage());
+                lag = ReplicaLagProbe.UNAVAILABLE;
+            }
+            boolean available = lag >= 0 && lag <= maxLag;
+            if (available != replica.available) {
+                if (available) {
+                    log.info("replica 사용 재개 {}, 지연 : {}ms", replica.key, lag);
+                } else {
+                    log.warn("replica 사용 중지 {}, 지연 : {}ms (최대 {}ms)", replica.key, lag, maxLag);
+                }
+            }
+            replica.available = available;
+        }
+    }
+
+    /**
+     * @return 현재 읽기에 사용하는 replica 수
+     */
+    public int availableReplicaCount() {
+        int count = 0;
+        for (Replica replica : replicas) {
+            if (replica.available) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 사용 가능한 replica 를 돌아가며 선택, 없으면 null
+    private Replica nextAvailableReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private static void close(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("DataSource 종료 실패 : {}", e.getMessage());
+            }
+        }
+    }
+
+    private static final class Replica {
+
+        private final String key;
+        private final DataSource dataSource;
+        // lag checker 스레드만 쓰고 요청 스레드는 읽기만 한다
+        private volatile boolean available;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.task.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * virtual thread 실행 모드 확인
+ * <p>
+ * spring.threads.virtual.enabled=true 이고 JRE 21 이상이면 Spring Boot 가 Tomcat 요청을 virtual thread 에서 실행한다.
+ * 이 모드에서는 server.tomcat.threads.max 가 동시 처리 수를 제한하지 않으므로
+ * DB 커넥션 풀(spring.datasource.hikari.maximum-pool-size)과 PasswordHashingExecutor 대기열이 실질적인 상한이 된다.
+ */
+@Slf4j(topic = "Virtual thread")
+@Configuration
+public class VirtualThreadConfig {
+
+    private static final int MIN_FEATURE_VERSION = 21;
+
+    public VirtualThreadConfig(@Value("${spring.threads.virtual.enabled:false}") boolean enabled) {
+        if (!enabled) {
+            return;
+        }
+        int feature = Runtime.version().feature();
+        if (feature < MIN_FEATURE_VERSION) {
+            log.warn("virtual thread 모드가 설정되었지만 JRE {} 에서는 지원되지 않아 platform thread 로 실행합니다.", feature);
+            return;
+        }
+        log.info("요청을 virtual thread 에서 실행합니다. JRE : {}", feature);
+    }
+}
@@ -1,10 +1,20 @@
 package com.example.task.infrastructure.config;
 
+import com.example.task.application.security.BCryptStrengthCalibrator;
+import com.example.task.application.security.GatewayAuthenticationFilter;
 import com.example.task.application.security.JwtAuthorizationFilter;
+import com.example.task.application.security.PublicRoutes;
+import com.example.task.application.security.RateLimitFilter;
+import com.example.task.application.security.RateLimiter;
+import com.example.task.application.security.SecurityEpochStore;
+import com.example.task.application.security.TokenDenylist;
 import com.example.task.application.security.UserDetailsServiceImpl;
+import com.example.task.application.security.VerifiedTokenCache;
 import com.example.task.application.utils.JwtUtil;
+import com.example.task.application.utils.PhaseTimer;
 import java.util.Arrays;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -29,10 +39,44 @@ public class WebSecurityConfig {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenDenylist tokenDenylist;
+    private final SecurityEpochStore securityEpochStore;
+    private final RateLimiter rateLimiter;
+    private final PhaseTimer phaseTimer;
 
+    @Value("${jwt.claims-only-auth.enabled:false}")
+    private boolean claimsOnlyAuth;
+
+    // 게이트웨이 전용 경로(/introspect) 호출에 필요한 secret, 없으면 해당 경로는 항상 401
+    @Value("${gateway.client-secret:}")
+    private String gatewayClientSecret;
+
+    @Value("${rate-limit.trust-forwarded-for:false}")
+    private boolean trustForwardedFor;
+
+    // 0 이면 시작 시 측정해서 target-latency 에 맞춘다
+    @Value("${password-hashing.strength:0}")
+    private int passwordStrength;
+
+    @Value("${password-hashing.target-latency:250}")
+    private long passwordTargetLatency;
+
+    @Value("${password-hashing.min-strength:10}")
+    private int passwordMinStrength;
+
+    @Value("${password-hashing.max-strength:16}")
+    private int passwordMaxStrength;
+
+    /**
+     * BCrypt cost 는 설정값, 없으면 하드웨어에서 측정한 값을 사용한다.
+     * 저장된 해시의 cost 가 더 낮으면 upgradeEncoding 이 true 가 되어 로그인 시 재해시된다.
+     */
     @Bean
     public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+        int strength = passwordStrength > 0 ? passwordStrength
+            : BCryptStrengthCalibrator.calibrate(passwordTargetLatency, passwordMinStrength, passwordMaxStrength);
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -43,7 +87,8 @@ public class WebSecurityConfig {
 
     @Bean
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
-        return new JwtAuthorizationFilter(jwtUtil, userDetailsService);
+        return new JwtAuthorizationFilter(jwtUtil, userDetailsService, verifiedTokenCache, tokenDenylist,
+            securityEpochStore, phaseTimer, claimsOnlyAuth);
     }
 
     @Bean
@@ -82,19 +127,20 @@ public class WebSecurityConfig {
             authorizeHttpRequests
                 .requestMatchers(PathRequest.toStaticResources().atCommonLocations())
                 .permitAll()
-                .requestMatchers("/", "/health", "/css/**", "/js/**", "/img/**", "/lib/**",
-                    "/scss/**", "/favicon.ico").permitAll()
-                .requestMatchers("/signup").permitAll()
-                .requestMatchers("/sign").permitAll()
-                .requestMatchers("/access-token/reissue").permitAll()
-                .requestMatchers("/swagger-ui/**").permitAll()
-                .requestMatchers("/v3/api-docs/**").permitAll()
+                // 인증 필터의 통과 경로와 같은 목록
+                .requestMatchers(PublicRoutes.permitAllPatterns()).permitAll()
+                .requestMatchers(PublicRoutes.gatewayPatterns()).hasAuthority(GatewayAuthenticationFilter.ROLE_GATEWAY)
+                .requestMatchers("/admin/**").hasRole("ADMIN")
                 .anyRequest().authenticated() // 그 외 모든 요청 인증처리
         );
 
 
         // JwtAuthorizationFilter 추가 (UsernamePasswordAuthenticationFilter 전에 위치)
         http.addFilterBefore(jwtAuthorizationFilter(), UsernamePasswordAuthenticationFilter.class);
+        // 게이트웨이 전용 경로는 유저 토큰 대신 client secret 으로 인증
+        http.addFilterAfter(new GatewayAuthenticationFilter(gatewayClientSecret), JwtAuthorizationFilter.class);
+        // 공개 endpoint 요청 수 제한은 인증 필터보다 먼저 수행
+        http.addFilterBefore(new RateLimitFilter(rateLimiter, trustForwardedFor), JwtAuthorizationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,27 @@
+package com.example.task.presentation.controller;
+
+import com.example.task.application.dto.UserImportResponseDto;
+import com.example.task.application.service.UserImportService;
+import com.example.task.application.service.UserImportService.ImportFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class AdminUserController {
+
+    private final UserImportService userImportService;
+
+    // 본문을 메모리에 올리지 않도록 요청 스트림을 그대로 전달
+    @PostMapping(value = "/admin/users/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<UserImportResponseDto> importUsers(HttpServletRequest request) throws IOException {
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+        UserImportResponseDto responseDto = userImportService.importUsers(request.getInputStream(), format);
+        return ResponseEntity.status(HttpStatus.OK).body(responseDto);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.task.presentation.controller;
+
+import com.example.task.application.utils.SigningKeyRing;
+import io.jsonwebtoken.security.PublicJwk;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * access token 검증용 공개키 목록 (RFC 7517 JWK Set)
+ * <p>
+ * 다른 서비스는 이 목록을 캐시해 두고 토큰 header 의 kid 로 키를 골라 직접 검증한다.
+ * 키 교체 시 새 키가 서명 전부터 목록에 포함되므로 max-age 동안 캐시해도 검증이 끊기지 않는다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final SigningKeyRing signingKeyRing;
+
+    @Value("${jwt.jwks.max-age:300}")
+    private long maxAge;  // 초
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, List<PublicJwk<?>>>> jwks(WebRequest request) {
+        List<PublicJwk<?>> keys = signingKeyRing.publishedKeys(Instant.now());
+
+        // 키 구성이 바뀌지 않았으면 본문 없이 304 응답
+        StringBuilder thumbprints = new StringBuilder();
+        keys.forEach(key -> thumbprints.append(key.thumbprint()).append(','));
+        String etag = "\"" + Integer.toHexString(thumbprints.toString().hashCode()) + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(Duration.ofSeconds(maxAge)).cachePublic())
+            .eTag(etag)
+            .body(Map.of("keys", keys));
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.task.presentation.controller;
+
+import com.example.task.application.dto.TokenIntrospectionResponseDto;
+import com.example.task.application.service.TokenIntrospectionService;
+import com.example.task.presentation.request.TokenIntrospectionRequestDto;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 게이트웨이가 받은 access token 을 모아서 한 번에 검증하는 내부용 API
+ * <p>
+ * 토큰 payload 는 원래 누구나 읽을 수 있는 값이지만 유저 존재/폐기 여부가 함께 나가므로
+ * GatewayAuthenticationFilter 의 client secret 인증을 통과한 게이트웨이만 호출할 수 있다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class TokenIntrospectionController {
+
+    private final TokenIntrospectionService tokenIntrospectionService;
+
+    @PostMapping("/introspect")
+    public ResponseEntity<TokenIntrospectionResponseDto> introspect(
+        @Valid @RequestBody TokenIntrospectionRequestDto requestDto) {
+        TokenIntrospectionResponseDto responseDto = tokenIntrospectionService.introspect(requestDto.getTokens());
+        return ResponseEntity.status(HttpStatus.OK).body(responseDto);
+    }
+}
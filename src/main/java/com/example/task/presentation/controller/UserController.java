@@ -5,11 +5,14 @@ import com.example.task.application.dto.UserSignupResponseDto;
 import com.example.task.application.service.UserService;
 import com.example.task.presentation.request.UserLoginRequestDto;
 import com.example.task.presentation.request.UserSignupRequestDto;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -39,4 +42,16 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.OK).build();  // 상태 코드만 반환
     }
 
+    @PostMapping("/access-token/revoke")
+    public ResponseEntity<Void> revokeAccessToken(HttpServletRequest request){
+        userService.revokeAccessToken(request);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+
+    @PostMapping("/logout/all")
+    public ResponseEntity<Void> logoutAllDevices(@AuthenticationPrincipal UserDetails userDetails){
+        userService.logoutAllDevices(userDetails.getUsername());
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+
 }
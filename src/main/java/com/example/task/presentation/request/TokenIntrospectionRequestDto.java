@@ -0,0 +1,14 @@
+package com.example.task.presentation.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class TokenIntrospectionRequestDto {
+
+    @NotEmpty(message = "검증할 토큰이 없습니다.")
+    @Size(max = 100, message = "한 번에 최대 100개의 토큰을 검증할 수 있습니다.")
+    private List<String> tokens;
+}
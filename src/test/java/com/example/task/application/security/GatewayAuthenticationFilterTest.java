@@ -0,0 +1,87 @@
+package com.example.task.application.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class GatewayAuthenticationFilterTest {
+
+    private static final String SECRET = "gateway-secret";
+
+    private FilterChain filterChain;
+
+    @BeforeEach
+    void setUp() {
+        filterChain = mock(FilterChain.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("secret 없이 /introspect 를 호출하면 다음 필터로 넘기지 않고 401 로 응답한다")
+    void doFilter_ShouldRejectIntrospect_WithoutSecret() throws Exception {
+        MockHttpServletResponse response = doFilter(new GatewayAuthenticationFilter(SECRET), "/introspect", null);
+
+        assertEquals(401, response.getStatus());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(filterChain, times(0)).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("secret 이 다르거나 설정되지 않았으면 401 로 응답한다")
+    void doFilter_ShouldRejectIntrospect_WithWrongOrUnconfiguredSecret() throws Exception {
+        assertEquals(401, doFilter(new GatewayAuthenticationFilter(SECRET), "/introspect", "wrong").getStatus());
+        assertEquals(401, doFilter(new GatewayAuthenticationFilter(""), "/introspect", "").getStatus());
+        assertEquals(401, doFilter(new GatewayAuthenticationFilter(null), "/introspect", SECRET).getStatus());
+        verify(filterChain, times(0)).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("secret 이 맞으면 ROLE_GATEWAY 로 인증하고 다음 필터로 넘긴다")
+    void doFilter_ShouldAuthenticateGateway_WithSecret() throws Exception {
+        MockHttpServletResponse response = doFilter(new GatewayAuthenticationFilter(SECRET), "/introspect", SECRET);
+
+        assertEquals(200, response.getStatus());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertEquals(GatewayAuthenticationFilter.ROLE_GATEWAY,
+            authentication.getAuthorities().iterator().next().getAuthority());
+        verify(filterChain, times(1)).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("게이트웨이 전용이 아닌 경로는 secret 을 확인하지 않는다")
+    void doFilter_ShouldIgnoreOtherRoutes() throws Exception {
+        MockHttpServletResponse response = doFilter(new GatewayAuthenticationFilter(SECRET), "/sign", null);
+
+        assertEquals(200, response.getStatus());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(filterChain, times(1)).doFilter(any(), any());
+    }
+
+    private MockHttpServletResponse doFilter(GatewayAuthenticationFilter filter, String path, String secret)
+        throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setServletPath(path);
+        if (secret != null) {
+            request.addHeader(GatewayAuthenticationFilter.GATEWAY_SECRET_HEADER, secret);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, filterChain);
+        return response;
+    }
+}
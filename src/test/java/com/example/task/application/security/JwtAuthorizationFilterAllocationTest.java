@@ -0,0 +1,112 @@
+package com.example.task.application.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.task.application.utils.JwtUtil;
+import com.example.task.application.utils.PhaseTimer;
+import com.example.task.application.utils.SigningKeyRing;
+import com.example.task.domain.model.User;
+import com.example.task.domain.repository.UserCacheRepository;
+import jakarta.servlet.FilterChain;
+import java.lang.management.ManagementFactory;
+import java.util.Date;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 인가 필터의 요청당 할당량 회귀 테스트
+ * <p>
+ * 이미 검증한 토큰(캐시 hit)이 들어오는 가장 흔한 경로에서 요청 하나를 처리하는 동안
+ * 현재 스레드가 할당한 byte 수를 재고 예산을 넘으면 실패한다.
+ * 요청/응답 객체는 미리 만들어 재사용하므로 측정값에는 필터와 그 아래 호출만 포함된다.
+ */
+class JwtAuthorizationFilterAllocationTest {
+
+    private static final String SECRET = "dd8c1a53325ae3211ae6dd4f2ad2d5d80d0ced29305ba45d3df0c8a249e8ea50e984dac55d0513a400e4f7d7b17599ba49439039c22527d187d280d26722a5d1";
+
+    // 남은 할당은 토큰 문자열 복사(Bearer 제거)와 캐시 key 가 대부분 (약 550 bytes),
+    // INFO 로그와 요청마다 권한 목록을 만들던 이전 구현은 요청당 약 8KB 를 할당했다
+    private static final long MAX_BYTES_PER_REQUEST = 768;
+    private static final int WARM_UP_REQUESTS = 20_000;
+    private static final int MEASURED_REQUESTS = 20_000;
+
+    private JwtAuthorizationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain filterChain;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.createUser("exampleUser", "encodedPassword", "exampleNick");
+        ReflectionTestUtils.setField(user, "userId", 1L);
+        UserCacheRepository userCacheRepository = mock(UserCacheRepository.class);
+        when(userCacheRepository.existsById(1L)).thenReturn(true);
+        when(userCacheRepository.findByUsername("exampleUser")).thenReturn(Optional.of(user));
+
+        JwtUtil jwtUtil = new JwtUtil(SECRET, "admin-user", null, userCacheRepository, PhaseTimer.disabled(),
+            SigningKeyRing.empty());
+        ReflectionTestUtils.setField(jwtUtil, "accessExpiration", 3600000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", 36000000L);
+
+        TokenDenylist tokenDenylist = new TokenDenylist(null, false, 3600000L, 1000L, 0.01, 1000L, 60000L);
+        tokenDenylist.revoke("other-token", new Date(System.currentTimeMillis() + 3600000L));
+
+        filter = new JwtAuthorizationFilter(jwtUtil, new UserDetailsServiceImpl(userCacheRepository),
+            new VerifiedTokenCache(true, 1000, 300000L, 1000, 60000L), tokenDenylist, null, PhaseTimer.disabled(),
+            false);
+
+        request = new MockHttpServletRequest("GET", "/tasks");
+        request.setServletPath("/tasks");
+        request.addHeader(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + jwtUtil.createAccessToken(user));
+        response = new MockHttpServletResponse();
+        filterChain = (req, res) -> { };
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰의 인가 처리는 요청당 할당 예산을 넘지 않는다")
+    void doFilter_ShouldStayWithinAllocationBudget() throws Exception {
+        com.sun.management.ThreadMXBean threadMXBean = threadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+            filter.doFilter(request, response, filterChain);
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertEquals("exampleUser", authentication.getName());
+
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            filter.doFilter(request, response, filterChain);
+        }
+        long bytesPerRequest = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / MEASURED_REQUESTS;
+
+        assertTrue(bytesPerRequest <= MAX_BYTES_PER_REQUEST,
+            "요청당 할당량 " + bytesPerRequest + " bytes 가 예산 " + MAX_BYTES_PER_REQUEST + " bytes 를 넘었습니다.");
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(bean instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported());
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) bean;
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        return threadMXBean;
+    }
+}
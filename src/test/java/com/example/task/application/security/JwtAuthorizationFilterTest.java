@@ -0,0 +1,213 @@
+package com.example.task.application.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.task.application.utils.JwtUtil;
+import com.example.task.application.utils.PhaseTimer;
+import com.example.task.application.utils.SigningKeyRing;
+import com.example.task.domain.event.UserSecurityChangedEvent;
+import com.example.task.domain.model.User;
+import com.example.task.domain.repository.UserCacheRepository;
+import jakarta.servlet.FilterChain;
+import java.util.Date;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtAuthorizationFilterTest {
+
+    private static final String SECRET = "dd8c1a53325ae3211ae6dd4f2ad2d5d80d0ced29305ba45d3df0c8a249e8ea50e984dac55d0513a400e4f7d7b17599ba49439039c22527d187d280d26722a5d1";
+
+    private JwtUtil jwtUtil;
+    private UserCacheRepository userCacheRepository;
+    private VerifiedTokenCache verifiedTokenCache;
+    private TokenDenylist tokenDenylist;
+    private JwtAuthorizationFilter filter;
+    private FilterChain filterChain;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.createUser("exampleUser", "encodedPassword", "exampleNick");
+        ReflectionTestUtils.setField(user, "userId", 1L);
+        userCacheRepository = mock(UserCacheRepository.class);
+        when(userCacheRepository.existsById(1L)).thenReturn(true);
+        when(userCacheRepository.findByUsername("exampleUser")).thenReturn(Optional.of(user));
+
+        jwtUtil = spy(new JwtUtil(SECRET, "admin-user", null, userCacheRepository, PhaseTimer.disabled(),
+            SigningKeyRing.empty()));
+        ReflectionTestUtils.setField(jwtUtil, "accessExpiration", 3600000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", 36000000L);
+
+        verifiedTokenCache = new VerifiedTokenCache(true, 1000, 300000L, 1000, 60000L);
+        tokenDenylist = new TokenDenylist(null, false, 3600000L, 1000L, 0.01, 1000L, 60000L);
+        filter = new JwtAuthorizationFilter(jwtUtil, new UserDetailsServiceImpl(userCacheRepository),
+            verifiedTokenCache, tokenDenylist, null, PhaseTimer.disabled(), false);
+        filterChain = mock(FilterChain.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 토큰은 서명 검증 없이 401 로 거부한다")
+    void doFilter_ShouldRejectMalformedToken_WithoutVerification() throws Exception {
+        MockHttpServletResponse response = doFilter("not-a-jwt");
+
+        assertEquals(401, response.getStatus());
+        assertEquals("Bearer error=\"invalid_token\"", response.getHeader(HttpHeaders.WWW_AUTHENTICATE));
+        assertEquals("유효하지 않은 토큰입니다.", response.getContentAsString());
+        verify(filterChain, times(0)).doFilter(any(), any());
+        assertEquals(0, verifiedTokenCache.rejectedSize());
+    }
+
+    @Test
+    @DisplayName("서명이 맞지 않는 토큰은 한 번만 검증하고 이후에는 캐시에서 거부한다")
+    void doFilter_ShouldRejectForgedToken_FromNegativeCache() throws Exception {
+        String token = jwtUtil.createAccessToken(user);
+        String forged = token.substring(0, token.lastIndexOf('.') + 1) + "A".repeat(43);
+
+        assertEquals(401, doFilter(forged).getStatus());
+        MockHttpServletResponse response = doFilter(forged);
+
+        assertEquals(401, response.getStatus());
+        assertEquals("유효하지 않은 토큰입니다.", response.getContentAsString());
+        assertEquals(1, verifiedTokenCache.rejectedSize());
+        verify(jwtUtil, times(1)).verifyJwt(anyString());
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰은 401 로 거부하고 유효한 토큰은 다음 필터로 넘긴다")
+    void doFilter_ShouldRejectRevokedToken() throws Exception {
+        String revoked = jwtUtil.createAccessToken(user);
+        tokenDenylist.revoke(jwtUtil.parseClaims(revoked).getId(), new Date(System.currentTimeMillis() + 60000));
+
+        MockHttpServletResponse revokedResponse = doFilter(revoked);
+        assertEquals(401, revokedResponse.getStatus());
+        assertEquals("폐기된 토큰입니다.", revokedResponse.getContentAsString());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+        MockHttpServletResponse validResponse = doFilter(jwtUtil.createAccessToken(user));
+        assertEquals(200, validResponse.getStatus());
+        assertEquals("exampleUser", SecurityContextHolder.getContext().getAuthentication().getName());
+    }
+
+    @Test
+    @DisplayName("한 번 검증한 토큰은 서명 검증과 유저 조회 없이 캐시된 인증 객체로 통과시킨다")
+    void doFilter_ShouldSkipVerification_WhenTokenIsCached() throws Exception {
+        String token = jwtUtil.createAccessToken(user);
+
+        assertEquals(200, doFilter(token).getStatus());
+        Object firstPrincipal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+
+        MockHttpServletResponse response = doFilter(token);
+
+        assertEquals(200, response.getStatus());
+        assertSame(firstPrincipal, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        verify(jwtUtil, times(1)).verifyJwt(token);
+        verify(userCacheRepository, times(1)).findByUsername("exampleUser");
+        assertEquals(1L, verifiedTokenCache.getHitCount());
+    }
+
+    @Test
+    @DisplayName("권한이 바뀐 유저의 캐시된 토큰은 다시 검증해 바뀐 권한으로 인증한다")
+    void doFilter_ShouldReverify_WhenCachedUserIsDemoted() throws Exception {
+        user.changeAuthority("ROLE_ADMIN");
+        String token = jwtUtil.createAccessToken(user);
+        assertEquals(200, doFilter(token).getStatus());
+        SecurityContextHolder.clearContext();
+
+        user.changeAuthority("ROLE_USER");
+        verifiedTokenCache.onUserSecurityChanged(new UserSecurityChangedEvent(1L, "exampleUser", "ROLE_USER", 1L));
+        MockHttpServletResponse response = doFilter(token);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("[ROLE_USER]",
+            SecurityContextHolder.getContext().getAuthentication().getAuthorities().toString());
+        verify(jwtUtil, times(2)).verifyJwt(token);
+        verify(userCacheRepository, times(2)).findByUsername("exampleUser");
+    }
+
+    @Test
+    @DisplayName("claims-only 모드는 유저 조회 없이 토큰 claim 으로 인증하고 epoch 가 같으면 통과시킨다")
+    void doFilter_ShouldAuthenticateFromClaims_WhenClaimsOnly() throws Exception {
+        SecurityEpochStore securityEpochStore = mock(SecurityEpochStore.class);
+        when(securityEpochStore.getEpoch(1L)).thenReturn(0L);
+        filter = claimsOnlyFilter(securityEpochStore);
+
+        MockHttpServletResponse response = doFilter(jwtUtil.createAccessToken(user));
+
+        assertEquals(200, response.getStatus());
+        JwtUserPrincipal principal =
+            (JwtUserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertEquals(1L, principal.getUserId());
+        assertEquals("exampleUser", principal.getUsername());
+        verify(userCacheRepository, never()).findByUsername(anyString());
+        verify(filterChain).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("claims-only 모드에서 토큰 발급 이후 epoch 가 올랐으면 캐시된 토큰도 401 로 거부한다")
+    void doFilter_ShouldRejectStaleEpoch_WhenClaimsOnly() throws Exception {
+        SecurityEpochStore securityEpochStore = mock(SecurityEpochStore.class);
+        when(securityEpochStore.getEpoch(1L)).thenReturn(0L, 1L);
+        filter = claimsOnlyFilter(securityEpochStore);
+        String token = jwtUtil.createAccessToken(user);
+
+        assertEquals(200, doFilter(token).getStatus());
+        SecurityContextHolder.clearContext();
+
+        // 권한 변경으로 epoch 가 1 이 된 뒤, 검증 결과 캐시에 남아 있는 토큰
+        MockHttpServletResponse response = doFilter(token);
+
+        assertEquals(401, response.getStatus());
+        assertEquals("유저 검증에 실패했습니다.", response.getContentAsString());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(jwtUtil, times(1)).parseClaims(token);
+    }
+
+    @Test
+    @DisplayName("claims-only 모드에서 유저가 삭제되어 epoch 가 없으면 401 로 거부한다")
+    void doFilter_ShouldReject_WhenClaimsOnlyAndUserMissing() throws Exception {
+        SecurityEpochStore securityEpochStore = mock(SecurityEpochStore.class);
+        when(securityEpochStore.getEpoch(1L)).thenReturn(null);
+        filter = claimsOnlyFilter(securityEpochStore);
+
+        MockHttpServletResponse response = doFilter(jwtUtil.createAccessToken(user));
+
+        assertEquals(401, response.getStatus());
+        assertEquals("유저 검증에 실패했습니다.", response.getContentAsString());
+    }
+
+    private JwtAuthorizationFilter claimsOnlyFilter(SecurityEpochStore securityEpochStore) {
+        return new JwtAuthorizationFilter(jwtUtil, new UserDetailsServiceImpl(userCacheRepository),
+            verifiedTokenCache, tokenDenylist, securityEpochStore, PhaseTimer.disabled(), true);
+    }
+
+    private MockHttpServletResponse doFilter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+        request.setServletPath("/tasks");
+        request.addHeader(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, filterChain);
+        return response;
+    }
+}
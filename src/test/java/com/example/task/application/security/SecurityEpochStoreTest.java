@@ -0,0 +1,80 @@
+package com.example.task.application.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.task.domain.event.UserSecurityChangedEvent;
+import com.example.task.domain.repository.RedisRepository;
+import com.example.task.domain.repository.UserRepository;
+import com.example.task.support.EmbeddedRedisExtension;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class SecurityEpochStoreTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private static RedisRepository redisRepository;
+
+    private UserRepository userRepository;
+    private SecurityEpochStore securityEpochStore;
+
+    @BeforeAll
+    static void setUpRepository() {
+        redisRepository = redis.redisRepository();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisRepository.delete("user:epoch:1");
+        userRepository = mock(UserRepository.class);
+        securityEpochStore = new SecurityEpochStore(redisRepository, userRepository, 100, 5000L);
+    }
+
+    @Test
+    @DisplayName("DB 에서 이전 epoch 를 읽은 사이 변경 이벤트가 먼저 저장되면 이전 값으로 덮어쓰지 않는다")
+    void getEpoch_ShouldNotOverwriteNewerEpoch_WhenFillArrivesLate() {
+        // 조회 요청이 DB 에서 epoch 0 을 읽은 직후, 비밀번호 변경 커밋의 이벤트가 epoch 1 을 저장
+        when(userRepository.findSecurityEpochById(1L)).thenAnswer(invocation -> {
+            securityEpochStore.onUserSecurityChanged(new UserSecurityChangedEvent(1L, "exampleUser", "ROLE_USER", 1L));
+            return Optional.of(0L);
+        });
+
+        assertEquals(1L, securityEpochStore.getEpoch(1L));
+        assertEquals("1", redisRepository.getValue("user:epoch:1"));
+
+        // 다른 노드도 Redis 에서 최신 epoch 를 읽는다
+        SecurityEpochStore otherNode = new SecurityEpochStore(redisRepository, mock(UserRepository.class), 100, 5000L);
+        assertEquals(1L, otherNode.getEpoch(1L));
+    }
+
+    @Test
+    @DisplayName("epoch 가 증가하면 변경 이벤트로 Redis 와 로컬 캐시가 새 값으로 바뀐다")
+    void onUserSecurityChanged_ShouldRaiseEpoch() {
+        when(userRepository.findSecurityEpochById(1L)).thenReturn(Optional.of(3L));
+        assertEquals(3L, securityEpochStore.getEpoch(1L));
+
+        securityEpochStore.onUserSecurityChanged(new UserSecurityChangedEvent(1L, "exampleUser", "ROLE_ADMIN", 4L));
+        assertEquals(4L, securityEpochStore.getEpoch(1L));
+
+        // 늦게 도착한 이전 이벤트는 무시
+        securityEpochStore.onUserSecurityChanged(new UserSecurityChangedEvent(1L, "exampleUser", "ROLE_USER", 3L));
+        assertEquals(4L, securityEpochStore.getEpoch(1L));
+        assertEquals("4", redisRepository.getValue("user:epoch:1"));
+    }
+
+    @Test
+    @DisplayName("유저가 없으면 null 을 반환하고 Redis 에 저장하지 않는다")
+    void getEpoch_ShouldReturnNull_WhenUserMissing() {
+        when(userRepository.findSecurityEpochById(1L)).thenReturn(Optional.empty());
+
+        assertNull(securityEpochStore.getEpoch(1L));
+        assertNull(redisRepository.getValue("user:epoch:1"));
+    }
+}
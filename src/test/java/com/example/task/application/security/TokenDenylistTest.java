@@ -0,0 +1,87 @@
+package com.example.task.application.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.task.domain.repository.RedisRepository;
+import com.example.task.support.EmbeddedRedisExtension;
+import java.util.Date;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class TokenDenylistTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private static StringRedisTemplate redisTemplate;
+    private static RedisRepository redisRepository;
+
+    @BeforeAll
+    static void setUpRepository() {
+        redisTemplate = redis.redisTemplate();
+        redisRepository = redis.redisRepository();
+    }
+
+    @BeforeEach
+    @AfterEach
+    void clearStream() {
+        redisTemplate.delete(TokenDenylist.STREAM_KEY);
+    }
+
+    @Test
+    @DisplayName("한 노드에서 폐기한 토큰은 다른 노드가 stream 을 읽으면 반영된다")
+    void revoke_ShouldPropagateToOtherNodes() {
+        TokenDenylist nodeA = denylist();
+        TokenDenylist nodeB = denylist();
+        Date expiration = new Date(System.currentTimeMillis() + 60000);
+
+        nodeA.revoke("jti-1", expiration);
+
+        assertTrue(nodeA.isRevoked("jti-1"));  // 폐기한 노드는 즉시 반영
+        assertFalse(nodeB.isRevoked("jti-1"));
+        assertEquals(1, nodeB.poll());
+        assertTrue(nodeB.isRevoked("jti-1"));
+        assertFalse(nodeB.isRevoked("jti-2"));
+        assertEquals(0, nodeB.poll());  // 이미 읽은 항목은 다시 읽지 않는다
+    }
+
+    @Test
+    @DisplayName("새로 시작한 노드는 유효 기간 안에 폐기된 항목을 처음부터 읽는다")
+    void start_ShouldCatchUpExistingEntries() throws InterruptedException {
+        denylist().revoke("jti-1", new Date(System.currentTimeMillis() + 60000));
+        denylist().revoke("jti-2", new Date(System.currentTimeMillis() + 60000));
+
+        TokenDenylist lateNode = denylist();
+        try {
+            lateNode.start();
+            long deadline = System.currentTimeMillis() + 5000;
+            while (lateNode.size() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(lateNode.isRevoked("jti-1"));
+            assertTrue(lateNode.isRevoked("jti-2"));
+        } finally {
+            lateNode.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 폐기 목록에 넣지 않는다")
+    void revoke_ShouldIgnoreExpiredToken() {
+        TokenDenylist denylist = denylist();
+
+        denylist.revoke("jti-1", new Date(System.currentTimeMillis() - 1000));
+
+        assertFalse(denylist.isRevoked("jti-1"));
+        assertEquals(0L, redisTemplate.opsForStream().size(TokenDenylist.STREAM_KEY));
+    }
+
+    private static TokenDenylist denylist() {
+        return new TokenDenylist(redisRepository, true, 3600000L, 1000L, 0.01, 100L, 60000L);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.task.application.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.task.application.exception.InvalidTokenException;
+import com.example.task.application.exception.InvalidTokenException.Reason;
+import com.example.task.application.security.VerifiedTokenCache.VerifiedToken;
+import com.example.task.domain.event.UserSecurityChangedEvent;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+class VerifiedTokenCacheTest {
+
+    private final Authentication authentication =
+        new UsernamePasswordAuthenticationToken("exampleUser", null, Authorities.of("ROLE_USER"));
+
+    @Test
+    @DisplayName("검증된 토큰은 인증 객체와 jti 를 그대로 돌려주고 다른 토큰은 miss 로 센다")
+    void get_ShouldReturnCachedAuthentication() {
+        VerifiedTokenCache cache = cache(true, 60000L);
+
+        cache.put("token", authentication, 1L, "jti-1", inOneMinute());
+
+        VerifiedToken verifiedToken = cache.get("token");
+        assertSame(authentication, verifiedToken.authentication());
+        assertEquals("jti-1", verifiedToken.tokenId());
+        assertNull(cache.get("other-token"));
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("토큰 exp 와 max-ttl 중 빠른 시각에 만료된다")
+    void get_ShouldExpire_AtEarlierOfExpirationAndMaxTtl() {
+        VerifiedTokenCache cache = cache(true, 60000L);
+        cache.put("expired-token", authentication, 1L, "jti-1", new Date(System.currentTimeMillis() - 1000L));
+        assertNull(cache.get("expired-token"));
+
+        VerifiedTokenCache shortTtl = cache(true, -1L);
+        shortTtl.put("token", authentication, 1L, "jti-2", inOneMinute());
+        assertNull(shortTtl.get("token"));
+    }
+
+    @Test
+    @DisplayName("서명 검증에 실패한 토큰은 저장된 이유로 거부한다")
+    void get_ShouldThrow_WhenTokenWasRejected() {
+        VerifiedTokenCache cache = cache(true, 60000L);
+
+        cache.reject("forged-token", Reason.INVALID);
+
+        InvalidTokenException exception = assertThrows(InvalidTokenException.class, () -> cache.get("forged-token"));
+        assertEquals(Reason.INVALID, exception.getReason());
+        assertEquals(0, cache.size());
+
+        cache.invalidateAll();
+        assertNull(cache.get("forged-token"));
+    }
+
+    @Test
+    @DisplayName("비활성화하면 저장하지 않는다")
+    void put_ShouldIgnore_WhenDisabled() {
+        VerifiedTokenCache cache = cache(false, 60000L);
+
+        cache.put("token", authentication, 1L, "jti-1", inOneMinute());
+        cache.reject("forged-token", Reason.INVALID);
+
+        assertNull(cache.get("token"));
+        assertNull(cache.get("forged-token"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("유저의 보안 정보가 바뀌면 그 유저의 검증 결과만 버리고 이후 저장된 결과는 사용한다")
+    void get_ShouldDropUserEntries_WhenUserSecurityChanged() throws InterruptedException {
+        VerifiedTokenCache cache = cache(true, 60000L);
+        cache.put("token-1", authentication, 1L, "jti-1", inOneMinute());
+        cache.put("token-2", authentication, 2L, "jti-2", inOneMinute());
+
+        cache.onUserSecurityChanged(new UserSecurityChangedEvent(1L, "exampleUser", "ROLE_USER", 1L));
+
+        assertNull(cache.get("token-1"));
+        assertNotNull(cache.get("token-2"));
+
+        Thread.sleep(2L);
+        cache.put("token-1", authentication, 1L, "jti-1", inOneMinute());
+        assertNotNull(cache.get("token-1"));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 유저 캐시 제거 메시지로도 검증 결과를 버린다")
+    void onMessage_ShouldDropUserEntries() {
+        VerifiedTokenCache cache = cache(true, 60000L);
+        cache.put("token", authentication, 7L, "jti-1", inOneMinute());
+
+        cache.onMessage(new DefaultMessage("user-cache:invalidate".getBytes(StandardCharsets.UTF_8),
+            "7:exampleUser".getBytes(StandardCharsets.UTF_8)), null);
+        cache.onMessage(new DefaultMessage("user-cache:invalidate".getBytes(StandardCharsets.UTF_8),
+            "broken".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertNull(cache.get("token"));
+    }
+
+    @Test
+    @DisplayName("user_id 가 없는 토큰은 유저별로 제거할 수 없으므로 저장하지 않는다")
+    void put_ShouldIgnore_WhenUserIdIsMissing() {
+        VerifiedTokenCache cache = cache(true, 60000L);
+
+        cache.put("token", authentication, null, "jti-1", inOneMinute());
+
+        assertNull(cache.get("token"));
+        assertEquals(0, cache.size());
+    }
+
+    private static VerifiedTokenCache cache(boolean enabled, long maxTtl) {
+        return new VerifiedTokenCache(enabled, 100, maxTtl, 100, 60000L);
+    }
+
+    private static Date inOneMinute() {
+        return new Date(System.currentTimeMillis() + 60000L);
+    }
+}
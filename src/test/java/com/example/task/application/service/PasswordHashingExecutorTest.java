@@ -0,0 +1,86 @@
+package com.example.task.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.task.application.exception.ServiceOverloadedException;
+import com.example.task.application.utils.PhaseTimer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordHashingExecutorTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    // 해시 작업이 release 될 때까지 풀 스레드를 붙잡는 encoder
+    private final PasswordEncoder blockingEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "encoded:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    };
+
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 해시하지 않고 바로 거부한다")
+    void encode_ShouldRejectImmediately_WhenQueueIsFull() throws Exception {
+        executor = new PasswordHashingExecutor(blockingEncoder, PhaseTimer.disabled(), 1, 1, 10000, 3);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> executor.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> executor.encode("second"));
+        while (executor.getQueueDepth() == 0) {
+            Thread.sleep(1);
+        }
+
+        ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+            () -> executor.encode("third"));
+        assertEquals(3, exception.getRetryAfterSeconds());
+        assertEquals(1, executor.getRejectedCount());
+
+        release.countDown();
+        assertEquals("encoded:first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("encoded:second", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("대기열에서 max-queue-wait 를 넘긴 작업은 실행하지 않고 거부한다")
+    void matches_ShouldReject_WhenQueuedTooLong() throws Exception {
+        executor = new PasswordHashingExecutor(blockingEncoder, PhaseTimer.disabled(), 1, 4, 50, 1);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> executor.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(
+            () -> executor.matches("second", "encoded:second"));
+        Thread.sleep(200);
+        release.countDown();
+
+        assertEquals("encoded:first", running.get(5, TimeUnit.SECONDS));
+        Exception exception = assertThrows(Exception.class, () -> queued.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ServiceOverloadedException.class, exception.getCause());
+        assertTrue(executor.getMaxWaitMillis() >= 50);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.task.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.task.application.utils.PhaseTimer;
+import com.example.task.domain.model.User;
+import com.example.task.domain.repository.UserCacheRepository;
+import com.example.task.domain.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordRehashServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserCacheRepository userCacheRepository;
+
+    private PasswordHashingExecutor passwordHashingExecutor;
+    private PasswordRehashService passwordRehashService;
+
+    @BeforeEach
+    void setUp() {
+        // 현재 설정은 cost 5
+        passwordHashingExecutor = new PasswordHashingExecutor(new BCryptPasswordEncoder(5), PhaseTimer.disabled(), 1, 4, 10000, 1);
+        passwordRehashService = new PasswordRehashService(passwordHashingExecutor, userRepository, userCacheRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("이전 cost 로 저장된 해시는 로그인 후 현재 cost 로 교체하고 캐시를 비운다")
+    void rehashIfNeeded_ShouldReplaceWeakerHash() {
+        String weakHash = new BCryptPasswordEncoder(4).encode("testPassword");
+        User user = User.createUser("testUser", weakHash, "testNick");
+        ReflectionTestUtils.setField(user, "userId", 1L);
+        when(userRepository.updatePasswordIfUnchanged(eq(1L), eq(weakHash), anyString())).thenReturn(1);
+
+        passwordRehashService.rehashIfNeeded(user, "testPassword");
+
+        ArgumentCaptor<String> newHash = ArgumentCaptor.forClass(String.class);
+        verify(userRepository, timeout(5000)).updatePasswordIfUnchanged(eq(1L), eq(weakHash), newHash.capture());
+        verify(userCacheRepository, timeout(5000)).evict(1L, "testUser");
+        assertTrue(newHash.getValue().startsWith("$2a$05$"));
+        assertTrue(new BCryptPasswordEncoder(5).matches("testPassword", newHash.getValue()));
+    }
+
+    @Test
+    @DisplayName("현재 cost 와 같거나 더 강한 해시는 그대로 둔다")
+    void rehashIfNeeded_ShouldKeepCurrentHash() {
+        User user = User.createUser("testUser", new BCryptPasswordEncoder(6).encode("testPassword"), "testNick");
+        ReflectionTestUtils.setField(user, "userId", 1L);
+
+        passwordRehashService.rehashIfNeeded(user, "testPassword");
+
+        verify(userRepository, never()).updatePasswordIfUnchanged(anyLong(), anyString(), anyString());
+    }
+}
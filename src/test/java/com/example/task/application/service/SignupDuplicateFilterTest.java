@@ -0,0 +1,67 @@
+package com.example.task.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.task.domain.event.UserSignedUpEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 가입 이벤트가 커밋된 transaction 에서만 필터에 반영되는지 확인
+ */
+@DataJpaTest
+@Import(SignupDuplicateFilter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SignupDuplicateFilterTest {
+
+    @Autowired
+    private SignupDuplicateFilter signupDuplicateFilter;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        signupDuplicateFilter.warmUp();
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("가입 transaction 이 커밋되면 아이디와 닉네임을 필터에 추가한다")
+    void onUserSignedUp_ShouldAdd_AfterCommit() {
+        transaction.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new UserSignedUpEvent(1L, "committedUser", "committedNick"));
+            // 커밋 전에는 반영되지 않는다
+            assertFalse(signupDuplicateFilter.mightContainUsername("committedUser"));
+        });
+
+        assertTrue(signupDuplicateFilter.mightContainUsername("committedUser"));
+        assertTrue(signupDuplicateFilter.mightContainNickname("committedNick"));
+    }
+
+    @Test
+    @DisplayName("가입 transaction 이 rollback 되면 필터에 추가하지 않는다")
+    void onUserSignedUp_ShouldIgnore_WhenRolledBack() {
+        transaction.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new UserSignedUpEvent(2L, "rolledBackUser", "rolledBackNick"));
+            status.setRollbackOnly();
+        });
+
+        assertFalse(signupDuplicateFilter.mightContainUsername("rolledBackUser"));
+        assertFalse(signupDuplicateFilter.mightContainNickname("rolledBackNick"));
+    }
+}
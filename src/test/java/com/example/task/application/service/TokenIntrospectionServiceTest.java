@@ -0,0 +1,139 @@
+package com.example.task.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.task.application.dto.TokenIntrospectionResponseDto;
+import com.example.task.application.dto.TokenIntrospectionResponseDto.ResultDto;
+import com.example.task.application.dto.TokenIntrospectionResponseDto.Status;
+import com.example.task.application.security.TokenDenylist;
+import com.example.task.application.utils.JwtUtil;
+import com.example.task.application.utils.PhaseTimer;
+import com.example.task.application.utils.SigningKeyRing;
+import com.example.task.domain.model.User;
+import com.example.task.domain.repository.UserCacheRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TokenIntrospectionServiceTest {
+
+    private static final String SECRET = "dd8c1a53325ae3211ae6dd4f2ad2d5d80d0ced29305ba45d3df0c8a249e8ea50e984dac55d0513a400e4f7d7b17599ba49439039c22527d187d280d26722a5d1";
+
+    @Mock
+    private UserCacheRepository userCacheRepository;
+
+    private JwtUtil jwtUtil;
+    private TokenDenylist tokenDenylist;
+    private TokenIntrospectionService tokenIntrospectionService;
+    private User user;
+    private User otherUser;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = jwtUtil(3600000L);
+        tokenDenylist = new TokenDenylist(null, false, 3600000L, 1000L, 0.01, 1000L, 60000L);
+        tokenIntrospectionService = new TokenIntrospectionService(jwtUtil, userCacheRepository, tokenDenylist,
+            2, 16, 4);
+        user = user(1L, "exampleUser");
+        otherUser = user(2L, "otherUser");
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenIntrospectionService.shutdown();
+    }
+
+    @Test
+    @DisplayName("토큰별 상태를 요청 순서대로 돌려주고 유저는 한 번에 조회한다")
+    void introspect_ShouldReturnStatusPerToken_WithSingleUserLookup() {
+        String active = jwtUtil.createAccessToken(user);
+        String expired = jwtUtil(-60000L).createAccessToken(user);
+        String forged = active.substring(0, active.length() - 2) + "xx";
+        String refresh = ReflectionTestUtils.invokeMethod(jwtUtil, "generateToken", user, 60000L, "jti", "fam");
+        String unknownUser = jwtUtil.createAccessToken(user(3L, "deletedUser"));
+        String revoked = jwtUtil.createAccessToken(otherUser);
+        otherUser.changeAuthority("ROLE_ADMIN");  // security epoch 증가
+        String denylisted = jwtUtil.createAccessToken(user);
+        tokenDenylist.revoke(jwtUtil.parseClaims(denylisted).getId(), new Date(System.currentTimeMillis() + 60000));
+        when(userCacheRepository.findAllById(anyCollection()))
+            .thenReturn(Map.of(1L, user, 2L, otherUser));
+
+        TokenIntrospectionResponseDto response = tokenIntrospectionService.introspect(
+            List.of(active, expired, forged, refresh, "", unknownUser, revoked, denylisted));
+
+        List<Status> statuses = response.getResults().stream().map(ResultDto::getStatus).toList();
+        assertEquals(List.of(Status.ACTIVE, Status.EXPIRED, Status.INVALID, Status.INVALID, Status.INVALID,
+            Status.USER_NOT_FOUND, Status.REVOKED, Status.REVOKED), statuses);
+
+        ResultDto first = response.getResults().get(0);
+        assertTrue(first.isActive());
+        assertEquals("exampleUser", first.getUsername());
+        assertEquals(1L, first.getUserId());
+        assertEquals("ROLE_USER", first.getRole());
+        assertNotNull(first.getExpiresAt());
+        assertNull(response.getResults().get(1).getUsername());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> userIds = ArgumentCaptor.forClass(Collection.class);
+        verify(userCacheRepository, times(1)).findAllById(userIds.capture());
+        assertEquals(List.of(1L, 3L, 2L), new ArrayList<>(userIds.getValue()));
+    }
+
+    @Test
+    @DisplayName("parallel-threshold 이상이면 나눠서 검증해도 순서와 결과가 같다")
+    void introspect_ShouldKeepOrder_WhenVerifiedInParallel() {
+        String active = jwtUtil.createAccessToken(user);
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tokens.add(i % 5 == 0 ? "invalid-" + i : active);
+        }
+        when(userCacheRepository.findAllById(anyCollection())).thenReturn(Map.of(1L, user));
+
+        List<ResultDto> results = tokenIntrospectionService.introspect(tokens).getResults();
+
+        assertEquals(50, results.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i % 5 == 0 ? Status.INVALID : Status.ACTIVE, results.get(i).getStatus());
+        }
+        verify(userCacheRepository, times(1)).findAllById(anyCollection());
+    }
+
+    @Test
+    @DisplayName("유효한 토큰이 없으면 유저를 조회하지 않는다")
+    void introspect_ShouldSkipUserLookup_WhenNoTokenIsValid() {
+        List<ResultDto> results = tokenIntrospectionService.introspect(List.of("a.b.c", "not-a-token")).getResults();
+
+        assertTrue(results.stream().allMatch(result -> result.getStatus() == Status.INVALID));
+        verifyNoInteractions(userCacheRepository);
+    }
+
+    private JwtUtil jwtUtil(long accessExpiration) {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, "admin-user", null, null, PhaseTimer.disabled(), SigningKeyRing.empty());
+        ReflectionTestUtils.setField(jwtUtil, "accessExpiration", accessExpiration);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", 36000000L);
+        return jwtUtil;
+    }
+
+    private static User user(Long userId, String username) {
+        User user = User.createUser(username, "encodedPassword", username + "Nick");
+        ReflectionTestUtils.setField(user, "userId", userId);
+        return user;
+    }
+}
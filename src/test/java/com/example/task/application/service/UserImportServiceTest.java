@@ -0,0 +1,245 @@
+package com.example.task.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.task.application.dto.UserImportResponseDto;
+import com.example.task.application.dto.UserImportResponseDto.FailureDto;
+import com.example.task.application.exception.ServiceOverloadedException;
+import com.example.task.application.service.UserImportService.ImportFormat;
+import com.example.task.application.utils.PhaseTimer;
+import com.example.task.domain.model.User;
+import com.example.task.domain.repository.UserBulkRepository;
+import com.example.task.domain.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class UserImportServiceTest {
+
+    private UserRepository userRepository;
+    private UserBulkRepository userBulkRepository;
+    private SignupDuplicateFilter signupDuplicateFilter;
+    private PasswordHashingExecutor passwordHashingExecutor;
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userBulkRepository = mock(UserBulkRepository.class);
+        signupDuplicateFilter = mock(SignupDuplicateFilter.class);
+        passwordHashingExecutor = new PasswordHashingExecutor(new BCryptPasswordEncoder(4), PhaseTimer.disabled(),
+            2, 64, 60000L, 1);
+        userImportService = service(500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userImportService.shutdown();
+        passwordHashingExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("NDJSON 의 각 줄을 해시한 비밀번호로 batch insert 하고 중복 필터에 추가한다")
+    void importUsers_ShouldInsertNdjsonRecords() throws IOException {
+        UserImportResponseDto result = importUsers(ImportFormat.NDJSON, """
+            {"username":"user1","password":"password1","nickname":"nick1"}
+
+            {"username":"user2","password":"password2","nickname":"nick2"}
+            """);
+
+        assertCounts(result, 2, 2, 0);
+        List<User> inserted = insertedUsers();
+        assertEquals(List.of("user1", "user2"), inserted.stream().map(User::getUsername).toList());
+        assertTrue(new BCryptPasswordEncoder().matches("password1", inserted.get(0).getPassword()));
+        verify(signupDuplicateFilter).add("user1", "nick1");
+        verify(signupDuplicateFilter).add("user2", "nick2");
+    }
+
+    @Test
+    @DisplayName("CSV 는 header 를 건너뛰고 따옴표로 감싼 필드와 \"\" escape 를 읽는다")
+    void importUsers_ShouldParseCsv() throws IOException {
+        UserImportResponseDto result = importUsers(ImportFormat.CSV, """
+            username,password,nickname
+            user1,password1,nick1
+            "user2","pass,""word""\","nick2"
+            """);
+
+        assertCounts(result, 2, 2, 0);
+        User second = insertedUsers().get(1);
+        assertEquals("user2", second.getUsername());
+        assertTrue(new BCryptPasswordEncoder().matches("pass,\"word\"", second.getPassword()));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 줄은 줄 번호와 함께 실패로 기록하고 나머지는 등록한다")
+    void importUsers_ShouldReportMalformedLines() throws IOException {
+        UserImportResponseDto ndjson = importUsers(ImportFormat.NDJSON, """
+            {"username":"user1","password":"password1","nickname":"nick1"}
+            {"username":"user2",
+            ["user3"]
+            """);
+        assertCounts(ndjson, 3, 1, 2);
+        assertFailure(ndjson.getFailures().get(0), 2, null, "형식이 올바르지 않습니다.");
+        assertFailure(ndjson.getFailures().get(1), 3, null, "형식이 올바르지 않습니다.");
+
+        UserImportResponseDto csv = importUsers(ImportFormat.CSV, """
+            user4,password4
+            "user5,password5,nick5
+            user6,password6,nick6
+            """);
+        assertCounts(csv, 3, 1, 2);
+        assertFailure(csv.getFailures().get(0), 1, null, "형식이 올바르지 않습니다.");
+        assertFailure(csv.getFailures().get(1), 2, null, "형식이 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("회원 가입과 같은 규칙으로 레코드별 검증 실패 사유를 기록한다")
+    void importUsers_ShouldReportValidationFailures() throws IOException {
+        UserImportResponseDto result = importUsers(ImportFormat.NDJSON, """
+            {"password":"password1","nickname":"nick1"}
+            {"username":"user2","password":"abc","nickname":"nick2"}
+            {"username":"user3","password":"password3","nickname":" "}
+            """);
+
+        assertCounts(result, 3, 0, 3);
+        assertFailure(result.getFailures().get(0), 1, null, "Username은 필수 항목입니다.");
+        assertFailure(result.getFailures().get(1), 2, "user2", "Password는 최소 4자 이상이어야 합니다.");
+        assertFailure(result.getFailures().get(2), 3, "user3", "Nickname은 필수 항목입니다.");
+        verify(userBulkRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("파일 안의 중복은 batch 가 달라도 먼저 나온 레코드만 등록한다")
+    void importUsers_ShouldRejectDuplicatesWithinFile() throws IOException {
+        userImportService.shutdown();
+        userImportService = service(2);
+
+        UserImportResponseDto result = importUsers(ImportFormat.NDJSON, """
+            {"username":"user1","password":"password1","nickname":"nick1"}
+            {"username":"user1","password":"password2","nickname":"nick2"}
+            {"username":"user3","password":"password3","nickname":"nick1"}
+            """);
+
+        assertCounts(result, 3, 1, 2);
+        assertFailure(result.getFailures().get(0), 2, "user1", "중복된 아이디가 존재합니다.");
+        assertFailure(result.getFailures().get(1), 3, "user3", "중복된 닉네임이 존재합니다.");
+    }
+
+    @Test
+    @DisplayName("DB 에 이미 있는 아이디/닉네임은 batch 당 한 번의 조회로 걸러낸다")
+    void importUsers_ShouldRejectDuplicatesInDatabase() throws IOException {
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(List.of("user1"));
+        when(userRepository.findExistingNicknames(anyCollection())).thenReturn(List.of("nick2"));
+
+        UserImportResponseDto result = importUsers(ImportFormat.NDJSON, """
+            {"username":"user1","password":"password1","nickname":"nick1"}
+            {"username":"user2","password":"password2","nickname":"nick2"}
+            {"username":"user3","password":"password3","nickname":"nick3"}
+            """);
+
+        assertCounts(result, 3, 1, 2);
+        assertFailure(result.getFailures().get(0), 1, "user1", "중복된 아이디가 존재합니다.");
+        assertFailure(result.getFailures().get(1), 2, "user2", "중복된 닉네임이 존재합니다.");
+        assertEquals(List.of("user3"), insertedUsers().stream().map(User::getUsername).toList());
+        verify(userRepository, times(1)).findExistingUsernames(anyCollection());
+        verify(userRepository, times(1)).findExistingNicknames(anyCollection());
+    }
+
+    @Test
+    @DisplayName("batch insert 가 실패하면 한 건씩 다시 넣어 실패한 레코드만 기록한다")
+    void importUsers_ShouldFallBackToRowByRow_WhenBatchInsertFails() throws IOException {
+        doThrow(new DataIntegrityViolationException("duplicate")).when(userBulkRepository).insertAll(anyList());
+        // 조회 이후 다른 요청이 user2 를 먼저 등록
+        doThrow(new DataIntegrityViolationException("duplicate")).when(userBulkRepository)
+            .insert(argThat(user -> "user2".equals(user.getUsername())));
+
+        UserImportResponseDto result = importUsers(ImportFormat.NDJSON, """
+            {"username":"user1","password":"password1","nickname":"nick1"}
+            {"username":"user2","password":"password2","nickname":"nick2"}
+            {"username":"user3","password":"password3","nickname":"nick3"}
+            """);
+
+        assertCounts(result, 3, 2, 1);
+        assertFailure(result.getFailures().get(0), 2, "user2", "중복된 아이디 또는 닉네임이 존재합니다.");
+        verify(userBulkRepository, times(3)).insert(any(User.class));
+        verify(signupDuplicateFilter).add("user1", "nick1");
+        verify(signupDuplicateFilter, never()).add("user2", "nick2");
+        verify(signupDuplicateFilter).add("user3", "nick3");
+    }
+
+    @Test
+    @DisplayName("해시하지 못한 레코드만 실패로 기록하고 나머지는 등록한다")
+    void importUsers_ShouldRecordFailure_WhenHashingIsRejected() throws IOException {
+        passwordHashingExecutor.shutdown();
+        passwordHashingExecutor = mock(PasswordHashingExecutor.class);
+        when(passwordHashingExecutor.encode(anyString())).thenAnswer(invocation -> "hashed-" + invocation.getArgument(0));
+        when(passwordHashingExecutor.encode("password2"))
+            .thenThrow(new ServiceOverloadedException("요청이 많아 잠시 후 다시 시도해 주세요.", 1));
+        when(passwordHashingExecutor.encode("password3")).thenThrow(new IllegalStateException("interrupted"));
+        userImportService.shutdown();
+        userImportService = service(500);
+
+        UserImportResponseDto result = importUsers(ImportFormat.NDJSON, """
+            {"username":"user1","password":"password1","nickname":"nick1"}
+            {"username":"user2","password":"password2","nickname":"nick2"}
+            {"username":"user3","password":"password3","nickname":"nick3"}
+            """);
+
+        assertCounts(result, 3, 1, 2);
+        assertFailure(result.getFailures().get(0), 2, "user2", "요청이 많아 비밀번호를 해시하지 못했습니다.");
+        assertFailure(result.getFailures().get(1), 3, "user3", "비밀번호 해시에 실패했습니다.");
+        List<User> users = insertedUsers();
+        assertEquals(1, users.size());
+        assertEquals("user1", users.get(0).getUsername());
+        assertEquals("hashed-password1", users.get(0).getPassword());
+    }
+
+    private UserImportService service(int batchSize) {
+        return new UserImportService(userRepository, userBulkRepository, passwordHashingExecutor,
+            signupDuplicateFilter, new ObjectMapper(), mock(PlatformTransactionManager.class), batchSize, 2, 1000);
+    }
+
+    private UserImportResponseDto importUsers(ImportFormat format, String body) throws IOException {
+        return userImportService.importUsers(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<User> insertedUsers() {
+        ArgumentCaptor<List<User>> users = ArgumentCaptor.forClass(List.class);
+        verify(userBulkRepository).insertAll(users.capture());
+        return users.getValue();
+    }
+
+    private static void assertCounts(UserImportResponseDto result, long total, long imported, long failed) {
+        assertEquals(total, result.getTotalCount());
+        assertEquals(imported, result.getImportedCount());
+        assertEquals(failed, result.getFailedCount());
+    }
+
+    private static void assertFailure(FailureDto failure, long line, String username, String reason) {
+        assertEquals(line, failure.getLine());
+        assertEquals(username, failure.getUsername());
+        assertEquals(reason, failure.getReason());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.task.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.task.application.dto.UserSignupResponseDto;
+import com.example.task.application.utils.PhaseTimer;
+import com.example.task.domain.event.UserSignedUpEvent;
+import com.example.task.domain.model.User;
+import com.example.task.domain.repository.UserCacheRepository;
+import com.example.task.domain.repository.UserRepository;
+import com.example.task.presentation.request.UserSignupRequestDto;
+import java.sql.SQLIntegrityConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceSignupTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserCacheRepository userCacheRepository;
+
+    @Mock
+    private SignupDuplicateFilter signupDuplicateFilter;
+
+    @Mock
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Mock
+    private PhaseTimer phaseTimer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private UserService userService;
+
+    private UserSignupRequestDto requestDto;
+
+    @BeforeEach
+    void setUp() {
+        requestDto = new UserSignupRequestDto();
+        ReflectionTestUtils.setField(requestDto, "username", "testUser");
+        ReflectionTestUtils.setField(requestDto, "password", "testPassword");
+        ReflectionTestUtils.setField(requestDto, "nickname", "testNick");
+    }
+
+    @Test
+    @DisplayName("Bloom filter 가 확실히 없다고 하면 DB 중복 조회 없이 가입한다")
+    void signupUser_ShouldSkipExistsQueries_WhenFilterSaysAbsent() {
+        when(signupDuplicateFilter.mightContainUsername("testUser")).thenReturn(false);
+        when(signupDuplicateFilter.mightContainNickname("testNick")).thenReturn(false);
+        when(passwordHashingExecutor.encode("testPassword")).thenReturn("encodedPassword");
+
+        UserSignupResponseDto responseDto = userService.signupUser(requestDto);
+
+        assertEquals("testUser", responseDto.getUsername());
+        verify(userRepository, never()).existsByUsername(anyString());
+        verify(userRepository, never()).existsByNickname(anyString());
+        verify(userRepository).saveAndFlush(any(User.class));
+        // 필터와 캐시는 커밋 이후 이벤트로 갱신한다
+        verify(eventPublisher).publishEvent(new UserSignedUpEvent(null, "testUser", "testNick"));
+        verify(signupDuplicateFilter, never()).add(anyString(), anyString());
+        verify(userCacheRepository, never()).evict(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("중복된 아이디면 비밀번호를 해시하지 않고 거부한다")
+    void signupUser_ShouldNotEncodePassword_WhenUsernameIsDuplicated() {
+        when(signupDuplicateFilter.mightContainUsername("testUser")).thenReturn(true);
+        when(userRepository.existsByUsername("testUser")).thenReturn(true);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> userService.signupUser(requestDto));
+
+        assertEquals("중복된 아이디가 존재합니다.", exception.getMessage());
+        verify(passwordHashingExecutor, never()).encode(anyString());
+    }
+
+    @Test
+    @DisplayName("unique 제약 위반은 같은 중복 에러로 변환한다")
+    void signupUser_ShouldMapConstraintViolation_ToDuplicateError() {
+        when(signupDuplicateFilter.mightContainUsername("testUser")).thenReturn(false);
+        when(signupDuplicateFilter.mightContainNickname("testNick")).thenReturn(false);
+        when(passwordHashingExecutor.encode("testPassword")).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException("duplicate",
+            new SQLIntegrityConstraintViolationException("Duplicate entry 'testNick' for key 'm_user.UK_nickname'")));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> userService.signupUser(requestDto));
+
+        assertEquals("중복된 닉네임이 존재합니다.", exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -6,8 +6,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.example.task.application.dto.UserLoginResponseDto;
+import com.example.task.application.security.RateLimiter;
+import com.example.task.application.security.TokenDenylist;
 import com.example.task.application.utils.JwtUtil;
+import com.example.task.application.utils.PhaseTimer;
 import com.example.task.domain.model.User;
+import com.example.task.domain.repository.UserCacheRepository;
 import com.example.task.domain.repository.UserRepository;
 import com.example.task.presentation.request.UserLoginRequestDto;
 import jakarta.servlet.http.Cookie;
@@ -23,7 +27,6 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
 
@@ -34,14 +37,29 @@ class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private UserCacheRepository userCacheRepository;
+
+    @Mock
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Mock
+    private PasswordRehashService passwordRehashService;
+
+    @Mock
+    private RateLimiter rateLimiter;
 
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private TokenDenylist tokenDenylist;
+
     @Mock
     private HttpServletResponse response;
 
+    @Mock
+    private PhaseTimer phaseTimer;
+
     @InjectMocks
     private UserService userService;
 
@@ -57,10 +75,10 @@ class UserServiceTest {
         // 테스트 환경에서 refreshExpiration을 직접 설정
         ReflectionTestUtils.setField(userService, "refreshExpiration", 36000000000L);
 
-        when(userRepository.findByUsername("testUser")).thenReturn(Optional.of(user));
+        when(userCacheRepository.findWithPasswordByUsername("testUser")).thenReturn(Optional.of(user));
 
         if (!testInfo.getDisplayName().contains("비밀번호가 일치하지 않을 때")) {
-            when(passwordEncoder.matches("testPassword", "encodedPassword")).thenReturn(true);
+            when(passwordHashingExecutor.matches("testPassword", "encodedPassword")).thenReturn(true);
             when(jwtUtil.createAccessToken(user)).thenReturn(accessToken);
             when(jwtUtil.createRefreshToken(user)).thenReturn(refreshToken);
         }
@@ -85,7 +103,7 @@ class UserServiceTest {
     @DisplayName("비밀번호가 일치하지 않을 때 BadCredentialsException을 던진다")
     void signUser_ShouldThrowBadCredentialsException_WhenPasswordIsInvalid() {
         // Arrange
-        when(passwordEncoder.matches("testPassword", "encodedPassword")).thenReturn(false); // 비밀번호 불일치
+        when(passwordHashingExecutor.matches("testPassword", "encodedPassword")).thenReturn(false); // 비밀번호 불일치
 
         // Act & Assert
         BadCredentialsException exception = assertThrows(BadCredentialsException.class,
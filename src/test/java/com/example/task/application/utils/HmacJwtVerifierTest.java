@@ -0,0 +1,136 @@
+package com.example.task.application.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.task.domain.model.User;
+import com.example.task.domain.repository.RefreshTokenRepository;
+import com.example.task.domain.repository.UserCacheRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.util.Date;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class HmacJwtVerifierTest {
+
+    private static final String SECRET = "dd8c1a53325ae3211ae6dd4f2ad2d5d80d0ced29305ba45d3df0c8a249e8ea50e984dac55d0513a400e4f7d7b17599ba49439039c22527d187d280d26722a5d1";
+
+    @Mock
+    private UserCacheRepository userCacheRepository;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private JwtUtil jwtUtil;
+    private HmacJwtVerifier verifier;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET, "admin-user", refreshTokenRepository, userCacheRepository,
+            PhaseTimer.disabled(), SigningKeyRing.empty());
+        ReflectionTestUtils.setField(jwtUtil, "accessExpiration", 3600000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", 36000000L);
+        verifier = new HmacJwtVerifier(Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(SECRET)));
+
+        user = User.createUser("exampleUser", "encodedPassword", "exampleNick");
+        ReflectionTestUtils.setField(user, "userId", 1L);
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 전용 검증기와 jjwt 가 같은 claim 을 반환한다")
+    void verify_ShouldMatchJjwt_WhenTokenIsValid() {
+        String token = jwtUtil.createAccessToken(user);
+
+        TokenClaims fast = verifier.verify(token);
+        Claims expected = jwtUtil.parseToken(token).getPayload();
+
+        assertNotNull(fast);
+        assertEquals(expected.getIssuer(), fast.getIssuer());
+        assertEquals(expected.getId(), fast.getId());
+        assertEquals(expected.getSubject(), fast.getSubject());
+        assertEquals(expected.get("role", String.class), fast.getRole());
+        assertEquals(expected.get("user_id", Long.class), fast.getUserId());
+        assertEquals(expected.getIssuedAt(), fast.getIssuedAt());
+        assertEquals(expected.getExpiration(), fast.getExpiration());
+        assertEquals(expected.get("epoch", Long.class), fast.getSecurityEpoch());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 전용 검증기와 jjwt 모두 만료 예외를 던진다")
+    void verify_ShouldMatchJjwt_WhenTokenIsExpired() {
+        ReflectionTestUtils.setField(jwtUtil, "accessExpiration", -60000L);
+        String token = jwtUtil.createAccessToken(user);
+
+        assertSameOutcome(token, "토큰이 만료되었습니다.");
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 전용 검증기와 jjwt 모두 유효하지 않은 토큰으로 처리한다")
+    void verify_ShouldMatchJjwt_WhenSignatureIsTampered() {
+        String token = jwtUtil.createAccessToken(user);
+        User other = User.createUser("otherUser", "encodedPassword", "otherNick");
+        ReflectionTestUtils.setField(other, "userId", 2L);
+        String otherToken = jwtUtil.createAccessToken(other);
+
+        // 다른 유저의 payload 를 기존 서명과 조합
+        String[] parts = token.split("\\.");
+        String[] otherParts = otherToken.split("\\.");
+        String tampered = parts[0] + "." + otherParts[1] + "." + parts[2];
+
+        assertThrows(io.jsonwebtoken.security.SignatureException.class, () -> verifier.verify(tampered));
+        assertSameOutcome(tampered, "유효하지 않은 토큰입니다.");
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 토큰은 유효하지 않은 토큰으로 처리한다")
+    void verify_ShouldMatchJjwt_WhenSignedWithOtherKey() {
+        SecretKey otherKey = Jwts.SIG.HS512.key().build();
+        String token = Jwts.builder().subject("exampleUser").claim("user_id", 1L)
+            .expiration(new Date(System.currentTimeMillis() + 60000)).signWith(otherKey).compact();
+
+        assertSameOutcome(token, "유효하지 않은 토큰입니다.");
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 토큰은 전용 검증기가 처리하지 않고 jjwt 로 넘긴다")
+    void verify_ShouldFallBack_WhenTokenIsMalformed() {
+        String token = jwtUtil.createAccessToken(user);
+        String header = token.substring(0, token.indexOf('.'));
+
+        assertNull(verifier.verify("invalidToken"));
+        assertNull(verifier.verify(header + ".@@@." + "abc"));
+        assertNull(verifier.verify(token + ".extra"));
+        assertSameOutcome("invalidToken", "유효하지 않은 토큰입니다.");
+        assertSameOutcome(header + ".@@@.abc", "유효하지 않은 토큰입니다.");
+    }
+
+    @Test
+    @DisplayName("모르는 claim 이 포함된 토큰은 jjwt 로 검증한다")
+    void verify_ShouldFallBack_WhenClaimIsUnknown() {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(SECRET));
+        String token = Jwts.builder().subject("exampleUser").claim("user_id", 1L).claim("scope", "admin")
+            .expiration(new Date(System.currentTimeMillis() + 60000)).signWith(key).compact();
+
+        assertNull(verifier.verify(token));
+        assertEquals("exampleUser", jwtUtil.parseClaims(token).getSubject());
+        assertEquals(1L, jwtUtil.parseClaims(token).getUserId());
+    }
+
+    private void assertSameOutcome(String token, String expectedMessage) {
+        RuntimeException fast = assertThrows(RuntimeException.class, () -> jwtUtil.parseClaims(token));
+        RuntimeException jjwt = assertThrows(RuntimeException.class, () -> jwtUtil.parseToken(token));
+
+        assertEquals(expectedMessage, fast.getMessage());
+        assertEquals(jjwt.getMessage(), fast.getMessage());
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.task.application.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.task.application.utils.PhaseTimer.Phase;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PhaseTimerTest {
+
+    @Test
+    @DisplayName("단계별로 고정된 tag 의 timer 에 기록한다")
+    void stop_ShouldRecordToPhaseTimer() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PhaseTimer phaseTimer = new PhaseTimer(registry, true, false);
+
+        phaseTimer.stop(Phase.TOKEN_PARSE, phaseTimer.start());
+        phaseTimer.stop(Phase.REDIS_GET, phaseTimer.start());
+        phaseTimer.stop(Phase.REDIS_GET, phaseTimer.start());
+
+        Timer parse = registry.get("auth.phase").tag("phase", "jwt-parse").timer();
+        Timer get = registry.get("redis.command").tag("command", "get").timer();
+        assertEquals(1, parse.count());
+        assertEquals(2, get.count());
+        assertEquals(Phase.values().length, registry.getMeters().size());
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 timer 를 등록하지 않는다")
+    void disabled_ShouldNotRegisterTimers() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PhaseTimer phaseTimer = new PhaseTimer(registry, false, true);
+
+        assertEquals(0L, phaseTimer.start());
+        phaseTimer.stop(Phase.LOGIN, 0L);
+
+        assertTrue(registry.getMeters().isEmpty());
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.task.application.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import com.example.task.application.exception.InvalidTokenException;
+import com.example.task.application.exception.InvalidTokenException.Reason;
+import com.example.task.application.utils.JwtUtil.RotatedRefreshToken;
+import com.example.task.domain.event.UserSecurityChangedEvent;
+import com.example.task.domain.model.User;
+import com.example.task.domain.repository.RefreshTokenRepository;
+import com.example.task.domain.repository.UserCacheRepository;
+import com.example.task.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * embedded Redis 의 refresh token family 로 재발급과 security epoch 확인
+ */
+class RefreshTokenRotationTest {
+
+    private static final String SECRET = "dd8c1a53325ae3211ae6dd4f2ad2d5d80d0ced29305ba45d3df0c8a249e8ea50e984dac55d0513a400e4f7d7b17599ba49439039c22527d187d280d26722a5d1";
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private JwtUtil jwtUtil;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET, "admin-user", new RefreshTokenRepository(redis.redisTemplate()),
+            mock(UserCacheRepository.class), PhaseTimer.disabled(), SigningKeyRing.empty());
+        ReflectionTestUtils.setField(jwtUtil, "accessExpiration", 3600000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", 36000000L);
+
+        user = User.createUser("exampleUser", "encodedPassword", "exampleNick");
+        ReflectionTestUtils.setField(user, "userId", System.nanoTime());
+    }
+
+    @Test
+    @DisplayName("refresh token 은 같은 epoch 의 새 토큰으로 교체된다")
+    void rotateRefreshToken_ShouldRotate_WhenEpochUnchanged() {
+        String refreshToken = jwtUtil.createRefreshToken(user);
+
+        RotatedRefreshToken rotated = jwtUtil.rotateRefreshToken(refreshToken, jwtUtil.parseClaims(refreshToken));
+
+        assertEquals(0L, jwtUtil.parseClaims(rotated.refreshToken()).getSecurityEpochOrDefault());
+        assertEquals("exampleUser", rotated.user().getUsername());
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 이전에 발급된 refresh token 은 재발급을 거부(401)하고 family 를 폐기한다")
+    void rotateRefreshToken_ShouldReject_AfterPasswordChange() {
+        String stolen = jwtUtil.createRefreshToken(user);
+
+        user.changePassword("newEncodedPassword");
+        jwtUtil.onUserSecurityChanged(new UserSecurityChangedEvent(user.getUserId(), user.getUsername(),
+            user.getAuthority(), user.getSecurityEpoch()));
+
+        InvalidTokenException exception = assertThrows(InvalidTokenException.class,
+            () -> jwtUtil.rotateRefreshToken(stolen, jwtUtil.parseClaims(stolen)));
+        assertEquals(Reason.USER_VERIFICATION_FAILED, exception.getReason());
+        // 폐기된 family 는 다시 사용할 수 없다
+        assertThrows(RuntimeException.class, () -> jwtUtil.rotateRefreshToken(stolen, jwtUtil.parseClaims(stolen)));
+
+        // 변경 이후 로그인해 받은 토큰은 그대로 교체된다
+        String current = jwtUtil.createRefreshToken(user);
+        RotatedRefreshToken rotated = jwtUtil.rotateRefreshToken(current, jwtUtil.parseClaims(current));
+        assertEquals(1L, jwtUtil.parseClaims(rotated.refreshToken()).getSecurityEpochOrDefault());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.task.application.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RevokedTokenSetTest {
+
+    @Test
+    @DisplayName("추가한 토큰은 exp 전까지만 폐기된 것으로 본다")
+    void contains_ShouldBeTrueUntilExpiration() {
+        RevokedTokenSet revokedTokens = new RevokedTokenSet(1000, 0.01);
+        revokedTokens.add("jti-1", 2000L);
+
+        assertTrue(revokedTokens.contains("jti-1", 1000L));
+        assertFalse(revokedTokens.contains("jti-1", 2000L));
+        assertFalse(revokedTokens.contains("jti-2", 1000L));
+    }
+
+    @Test
+    @DisplayName("Bloom filter 오탐이 나도 정확한 map 에 없으면 폐기되지 않은 것으로 본다")
+    void contains_ShouldFilterFalsePositives() {
+        // 64bit 필터에 많이 넣어 대부분의 조회가 필터를 통과하게 만든다
+        RevokedTokenSet revokedTokens = new RevokedTokenSet(1, 0.5);
+        for (int i = 0; i < 200; i++) {
+            revokedTokens.add("revoked-" + i, Long.MAX_VALUE);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            assertTrue(revokedTokens.contains("revoked-" + i, 0L));
+            assertFalse(revokedTokens.contains("active-" + i, 0L));
+        }
+    }
+
+    @Test
+    @DisplayName("만료 항목을 정리하면 남은 항목만으로 필터를 다시 만든다")
+    void purgeExpired_ShouldRemoveExpiredEntries_AndKeepOthers() {
+        RevokedTokenSet revokedTokens = new RevokedTokenSet(1000, 0.01);
+        revokedTokens.add("expired", 1000L);
+        revokedTokens.add("alive", 5000L);
+        revokedTokens.add("alive", 3000L);  // 더 이른 exp 로 다시 들어와도 늦은 쪽을 유지
+
+        assertEquals(1, revokedTokens.purgeExpired(2000L));
+        assertEquals(1, revokedTokens.size());
+        assertTrue(revokedTokens.contains("alive", 4000L));
+        assertFalse(revokedTokens.contains("expired", 0L));
+    }
+}
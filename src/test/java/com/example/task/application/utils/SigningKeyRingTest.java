@@ -0,0 +1,151 @@
+package com.example.task.application.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.task.application.utils.SigningKeyRing.Algorithm;
+import com.example.task.application.utils.SigningKeyRing.SigningKey;
+import com.example.task.domain.model.User;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SigningKeyRingTest {
+
+    private static final String SECRET = "dd8c1a53325ae3211ae6dd4f2ad2d5d80d0ced29305ba45d3df0c8a249e8ea50e984dac55d0513a400e4f7d7b17599ba49439039c22527d187d280d26722a5d1";
+
+    private final KeyPair previousKeyPair = Algorithm.ES256.generateKeyPair();
+    private final KeyPair nextKeyPair = Algorithm.ES256.generateKeyPair();
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.createUser("exampleUser", "encodedPassword", "exampleNick");
+        ReflectionTestUtils.setField(user, "userId", 1L);
+    }
+
+    @Test
+    @DisplayName("ES256, EdDSA 로 서명한 access token 은 kid 를 포함하고 같은 key ring 으로 검증된다")
+    void createAccessToken_ShouldSignWithKeyRing() {
+        for (Algorithm algorithm : Algorithm.values()) {
+            KeyPair keyPair = algorithm.generateKeyPair();
+            JwtUtil jwtUtil = jwtUtil(new SigningKeyRing(List.of(
+                new SigningKey("k1", algorithm, keyPair.getPrivate(), keyPair.getPublic(), null, null))));
+
+            String token = jwtUtil.createAccessToken(user);
+            JsonNode header = decodeHeader(token);
+
+            assertEquals("k1", header.path("kid").asText());
+            assertEquals(algorithm.getJwsAlgorithm(), header.path("alg").asText());
+            assertEquals(1L, jwtUtil.parseClaims(token).getUserId());
+        }
+    }
+
+    @Test
+    @DisplayName("교체 기간에는 새 키가 서명하고 폐기 전까지 이전 키로 서명한 토큰도 검증된다")
+    void parseClaims_ShouldAcceptPreviousKey_UntilRetired() {
+        Instant now = Instant.now();
+        JwtUtil beforeRotation = jwtUtil(new SigningKeyRing(List.of(
+            key("previous", previousKeyPair, now.minus(Duration.ofDays(30)), null),
+            key("next", nextKeyPair, now.plus(Duration.ofHours(1)), null))));
+        String previousToken = beforeRotation.createAccessToken(user);
+        assertEquals("previous", decodeHeader(previousToken).path("kid").asText());
+
+        JwtUtil duringRotation = jwtUtil(new SigningKeyRing(List.of(
+            key("previous", previousKeyPair, now.minus(Duration.ofDays(30)), now.plus(Duration.ofHours(1))),
+            key("next", nextKeyPair, now.minus(Duration.ofMinutes(1)), null))));
+        assertEquals("next", decodeHeader(duringRotation.createAccessToken(user)).path("kid").asText());
+        assertEquals(1L, duringRotation.parseClaims(previousToken).getUserId());
+
+        JwtUtil afterRotation = jwtUtil(new SigningKeyRing(List.of(
+            key("previous", previousKeyPair, now.minus(Duration.ofDays(30)), now.minus(Duration.ofMinutes(1))),
+            key("next", nextKeyPair, now.minus(Duration.ofHours(1)), null))));
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> afterRotation.parseClaims(previousToken));
+        assertEquals("유효하지 않은 토큰입니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("모르는 kid 나 키와 다른 alg 의 토큰은 유효하지 않은 토큰으로 처리한다")
+    void parseClaims_ShouldReject_WhenKidIsUnknownOrAlgorithmMismatches() {
+        JwtUtil jwtUtil = jwtUtil(new SigningKeyRing(List.of(key("k1", previousKeyPair, null, null))));
+
+        String unknownKid = Jwts.builder().header().keyId("unknown").and().subject("exampleUser")
+            .expiration(new Date(System.currentTimeMillis() + 60000))
+            .signWith(nextKeyPair.getPrivate(), Jwts.SIG.ES256).compact();
+        assertEquals("유효하지 않은 토큰입니다.",
+            assertThrows(RuntimeException.class, () -> jwtUtil.parseClaims(unknownKid)).getMessage());
+
+        KeyPair edKeyPair = Algorithm.EDDSA.generateKeyPair();
+        String otherAlgorithm = Jwts.builder().header().keyId("k1").and().subject("exampleUser")
+            .expiration(new Date(System.currentTimeMillis() + 60000))
+            .signWith(edKeyPair.getPrivate(), Jwts.SIG.EdDSA).compact();
+        assertEquals("유효하지 않은 토큰입니다.",
+            assertThrows(RuntimeException.class, () -> jwtUtil.parseClaims(otherAlgorithm)).getMessage());
+    }
+
+    @Test
+    @DisplayName("refresh token 은 key ring 이 있어도 HMAC 으로 서명한다")
+    void generateToken_ShouldKeepHmac_ForRefreshToken() {
+        JwtUtil jwtUtil = jwtUtil(new SigningKeyRing(List.of(key("k1", previousKeyPair, null, null))));
+        String refreshToken = ReflectionTestUtils.invokeMethod(jwtUtil, "generateToken", user, 60000L, "jti", "fam");
+
+        JsonNode header = decodeHeader(refreshToken);
+        assertTrue(header.path("kid").isMissingNode());
+        assertTrue(header.path("alg").asText().startsWith("HS"));
+        assertEquals("fam", jwtUtil.parseClaims(refreshToken).getFamilyId());
+    }
+
+    @Test
+    @DisplayName("JWKS 에는 폐기되지 않은 공개키만 비밀 값 없이 포함된다")
+    void publishedKeys_ShouldExposePublicPartsOfActiveKeys() throws Exception {
+        Instant now = Instant.now();
+        SigningKeyRing keyRing = new SigningKeyRing(List.of(
+            key("retired", previousKeyPair, now.minus(Duration.ofDays(30)), now.minus(Duration.ofDays(1))),
+            key("current", nextKeyPair, now.minus(Duration.ofDays(1)), null)));
+
+        JsonNode jwks = new ObjectMapper().valueToTree(Map.of("keys", keyRing.publishedKeys(now)));
+
+        assertEquals(1, jwks.path("keys").size());
+        JsonNode jwk = jwks.path("keys").get(0);
+        assertEquals("current", jwk.path("kid").asText());
+        assertEquals("EC", jwk.path("kty").asText());
+        assertEquals("P-256", jwk.path("crv").asText());
+        assertEquals("ES256", jwk.path("alg").asText());
+        assertEquals("sig", jwk.path("use").asText());
+        assertTrue(jwk.path("x").isTextual());
+        assertTrue(jwk.path("d").isMissingNode());
+    }
+
+    private JwtUtil jwtUtil(SigningKeyRing signingKeyRing) {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, "admin-user", null, null, PhaseTimer.disabled(), signingKeyRing);
+        ReflectionTestUtils.setField(jwtUtil, "accessExpiration", 3600000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", 36000000L);
+        return jwtUtil;
+    }
+
+    private static SigningKey key(String kid, KeyPair keyPair, Instant activateAt, Instant retireAt) {
+        return new SigningKey(kid, Algorithm.ES256, keyPair.getPrivate(), keyPair.getPublic(), activateAt, retireAt);
+    }
+
+    private static JsonNode decodeHeader(String token) {
+        String header = token.substring(0, token.indexOf('.'));
+        try {
+            return new ObjectMapper().readTree(
+                new String(Base64.getUrlDecoder().decode(header), StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.task.application.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StripedTokenBucketsTest {
+
+    @Test
+    @DisplayName("bucket 크기만큼 허용한 뒤 거부하고, key 별로 따로 계산한다")
+    void tryAcquire_ShouldRejectAfterCapacity_PerKey() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(3, 60000, 4, 100);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, buckets.tryAcquire("10.0.0.1"));
+        }
+        long waitMillis = buckets.tryAcquire("10.0.0.1");
+        assertTrue(waitMillis > 0 && waitMillis <= 20000, "토큰 하나가 채워지는 시간 이내");
+
+        assertEquals(0, buckets.tryAcquire("10.0.0.2"));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 채워진다")
+    void tryAcquire_ShouldRefillOverTime() throws InterruptedException {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1, 50, 1, 10);
+
+        assertEquals(0, buckets.tryAcquire("client"));
+        assertTrue(buckets.tryAcquire("client") > 0);
+        Thread.sleep(80);
+        assertEquals(0, buckets.tryAcquire("client"));
+    }
+
+    @Test
+    @DisplayName("최대 key 수를 넘으면 오래 사용하지 않은 key 부터 제거한다")
+    void tryAcquire_ShouldBoundNumberOfKeys() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1, 60000, 1, 2);
+
+        buckets.tryAcquire("a");
+        buckets.tryAcquire("b");
+        buckets.tryAcquire("c");
+
+        assertEquals(2, buckets.size());
+        // 제거된 key 는 가득 찬 bucket 으로 다시 시작
+        assertEquals(0, buckets.tryAcquire("a"));
+    }
+}
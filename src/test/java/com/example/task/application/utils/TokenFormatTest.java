@@ -0,0 +1,45 @@
+package com.example.task.application.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.task.domain.model.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TokenFormatTest {
+
+    private static final String SECRET = "dd8c1a53325ae3211ae6dd4f2ad2d5d80d0ced29305ba45d3df0c8a249e8ea50e984dac55d0513a400e4f7d7b17599ba49439039c22527d187d280d26722a5d1";
+
+    @Test
+    @DisplayName("발급한 토큰은 형식 검사를 통과한다")
+    void isWellFormed_ShouldAcceptIssuedToken() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, "admin-user", null, null, PhaseTimer.disabled(),
+            SigningKeyRing.empty());
+        ReflectionTestUtils.setField(jwtUtil, "accessExpiration", 3600000L);
+        User user = User.createUser("exampleUser", "encodedPassword", "exampleNick");
+        ReflectionTestUtils.setField(user, "userId", 1L);
+
+        assertTrue(TokenFormat.isWellFormed(jwtUtil.createAccessToken(user)));
+    }
+
+    @Test
+    @DisplayName("segment 수, 빈 구간, 알파벳, 길이가 맞지 않으면 거부한다")
+    void isWellFormed_ShouldRejectMalformedToken() {
+        assertFalse(TokenFormat.isWellFormed(null));
+        assertFalse(TokenFormat.isWellFormed(""));
+        assertFalse(TokenFormat.isWellFormed("invalidToken"));
+        assertFalse(TokenFormat.isWellFormed("eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJhIn0"));  // 서명 구간 없음
+        assertFalse(TokenFormat.isWellFormed("eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJhIn0."));  // 빈 서명 (alg none)
+        assertFalse(TokenFormat.isWellFormed("eyJhbGciOiJIUzI1NiJ9..c2ln"));
+        assertFalse(TokenFormat.isWellFormed("eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJhIn0.c2ln.c2ln"));
+        assertFalse(TokenFormat.isWellFormed("eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJhIn0=.c2ln"));  // padding
+        assertFalse(TokenFormat.isWellFormed("eyJhbGciOiJIUzI1NiJ9.eyJzdWIi+iJhIn0.c2ln"));  // base64 '+'
+        assertFalse(TokenFormat.isWellFormed("eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJhIn0.c2lnä"));
+        assertFalse(TokenFormat.isWellFormed("eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJhIn0xy.c2ln"));  // 길이 % 4 == 1
+        assertFalse(TokenFormat.isWellFormed("abcd.eyJzdWIiOiJhIn0.c2ln"));  // JSON header 가 아님
+        assertFalse(TokenFormat.isWellFormed("eyJh." + "a".repeat(5000) + ".c2ln"));
+
+        assertTrue(TokenFormat.isWellFormed("eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJhIn0.c2ln"));
+    }
+}
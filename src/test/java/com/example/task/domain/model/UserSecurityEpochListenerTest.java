@@ -0,0 +1,64 @@
+package com.example.task.domain.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.task.domain.event.UserSecurityChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class UserSecurityEpochListenerTest {
+
+    private ApplicationEventPublisher eventPublisher;
+    private UserSecurityEpochListener listener;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        listener = new UserSecurityEpochListener(eventPublisher);
+        user = User.createUser("exampleUser", "encodedPassword", "exampleNick");
+        ReflectionTestUtils.setField(user, "userId", 1L);
+    }
+
+    @Test
+    @DisplayName("security epoch 가 바뀌지 않은 update 는 이벤트를 발행하지 않는다")
+    void afterUpdate_ShouldNotPublish_WhenEpochUnchanged() {
+        ReflectionTestUtils.setField(user, "nickname", "otherNick");
+
+        listener.afterUpdate(user);
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("권한이 바뀌면 새 epoch 로 한 번만 발행하고 이후 update 에서는 다시 발행하지 않는다")
+    void afterUpdate_ShouldPublishOnce_WhenAuthorityChanged() {
+        user.changeAuthority("ROLE_ADMIN");
+
+        listener.afterUpdate(user);
+        listener.afterUpdate(user);
+
+        ArgumentCaptor<UserSecurityChangedEvent> event = ArgumentCaptor.forClass(UserSecurityChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertEquals(new UserSecurityChangedEvent(1L, "exampleUser", "ROLE_ADMIN", 1L), event.getValue());
+    }
+
+    @Test
+    @DisplayName("비밀번호가 바뀌면 이벤트를 발행한다")
+    void afterUpdate_ShouldPublish_WhenPasswordChanged() {
+        user.changePassword("newEncodedPassword");
+
+        listener.afterUpdate(user);
+
+        verify(eventPublisher).publishEvent(new UserSecurityChangedEvent(1L, "exampleUser", "ROLE_USER", 1L));
+    }
+}
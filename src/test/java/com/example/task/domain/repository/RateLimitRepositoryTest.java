@@ -0,0 +1,45 @@
+package com.example.task.domain.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.task.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class RateLimitRepositoryTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private static RateLimitRepository rateLimitRepository;
+
+    @BeforeAll
+    static void setUpRepository() {
+        rateLimitRepository = new RateLimitRepository(redis.redisTemplate());
+    }
+
+    @Test
+    @DisplayName("window 안에서 limit 만큼 허용하고 이후에는 남은 시간을 반환한다")
+    void tryAcquire_ShouldRejectAfterLimitWithinWindow() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0L, rateLimitRepository.tryAcquire("sign:10.0.0.1", 3, 60000));
+        }
+
+        long waitMillis = rateLimitRepository.tryAcquire("sign:10.0.0.1", 3, 60000);
+        assertTrue(waitMillis > 0 && waitMillis <= 60000);
+        assertEquals(0L, rateLimitRepository.tryAcquire("sign:10.0.0.2", 3, 60000));
+    }
+
+    @Test
+    @DisplayName("window 가 지나면 다시 허용한다")
+    void tryAcquire_ShouldAllowAgainAfterWindow() throws InterruptedException {
+        assertEquals(0L, rateLimitRepository.tryAcquire("signup:10.0.0.3", 1, 100));
+        assertTrue(rateLimitRepository.tryAcquire("signup:10.0.0.3", 1, 100) > 0);
+
+        Thread.sleep(150);
+
+        assertEquals(0L, rateLimitRepository.tryAcquire("signup:10.0.0.3", 1, 100));
+    }
+}
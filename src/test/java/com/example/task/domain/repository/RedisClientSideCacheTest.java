@@ -0,0 +1,103 @@
+package com.example.task.domain.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.task.application.utils.PhaseTimer;
+import com.example.task.support.EmbeddedRedisExtension;
+import io.lettuce.core.KillArgs;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class RedisClientSideCacheTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private static StringRedisTemplate redisTemplate;
+    private static RedisClientSideCache clientSideCache;
+    private static RedisRepository redisRepository;
+
+    @BeforeAll
+    static void setUpCache() {
+        redisTemplate = redis.redisTemplate();
+        clientSideCache = new RedisClientSideCache(true, "localhost", redis.port(), 100, 60000);
+        clientSideCache.afterPropertiesSet();
+        redisRepository = new RedisRepository(redisTemplate, clientSideCache, PhaseTimer.disabled());
+    }
+
+    @AfterAll
+    static void closeCache() {
+        clientSideCache.destroy();
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 key 는 로컬 사본으로 응답하고, 다른 연결에서 변경하면 새 값을 읽는다")
+    void getValue_ShouldServeLocally_UntilKeyIsModified() throws Exception {
+        redisTemplate.opsForValue().set("csc:value", "v1");
+        assertTrue(clientSideCache.isAvailable());
+
+        assertEquals("v1", redisRepository.getValue("csc:value"));
+        long hits = clientSideCache.getHitCount();
+        assertEquals("v1", redisRepository.getValue("csc:value"));
+        assertEquals(hits + 1, clientSideCache.getHitCount());
+
+        long invalidations = clientSideCache.getInvalidationCount();
+        redisTemplate.opsForValue().set("csc:value", "v2");
+        awaitUntil(() -> clientSideCache.getInvalidationCount() > invalidations);
+
+        assertEquals("v2", redisRepository.getValue("csc:value"));
+    }
+
+    @Test
+    @DisplayName("없는 key 도 로컬에 보관하고, 생성되면 무효화된다")
+    void getValue_ShouldCacheMissingKey_UntilKeyIsCreated() throws Exception {
+        assertNull(redisRepository.getValue("csc:missing"));
+        long hits = clientSideCache.getHitCount();
+        assertNull(redisRepository.getValue("csc:missing"));
+        assertEquals(hits + 1, clientSideCache.getHitCount());
+
+        long invalidations = clientSideCache.getInvalidationCount();
+        redisTemplate.opsForValue().set("csc:missing", "created");
+        awaitUntil(() -> clientSideCache.getInvalidationCount() > invalidations);
+
+        assertEquals("created", redisRepository.getValue("csc:missing"));
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 로컬 사본을 비우고 재연결 후 다시 사용한다")
+    void getValue_ShouldFlush_WhenConnectionDrops() throws Exception {
+        redisTemplate.opsForValue().set("csc:reconnect", "before");
+        assertEquals("before", redisRepository.getValue("csc:reconnect"));
+        long flushes = clientSideCache.getFlushCount();
+
+        // 이 연결을 제외한 모든 일반 클라이언트 연결 종료
+        RedisClient client = RedisClient.create(RedisURI.create("localhost", redis.port()));
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            connection.sync().clientKill(KillArgs.Builder.typeNormal().skipme());
+        } finally {
+            client.shutdown();
+        }
+        awaitUntil(() -> clientSideCache.getFlushCount() > flushes && clientSideCache.isAvailable());
+
+        redisTemplate.opsForValue().set("csc:reconnect", "after");
+        assertEquals("after", redisRepository.getValue("csc:reconnect"));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("제한 시간 내에 조건을 만족하지 못했습니다.");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
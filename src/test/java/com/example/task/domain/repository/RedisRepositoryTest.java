@@ -0,0 +1,68 @@
+package com.example.task.domain.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.task.support.EmbeddedRedisExtension;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class RedisRepositoryTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private static RedisRepository redisRepository;
+
+    @BeforeAll
+    static void setUpRepository() {
+        redisRepository = redis.redisRepository();
+    }
+
+    @Test
+    @DisplayName("만료 시간과 함께 저장하면 값과 TTL 이 한 번에 설정된다")
+    void save_ShouldSetValueAndTtlTogether() {
+        redisRepository.save("repo:ttl", "value", 60L);
+
+        assertEquals("value", redisRepository.getValue("repo:ttl"));
+        Long ttl = redisRepository.getTimeToLive("repo:ttl");
+        assertTrue(ttl > 0 && ttl <= 60);
+    }
+
+    @Test
+    @DisplayName("pipeline 으로 저장한 값을 한 번에 조회하고 삭제한다")
+    void saveAll_ShouldBeReadableByMultiGet_AndRemovedByDeleteAll() {
+        redisRepository.saveAll(Map.of("repo:a", "1", "repo:b", "2"), 60L);
+
+        List<String> values = redisRepository.multiGet(List.of("repo:a", "repo:missing", "repo:b"));
+        assertEquals(Arrays.asList("1", null, "2"), values);
+        assertTrue(redisRepository.getTimeToLive("repo:b") > 0);
+
+        assertEquals(2L, redisRepository.deleteAll(List.of("repo:a", "repo:b", "repo:missing")));
+        assertNull(redisRepository.getValue("repo:a"));
+    }
+
+    @Test
+    @DisplayName("tombstone 이 있거나 더 큰 version 이 저장된 key 는 덮어쓰지 않는다")
+    void saveAllIfNotOlder_ShouldSkipTombstoneAndNewerVersion() {
+        redisRepository.save("repo:tombstone", "evicted", 60L);
+        redisRepository.save("repo:newer", "{\"version\":2}", 60L);
+        redisRepository.save("repo:older", "{\"version\":1}", 60L);
+
+        redisRepository.saveAllIfNotOlder(Map.of(
+            "repo:tombstone", "{\"version\":1}",
+            "repo:newer", "{\"version\":1}",
+            "repo:older", "{\"version\":2}",
+            "repo:empty", "{\"version\":0}"), "version", "evicted", 60L);
+
+        assertEquals("evicted", redisRepository.getValue("repo:tombstone"));
+        assertEquals("{\"version\":2}", redisRepository.getValue("repo:newer"));
+        assertEquals("{\"version\":2}", redisRepository.getValue("repo:older"));
+        assertEquals("{\"version\":0}", redisRepository.getValue("repo:empty"));
+        assertTrue(redisRepository.getTimeToLive("repo:empty") > 0);
+    }
+}
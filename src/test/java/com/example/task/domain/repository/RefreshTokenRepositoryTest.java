@@ -0,0 +1,199 @@
+package com.example.task.domain.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.task.domain.model.UserSnapshot;
+import com.example.task.domain.repository.RefreshTokenRepository.Rotation;
+import com.example.task.domain.repository.RefreshTokenRepository.RotationResult;
+import com.example.task.support.EmbeddedRedisExtension;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class RefreshTokenRepositoryTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private static StringRedisTemplate redisTemplate;
+    private static RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeAll
+    static void setUpRepository() {
+        redisTemplate = redis.redisTemplate();
+        refreshTokenRepository = new RefreshTokenRepository(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("같은 refresh token 으로 동시에 재발급하면 정확히 한 요청만 성공한다")
+    void rotate_ShouldSucceedExactlyOnce_WhenCalledConcurrently() throws Exception {
+        int requests = 64;
+        refreshTokenRepository.createFamily(user(1L), "family-concurrent", "jti-0", TTL);
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<RotationResult>> results = new ArrayList<>();
+        for (int i = 1; i <= requests; i++) {
+            String newJti = "jti-" + i;
+            results.add(executor.submit(() -> {
+                start.await();
+                return refreshTokenRepository.rotate(1L, "family-concurrent", "jti-0", 0L, newJti, TTL).result();
+            }));
+        }
+        start.countDown();
+
+        int rotated = 0;
+        for (Future<RotationResult> result : results) {
+            if (result.get() == RotationResult.ROTATED) {
+                rotated++;
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(1, rotated);
+    }
+
+    @Test
+    @DisplayName("이미 교체된 토큰을 다시 사용하면 family 전체가 폐기된다")
+    void rotate_ShouldRevokeFamily_WhenTokenIsReused() {
+        refreshTokenRepository.createFamily(user(2L), "family-reuse", "jti-1", TTL);
+
+        assertEquals(RotationResult.ROTATED,
+            refreshTokenRepository.rotate(2L, "family-reuse", "jti-1", 0L, "jti-2", TTL).result());
+        // 탈취된 이전 토큰 재사용
+        assertEquals(RotationResult.REUSED,
+            refreshTokenRepository.rotate(2L, "family-reuse", "jti-1", 0L, "jti-3", TTL).result());
+        // 정상 사용자의 최신 토큰도 더 이상 사용할 수 없다
+        assertEquals(RotationResult.NOT_FOUND,
+            refreshTokenRepository.rotate(2L, "family-reuse", "jti-2", 0L, "jti-4", TTL).result());
+    }
+
+    @Test
+    @DisplayName("전체 기기 로그아웃은 유저의 모든 family 를 한 번에 폐기한다")
+    void revokeAll_ShouldRevokeEveryFamilyOfUser() {
+        refreshTokenRepository.createFamily(user(3L), "family-a", "jti-a", TTL);
+        refreshTokenRepository.createFamily(user(3L), "family-b", "jti-b", TTL);
+        refreshTokenRepository.createFamily(user(4L), "family-c", "jti-c", TTL);
+
+        assertEquals(2L, refreshTokenRepository.revokeAll(3L));
+
+        assertEquals(RotationResult.NOT_FOUND,
+            refreshTokenRepository.rotate(3L, "family-a", "jti-a", 0L, "jti-a2", TTL).result());
+        assertEquals(RotationResult.NOT_FOUND,
+            refreshTokenRepository.rotate(3L, "family-b", "jti-b", 0L, "jti-b2", TTL).result());
+        // 다른 유저의 family 는 유지된다
+        assertEquals(RotationResult.ROTATED,
+            refreshTokenRepository.rotate(4L, "family-c", "jti-c", 0L, "jti-c2", TTL).result());
+    }
+
+    @Test
+    @DisplayName("이전 key 구조로 저장된 family 는 교체되면서 새 구조로 옮겨진다")
+    void migrateFamily_ShouldMoveFamilyToCurrentLayout() {
+        ValueOperations<String, String> values = redisTemplate.opsForValue();
+        values.set("refresh:family:previous-family", "jti-old", TTL);
+
+        assertEquals(RotationResult.ROTATED,
+            refreshTokenRepository.migrateFamily(5L, "previous-family", "jti-old", "family-new", "jti-new", TTL));
+        assertNull(values.get("refresh:family:previous-family"));
+        assertEquals(RotationResult.ROTATED,
+            refreshTokenRepository.rotate(5L, "family-new", "jti-new", 0L, "jti-next", TTL).result());
+        // 이전 토큰을 다시 사용하면 더 이상 찾을 수 없다
+        assertEquals(RotationResult.NOT_FOUND,
+            refreshTokenRepository.migrateFamily(5L, "previous-family", "jti-old", "family-x", "jti-x", TTL));
+    }
+
+    @Test
+    @DisplayName("이전 구조의 family 에 교체된 토큰이 들어오면 family 를 삭제하고 새 구조에 추가하지 않는다")
+    void migrateFamily_ShouldRevokePreviousFamily_WhenTokenIsReused() {
+        ValueOperations<String, String> values = redisTemplate.opsForValue();
+        values.set("refresh:family:previous-reused", "jti-current", TTL);
+
+        assertEquals(RotationResult.REUSED,
+            refreshTokenRepository.migrateFamily(8L, "previous-reused", "jti-stale", "family-y", "jti-y", TTL));
+        assertNull(values.get("refresh:family:previous-reused"));
+        assertEquals(0L, refreshTokenRepository.revokeAll(8L));
+        assertEquals(RotationResult.NOT_FOUND,
+            refreshTokenRepository.rotate(8L, "family-y", "jti-y", 0L, "jti-z", TTL).result());
+    }
+
+    @Test
+    @DisplayName("family 가 없는 유저의 전체 기기 로그아웃은 0 을 반환하고 snapshot 은 유지한다")
+    void revokeAll_ShouldReturnZero_WhenNoFamily() {
+        refreshTokenRepository.createFamily(user(9L), "family-only", "jti-1", TTL);
+        assertEquals(1L, refreshTokenRepository.revokeAll(9L));
+
+        assertEquals(0L, refreshTokenRepository.revokeAll(9L));
+        assertNull(redisTemplate.opsForValue().get("rt:{9}:family-only"));
+        assertEquals("user9", redisTemplate.opsForHash().get("rt:{9}:user", "username"));
+    }
+
+    @Test
+    @DisplayName("교체에 성공하면 family 와 함께 저장된 유저 snapshot 을 돌려준다")
+    void rotate_ShouldReturnUserSnapshot() {
+        refreshTokenRepository.createFamily(user(6L), "family-snapshot", "jti-1", TTL);
+
+        Rotation rotation = refreshTokenRepository.rotate(6L, "family-snapshot", "jti-1", 0L, "jti-2", TTL);
+
+        assertEquals(RotationResult.ROTATED, rotation.result());
+        assertEquals(user(6L), rotation.user());
+        // 실패한 교체에는 snapshot 이 없다
+        assertNull(refreshTokenRepository.rotate(6L, "family-snapshot", "jti-1", 0L, "jti-3", TTL).user());
+    }
+
+    @Test
+    @DisplayName("snapshot 은 epoch 가 같거나 큰 값으로만 갱신된다")
+    void saveUserSnapshot_ShouldIgnoreOlderEpoch() {
+        refreshTokenRepository.createFamily(user(7L), "family-epoch", "jti-1", TTL);
+        UserSnapshot promoted = new UserSnapshot(7L, "user7", "ROLE_ADMIN", 1L);
+
+        refreshTokenRepository.saveUserSnapshot(promoted, TTL);
+        // 변경 전에 읽은 값이 늦게 저장되는 경우
+        refreshTokenRepository.saveUserSnapshot(user(7L), TTL);
+
+        assertEquals(promoted, refreshTokenRepository.rotate(7L, "family-epoch", "jti-1", 1L, "jti-2", TTL).user());
+    }
+
+    @Test
+    @DisplayName("snapshot 보다 epoch 가 작은 토큰은 새 snapshot 으로 서명하지 않고 family 를 폐기한다")
+    void rotate_ShouldRevokeFamily_WhenTokenEpochIsStale() {
+        refreshTokenRepository.createFamily(user(10L), "family-stale", "jti-1", TTL);
+        refreshTokenRepository.saveUserSnapshot(new UserSnapshot(10L, "user10", "ROLE_USER", 1L), TTL);
+
+        Rotation rotation = refreshTokenRepository.rotate(10L, "family-stale", "jti-1", 0L, "jti-2", TTL);
+
+        assertEquals(RotationResult.STALE, rotation.result());
+        assertNull(rotation.user());
+        assertNull(redisTemplate.opsForValue().get("rt:{10}:family-stale"));
+        assertFalse(redisTemplate.opsForSet().isMember("rt:{10}", "family-stale"));
+        assertEquals(RotationResult.NOT_FOUND,
+            refreshTokenRepository.rotate(10L, "family-stale", "jti-1", 1L, "jti-3", TTL).result());
+    }
+
+    @Test
+    @DisplayName("snapshot 이 없는 이전 family 도 교체는 성공하고 snapshot 만 비어 있다")
+    void rotate_ShouldSucceedWithoutSnapshot() {
+        refreshTokenRepository.createFamily(user(8L), "family-legacy", "jti-1", TTL);
+        redisTemplate.delete("rt:{8}:user");
+
+        Rotation rotation = refreshTokenRepository.rotate(8L, "family-legacy", "jti-1", 0L, "jti-2", TTL);
+
+        assertEquals(RotationResult.ROTATED, rotation.result());
+        assertNull(rotation.user());
+    }
+
+    private static UserSnapshot user(Long userId) {
+        return new UserSnapshot(userId, "user" + userId, "ROLE_USER", 0L);
+    }
+}
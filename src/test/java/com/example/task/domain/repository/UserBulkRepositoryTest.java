@@ -0,0 +1,60 @@
+package com.example.task.domain.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.task.domain.model.User;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * embedded H2 에서 JDBC batch insert 결과 확인
+ */
+@DataJpaTest
+@Import(UserBulkRepository.class)
+class UserBulkRepositoryTest {
+
+    @Autowired
+    private UserBulkRepository userBulkRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("batch insert 한 유저는 기본 권한과 epoch 로 저장되고 id 가 부여된다")
+    void insertAll_ShouldInsertEveryUser() {
+        userBulkRepository.insertAll(List.of(
+            User.createUser("user1", "encodedPassword1", "nick1"),
+            User.createUser("user2", "encodedPassword2", "nick2")));
+
+        User saved = userRepository.findByUsername("user2").orElseThrow();
+        assertNotNull(saved.getUserId());
+        assertEquals("encodedPassword2", saved.getPassword());
+        assertEquals("nick2", saved.getNickname());
+        assertEquals("ROLE_USER", saved.getAuthority());
+        assertEquals(0L, saved.getSecurityEpoch());
+        assertEquals(2, userRepository.count());
+    }
+
+    @Test
+    @DisplayName("unique 제약을 위반하면 DataIntegrityViolationException 을 던진다")
+    void insert_ShouldThrow_WhenDuplicate() {
+        userBulkRepository.insert(User.createUser("user1", "encodedPassword1", "nick1"));
+
+        assertThrows(DataIntegrityViolationException.class,
+            () -> userBulkRepository.insert(User.createUser("user1", "encodedPassword2", "nick2")));
+        assertThrows(DataIntegrityViolationException.class, () -> userBulkRepository.insertAll(
+            List.of(User.createUser("user3", "encodedPassword3", "nick3"),
+                User.createUser("user4", "encodedPassword4", "nick1"))));
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.task.domain.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.task.domain.model.User;
+import com.example.task.support.EmbeddedRedisExtension;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * embedded Redis 를 공유하는 두 노드로 로컬 -> Redis -> DB 조회 순서와 캐시 제거 전파 확인
+ */
+class UserCacheRepositoryRedisTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private static StringRedisTemplate redisTemplate;
+    private static RedisRepository redisRepository;
+
+    private UserRepository userRepository;
+    private EntityManagerFactory entityManagerFactory;
+    private RedisMessageListenerContainer listenerContainer;
+    private UserCacheRepository node;
+    private UserCacheRepository otherNode;
+    private User user;
+
+    @BeforeAll
+    static void setUpRedis() {
+        redisTemplate = redis.redisTemplate();
+        redisRepository = redis.redisRepository();
+    }
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = redisTemplate.keys("user:cache:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+        userRepository = mock(UserRepository.class);
+        entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.getCache()).thenReturn(mock(Cache.class));
+        node = repository();
+        otherNode = repository();
+
+        user = user(1L, "exampleUser", "exampleNick");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.findByUsername("exampleUser")).thenReturn(Optional.of(user));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("처음 조회는 DB 에서 읽어 Redis 에 저장하고, 같은 노드는 로컬에서, 다른 노드는 Redis 에서 읽는다")
+    void findById_ShouldReadLocalThenRedisThenDatabase() {
+        assertEquals("exampleNick", node.findById(1L).orElseThrow().getNickname());
+        assertEquals("exampleNick", node.findById(1L).orElseThrow().getNickname());
+        assertNotNull(redisRepository.getValue("user:cache:id:1"));
+        assertNotNull(redisRepository.getValue("user:cache:username:exampleUser"));
+
+        User fromRedis = otherNode.findByUsername("exampleUser").orElseThrow();
+        assertEquals(1L, fromRedis.getUserId());
+        assertEquals("ROLE_USER", fromRedis.getAuthority());
+
+        verify(userRepository, times(1)).findById(1L);
+        verify(userRepository, never()).findByUsername("exampleUser");
+        assertEquals(1L, node.getLocalHitCount());
+        assertEquals(1L, node.getDatabaseLoadCount());
+        assertEquals(1L, otherNode.getRedisHitCount());
+        assertEquals(0L, otherNode.getDatabaseLoadCount());
+    }
+
+    @Test
+    @DisplayName("여러 유저 조회는 로컬에 없는 유저만 Redis 에서, Redis 에도 없는 유저만 DB 에서 읽는다")
+    void findAllById_ShouldLoadOnlyMissesFromNextTier() {
+        User second = user(2L, "secondUser", "secondNick");
+        User third = user(3L, "thirdUser", "thirdNick");
+        when(userRepository.findById(2L)).thenReturn(Optional.of(second));
+        when(userRepository.findAllById(List.of(3L, 4L))).thenReturn(List.of(third));
+        node.findById(1L);          // 로컬 + Redis
+        otherNode.findById(2L);     // Redis 에만 (node 의 로컬에는 없음)
+
+        Map<Long, User> found = node.findAllById(List.of(1L, 2L, 3L, 4L));
+
+        assertEquals(Set.of(1L, 2L, 3L), found.keySet());
+        verify(userRepository).findAllById(List.of(3L, 4L));
+        assertNotNull(redisRepository.getValue("user:cache:id:3"));
+        assertNull(redisRepository.getValue("user:cache:id:4"));
+    }
+
+    @Test
+    @DisplayName("캐시를 제거하면 Redis 와 모든 노드의 로컬 사본이 지워져 다음 조회는 DB 에서 읽는다")
+    void evict_ShouldInvalidateRedisAndOtherNodes() throws Exception {
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisTemplate.getConnectionFactory());
+        listenerContainer.addMessageListener(otherNode, new ChannelTopic(UserCacheRepository.INVALIDATION_CHANNEL));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        node.findById(1L);
+        otherNode.findById(1L);
+        assertEquals(1L, otherNode.getRedisHitCount());
+
+        User promoted = user(1L, "exampleUser", "exampleNick");
+        promoted.changeAuthority("ROLE_ADMIN");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(promoted));
+
+        // 구독이 등록될 때까지 제거 메시지를 다시 보낸다
+        long deadline = System.currentTimeMillis() + 5000L;
+        String authority;
+        do {
+            node.evict(1L, "exampleUser");
+            Thread.sleep(50L);
+            authority = otherNode.findById(1L).orElseThrow().getAuthority();
+        } while (!"ROLE_ADMIN".equals(authority) && System.currentTimeMillis() < deadline);
+
+        assertEquals("ROLE_ADMIN", authority);
+        assertEquals("ROLE_ADMIN", node.findById(1L).orElseThrow().getAuthority());
+    }
+
+    @Test
+    @DisplayName("변경 전에 DB 에서 읽은 값이 캐시 제거 이후에 도착하면 Redis 에 다시 채우지 않는다")
+    void findById_ShouldNotRepopulateStaleUser_WhenEvictedDuringLoad() {
+        User promoted = user(1L, "exampleUser", "exampleNick");
+        promoted.changeAuthority("ROLE_ADMIN");
+        when(userRepository.findById(1L)).thenAnswer(invocation -> {
+            // 이 조회가 이전 값을 읽은 직후 권한 변경이 커밋되어 캐시가 제거된다
+            node.evict(1L, "exampleUser");
+            return Optional.of(user);
+        });
+
+        assertEquals("ROLE_USER", otherNode.findById(1L).orElseThrow().getAuthority());
+
+        assertEquals("evicted", redisRepository.getValue("user:cache:id:1"));
+        assertEquals("evicted", redisRepository.getValue("user:cache:username:exampleUser"));
+        // 다른 노드는 tombstone 을 miss 로 보고 DB 에서 새 값을 읽는다
+        when(userRepository.findById(1L)).thenReturn(Optional.of(promoted));
+        assertEquals("ROLE_ADMIN", node.findById(1L).orElseThrow().getAuthority());
+    }
+
+    private UserCacheRepository repository() {
+        return new UserCacheRepository(userRepository, redisRepository, new ObjectMapper(), entityManagerFactory,
+            true, 100, 30000L, 600L, 10L, false, 5000L);
+    }
+
+    private static User user(Long userId, String username, String nickname) {
+        User user = User.createUser(username, "encodedPassword", nickname);
+        ReflectionTestUtils.setField(user, "userId", userId);
+        return user;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.task.domain.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.task.domain.model.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheRepositoryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RedisRepository redisRepository;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache secondLevelCache;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.createUser("exampleUser", "encodedPassword", "exampleNick");
+        ReflectionTestUtils.setField(user, "userId", 1L);
+        lenient().when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
+    }
+
+    @Test
+    @DisplayName("replica 사용 시 캐시가 제거된 유저는 window 동안 primary 에서 읽고 2차 캐시에서도 제거된다")
+    void findByUsername_ShouldReadPrimary_WhenRecentlyWritten() {
+        UserCacheRepository repository = repository(true);
+        when(userRepository.findPrimaryByUsername("exampleUser")).thenReturn(Optional.of(user));
+        when(userRepository.findPrimaryByUserId(1L)).thenReturn(Optional.of(user));
+
+        repository.evict(1L, "exampleUser");
+
+        assertEquals(user, repository.findByUsername("exampleUser").orElseThrow());
+        assertEquals(user, repository.findById(1L).orElseThrow());
+        verify(userRepository, never()).findByUsername("exampleUser");
+        verify(userRepository, never()).findById(1L);
+        verify(secondLevelCache).evict(User.class, 1L);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 캐시 제거 메시지를 받은 노드도 primary 에서 읽는다")
+    void onMessage_ShouldStartReadYourWritesWindow() {
+        UserCacheRepository repository = repository(true);
+        when(userRepository.existsPrimaryByUserId(1L)).thenReturn(true);
+
+        repository.onMessage(new DefaultMessage(
+            UserCacheRepository.INVALIDATION_CHANNEL.getBytes(), "1:exampleUser".getBytes()), null);
+
+        assertTrue(repository.existsById(1L));
+        verify(userRepository, never()).existsById(1L);
+    }
+
+    @Test
+    @DisplayName("replica 를 사용하지 않으면 항상 기본 조회를 사용한다")
+    void findByUsername_ShouldReadDefault_WhenReplicaDisabled() {
+        UserCacheRepository repository = repository(false);
+        when(userRepository.findByUsername("exampleUser")).thenReturn(Optional.of(user));
+
+        repository.evict(1L, "exampleUser");
+
+        assertEquals(user, repository.findByUsername("exampleUser").orElseThrow());
+        verify(userRepository, never()).findPrimaryByUsername("exampleUser");
+    }
+
+    @Test
+    @DisplayName("Redis 에는 비밀번호 해시를 저장하지 않고 로그인 조회는 해시를 DB 에서 읽는다")
+    void findWithPasswordByUsername_ShouldNotReadPasswordFromRedis() {
+        UserCacheRepository repository = new UserCacheRepository(userRepository, redisRepository,
+            new ObjectMapper(), entityManagerFactory, true, 100, 30000L, 600L, 10L, false, 5000L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        repository.findById(1L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, String>> saved = ArgumentCaptor.forClass(Map.class);
+        verify(redisRepository).saveAllIfNotOlder(saved.capture(), anyString(), anyString(), anyLong());
+        String cachedValue = saved.getValue().get("user:cache:username:exampleUser");
+        assertFalse(cachedValue.contains("encodedPassword"));
+
+        // 다른 노드가 Redis 에서 읽은 사본에는 해시가 없다
+        UserCacheRepository otherNode = new UserCacheRepository(userRepository, redisRepository,
+            new ObjectMapper(), entityManagerFactory, true, 100, 30000L, 600L, 10L, false, 5000L);
+        when(redisRepository.getValue("user:cache:username:exampleUser")).thenReturn(cachedValue);
+        when(userRepository.findByUsername("exampleUser")).thenReturn(Optional.of(user));
+
+        assertNull(otherNode.findByUsername("exampleUser").orElseThrow().getPassword());
+        assertEquals("encodedPassword",
+            otherNode.findWithPasswordByUsername("exampleUser").orElseThrow().getPassword());
+        // 해시를 읽어 둔 로컬 사본은 다시 DB 를 거치지 않는다
+        assertEquals("encodedPassword",
+            otherNode.findWithPasswordByUsername("exampleUser").orElseThrow().getPassword());
+        verify(userRepository).findByUsername("exampleUser");
+        verify(redisRepository).saveAllIfNotOlder(anyMap(), anyString(), anyString(), anyLong());
+    }
+
+    // 캐시 계층 없이 DB 조회 경로만 확인
+    private UserCacheRepository repository(boolean replicaEnabled) {
+        return new UserCacheRepository(userRepository, redisRepository, new ObjectMapper(), entityManagerFactory,
+            false, 100, 30000L, 600L, 10L, replicaEnabled, 5000L);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.task.domain.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.task.domain.model.User;
+import com.example.task.infrastructure.config.HibernateCacheConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * embedded H2 에서 User 의 natural id / 엔티티 2차 캐시 확인
+ * 각 조회는 별도 transaction(새 영속성 컨텍스트)에서 실행해 1차 캐시가 아닌 2차 캐시를 거치게 한다.
+ */
+@DataJpaTest
+@Import(HibernateCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserRepositoryCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("username 조회는 처음 한 번만 DB 를 조회하고 이후에는 2차 캐시에서 반환한다")
+    void findByUsername_ShouldBeServedFromSecondLevelCache() {
+        User saved = transaction.execute(status ->
+            userRepository.save(User.createUser("exampleUser", "encodedPassword", "exampleNick")));
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        User first = transaction.execute(status -> userRepository.findByUsername("exampleUser").orElseThrow());
+        long statementsAfterFirstLoad = statistics.getPrepareStatementCount();
+        User second = transaction.execute(status -> userRepository.findByUsername("exampleUser").orElseThrow());
+        User byId = transaction.execute(status -> userRepository.findById(saved.getUserId()).orElseThrow());
+
+        assertEquals(saved.getUserId(), first.getUserId());
+        assertEquals("exampleNick", second.getNickname());
+        assertEquals("exampleUser", byId.getUsername());
+        assertTrue(statementsAfterFirstLoad > 0);
+        assertEquals(statementsAfterFirstLoad, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getNaturalIdCacheHitCount() > 0);
+        assertTrue(statistics.getDomainDataRegionStatistics(User.CACHE_REGION).getHitCount() >= 2);
+    }
+
+    @Test
+    @DisplayName("변경된 유저는 2차 캐시에서도 새 값으로 조회된다")
+    void findByUsername_ShouldReflectUpdate() {
+        Long userId = transaction.execute(status ->
+            userRepository.save(User.createUser("exampleUser", "encodedPassword", "exampleNick")).getUserId());
+        transaction.execute(status -> userRepository.findByUsername("exampleUser").orElseThrow());
+
+        transaction.executeWithoutResult(status ->
+            userRepository.findById(userId).orElseThrow().changeAuthority("ROLE_ADMIN"));
+
+        User updated = transaction.execute(status -> userRepository.findByUsername("exampleUser").orElseThrow());
+        assertEquals("ROLE_ADMIN", updated.getAuthority());
+        assertEquals(1L, updated.getSecurityEpoch());
+    }
+
+    @Test
+    @DisplayName("없는 username 은 빈 결과를 반환한다")
+    void findByUsername_ShouldReturnEmpty_WhenMissing() {
+        assertTrue(transaction.execute(status -> userRepository.findByUsername("missingUser")).isEmpty());
+    }
+}
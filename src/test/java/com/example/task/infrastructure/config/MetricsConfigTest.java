@@ -0,0 +1,113 @@
+package com.example.task.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.task.application.exception.ServiceOverloadedException;
+import com.example.task.application.security.VerifiedTokenCache;
+import com.example.task.application.service.PasswordHashingExecutor;
+import com.example.task.application.service.PasswordRehashService;
+import com.example.task.application.utils.PhaseTimer;
+import com.example.task.domain.repository.RedisClientSideCache;
+import com.example.task.domain.repository.UserCacheRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Date;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class MetricsConfigTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("BCrypt 실행기의 대기열, 시작/거부 수, 대기 시간을 Micrometer 로 노출한다")
+    void bindPasswordHashing_ShouldExposeExecutorCounters() {
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(new BCryptPasswordEncoder(4),
+            PhaseTimer.disabled(), 1, 1, -1, 1);
+        try {
+            MetricsConfig.bindPasswordHashing(registry, executor);
+
+            // 대기 시간 상한이 음수라 시작하자마자 거부된다
+            assertThrows(ServiceOverloadedException.class, () -> executor.encode("password"));
+
+            assertEquals(1.0, registry.get("password.hashing.started").functionCounter().count());
+            assertEquals(1.0, registry.get("password.hashing.rejected").functionCounter().count());
+            assertEquals(1.0, registry.get("password.hashing.queue.wait").functionTimer().count());
+            assertEquals(0.0, registry.get("password.hashing.queue.depth").gauge().value());
+            assertNotNull(registry.find("password.hashing.active").gauge());
+            assertNotNull(registry.find("password.hashing.queue.wait.max").gauge());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("비밀번호 재해시 완료/연기 수를 result tag 로 노출한다")
+    void bindPasswordRehash_ShouldTagByResult() {
+        PasswordRehashService service = mock(PasswordRehashService.class);
+        when(service.getUpgradedCount()).thenReturn(4L);
+        when(service.getDeferredCount()).thenReturn(1L);
+
+        MetricsConfig.bindPasswordRehash(registry, service);
+
+        assertEquals(4.0, registry.get("password.rehash").tag("result", "upgraded").functionCounter().count());
+        assertEquals(1.0, registry.get("password.rehash").tag("result", "deferred").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("유저 캐시의 hit/miss 를 계층별 tag 로 노출한다")
+    void bindUserCache_ShouldTagCountersByTier() {
+        UserCacheRepository cache = mock(UserCacheRepository.class);
+        when(cache.getLocalHitCount()).thenReturn(8L);
+        when(cache.getLocalMissCount()).thenReturn(2L);
+        when(cache.getRedisHitCount()).thenReturn(1L);
+        when(cache.getRedisMissCount()).thenReturn(1L);
+        when(cache.getDatabaseLoadCount()).thenReturn(1L);
+
+        MetricsConfig.bindUserCache(registry, cache);
+
+        assertEquals(8.0, gets("local", "hit"));
+        assertEquals(2.0, gets("local", "miss"));
+        assertEquals(1.0, gets("redis", "hit"));
+        assertEquals(1.0, gets("redis", "miss"));
+        assertEquals(1.0, registry.get("user.cache.db.loads").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Redis client side cache 의 hit/miss 와 무효화 수를 노출한다")
+    void bindRedisClientSideCache_ShouldExposeCounters() {
+        RedisClientSideCache cache = mock(RedisClientSideCache.class);
+        when(cache.getHitCount()).thenReturn(5L);
+        when(cache.getMissCount()).thenReturn(3L);
+        when(cache.getInvalidationCount()).thenReturn(2L);
+        when(cache.getFlushCount()).thenReturn(1L);
+
+        MetricsConfig.bindRedisClientSideCache(registry, cache);
+
+        assertEquals(5.0, registry.get("redis.client.cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(3.0, registry.get("redis.client.cache.gets").tag("result", "miss").functionCounter().count());
+        assertEquals(2.0, registry.get("redis.client.cache.invalidations").functionCounter().count());
+        assertEquals(1.0, registry.get("redis.client.cache.flushes").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("검증된 토큰 캐시의 hit/miss 를 노출한다")
+    void bindVerifiedTokenCache_ShouldExposeHitsAndMisses() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 10, 60000L, 10, 60000L);
+        MetricsConfig.bindVerifiedTokenCache(registry, cache);
+
+        cache.put("token", null, 1L, "jti", new Date(System.currentTimeMillis() + 60000L));
+        cache.get("token");
+        cache.get("other");
+
+        assertEquals(1.0, registry.get("jwt.token.cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("jwt.token.cache.gets").tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("jwt.token.cache.size").gauge().value());
+    }
+
+    private double gets(String tier, String result) {
+        return registry.get("user.cache.gets").tag("tier", tier).tag("result", result).functionCounter().count();
+    }
+}
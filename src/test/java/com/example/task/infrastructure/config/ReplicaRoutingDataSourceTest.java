@@ -0,0 +1,137 @@
+package com.example.task.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * embedded H2 두 개를 primary/replica 로 두고 라우팅 확인
+ * 각 DB 의 node 테이블에 자기 이름을 넣어 두고 어느 쪽에서 읽었는지 구분한다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final long MAX_LAG = 1000L;
+
+    private final Map<DataSource, Long> lags = new ConcurrentHashMap<>();
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        lags.put(replica, 0L);
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica), this::lagOf, MAX_LAG, 60000L);
+        routingDataSource.start();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        routingDataSource.shutdown();
+        new JdbcTemplate(primary).execute("drop all objects");
+        new JdbcTemplate(replica).execute("drop all objects");
+    }
+
+    @Test
+    @DisplayName("read-only transaction 은 replica, 그 외는 primary 에서 실행된다")
+    void route_ShouldSendReadOnlyTransactionsToReplica() {
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+        assertEquals("primary", readWrite.execute(status -> currentNode()));
+        assertEquals("primary", currentNode());  // transaction 밖
+    }
+
+    @Test
+    @DisplayName("지연이 최대치를 넘거나 측정에 실패한 replica 대신 primary 에서 읽고, 회복되면 다시 replica 를 사용한다")
+    void route_ShouldFallBackToPrimary_WhenReplicaLags() {
+        lags.put(replica, MAX_LAG + 1);
+        routingDataSource.checkReplicas();
+        assertEquals(0, routingDataSource.availableReplicaCount());
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+
+        lags.remove(replica);  // 측정 실패
+        routingDataSource.checkReplicas();
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+
+        lags.put(replica, MAX_LAG);
+        routingDataSource.checkReplicas();
+        assertEquals(1, routingDataSource.availableReplicaCount());
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+    }
+
+    @Test
+    @DisplayName("replica 는 transaction 단위로 돌아가며 사용하고 한 transaction 안에서는 바뀌지 않는다")
+    void route_ShouldKeepOneConnectionPerTransaction() {
+        DataSource secondReplica = database("replica2");
+        lags.put(secondReplica, 0L);
+        ReplicaRoutingDataSource twoReplicas = new ReplicaRoutingDataSource(primary, List.of(replica, secondReplica),
+            this::lagOf, MAX_LAG, 60000L);
+        twoReplicas.start();
+        try {
+            DataSource dataSource = new LazyConnectionDataSourceProxy(twoReplicas);
+            JdbcTemplate template = new JdbcTemplate(dataSource);
+            TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            transaction.setReadOnly(true);
+
+            Set<String> used = new HashSet<>();
+            for (int i = 0; i < 4; i++) {
+                List<String> nodes = transaction.execute(status -> List.of(
+                    template.queryForObject("select name from node", String.class),
+                    template.queryForObject("select name from node", String.class)));
+                assertEquals(nodes.get(0), nodes.get(1));
+                used.add(nodes.get(0));
+            }
+            assertEquals(Set.of("replica", "replica2"), used);  // transaction 단위로 돌아가며 사용
+        } finally {
+            twoReplicas.shutdown();
+            new JdbcTemplate(secondReplica).execute("drop all objects");
+        }
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private long lagOf(DataSource dataSource) throws SQLException {
+        Long lag = lags.get(dataSource);
+        if (lag == null) {
+            throw new SQLException("connection refused");
+        }
+        return lag;
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table node (name varchar(16))");
+        template.update("insert into node values (?)", name);
+        return dataSource;
+    }
+}
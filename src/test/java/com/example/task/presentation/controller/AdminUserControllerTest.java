@@ -0,0 +1,62 @@
+package com.example.task.presentation.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.task.application.dto.UserImportResponseDto;
+import com.example.task.application.service.UserImportService;
+import com.example.task.application.service.UserImportService.ImportFormat;
+import java.io.InputStream;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class AdminUserControllerTest {
+
+    private UserImportService userImportService;
+    private AdminUserController controller;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        userImportService = mock(UserImportService.class);
+        when(userImportService.importUsers(any(InputStream.class), any(ImportFormat.class)))
+            .thenReturn(new UserImportResponseDto(1, 1, 0, List.of()));
+        controller = new AdminUserController(userImportService);
+    }
+
+    @Test
+    @DisplayName("text/csv 본문은 charset 이 붙어 있어도 CSV 로 처리한다")
+    void importUsers_ShouldUseCsv_ForCsvContentType() throws Exception {
+        MockHttpServletRequest request = request("text/csv; charset=UTF-8");
+
+        ResponseEntity<UserImportResponseDto> response = controller.importUsers(request);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(1, response.getBody().getImportedCount());
+        verify(userImportService).importUsers(eq(request.getInputStream()), eq(ImportFormat.CSV));
+    }
+
+    @Test
+    @DisplayName("application/x-ndjson 본문은 NDJSON 으로 처리한다")
+    void importUsers_ShouldUseNdjson_ForNdjsonContentType() throws Exception {
+        MockHttpServletRequest request = request("application/x-ndjson");
+
+        controller.importUsers(request);
+
+        verify(userImportService).importUsers(eq(request.getInputStream()), eq(ImportFormat.NDJSON));
+    }
+
+    private static MockHttpServletRequest request(String contentType) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/admin/users/import");
+        request.setContentType(contentType);
+        request.setContent("username,password,nickname\n".getBytes());
+        return request;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.task.support;
+
+import com.example.task.application.utils.PhaseTimer;
+import com.example.task.domain.repository.RedisClientSideCache;
+import com.example.task.domain.repository.RedisRepository;
+import java.io.IOException;
+import java.net.ServerSocket;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+/**
+ * 빈 포트에 띄운 embedded Redis 와 그 연결
+ * <p>
+ * 테스트는 {@link EmbeddedRedisExtension} 으로, 테스트 밖의 벤치마크와 부하 테스트는 직접 start/close 로 사용한다.
+ * 연결은 처음 요청할 때 만들므로 서버만 필요하면 port 만 사용하면 된다.
+ */
+public class EmbeddedRedis implements AutoCloseable {
+
+    private final int port;
+    private final RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+
+    private EmbeddedRedis(int port, RedisServer redisServer) {
+        this.port = port;
+        this.redisServer = redisServer;
+    }
+
+    public static EmbeddedRedis start() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        RedisServer redisServer = new RedisServer(port);
+        redisServer.start();
+        return new EmbeddedRedis(port, redisServer);
+    }
+
+    public int port() {
+        return port;
+    }
+
+    public synchronized LettuceConnectionFactory connectionFactory() {
+        if (connectionFactory == null) {
+            connectionFactory = new LettuceConnectionFactory("localhost", port);
+            connectionFactory.afterPropertiesSet();
+        }
+        return connectionFactory;
+    }
+
+    public StringRedisTemplate redisTemplate() {
+        return new StringRedisTemplate(connectionFactory());
+    }
+
+    /**
+     * client side caching 을 끈 RedisRepository
+     */
+    public RedisRepository redisRepository() {
+        return new RedisRepository(redisTemplate(), new RedisClientSideCache(false, "localhost", port, 1, 1),
+            PhaseTimer.disabled());
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        redisServer.stop();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.task.support;
+
+import com.example.task.domain.repository.RedisRepository;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 테스트 클래스마다 embedded Redis 를 띄우고 끝나면 종료하는 extension
+ * <p>
+ * static 필드에 {@code @RegisterExtension} 으로 등록하면 테스트 클래스의 {@code @BeforeAll} 보다 먼저 시작된다.
+ */
+public class EmbeddedRedisExtension implements BeforeAllCallback, AfterAllCallback {
+
+    private EmbeddedRedis redis;
+
+    @Override
+    public void beforeAll(ExtensionContext context) throws Exception {
+        redis = EmbeddedRedis.start();
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) throws Exception {
+        redis.close();
+    }
+
+    public int port() {
+        return redis.port();
+    }
+
+    public StringRedisTemplate redisTemplate() {
+        return redis.redisTemplate();
+    }
+
+    public RedisRepository redisRepository() {
+        return redis.redisRepository();
+    }
+}